@@ -0,0 +1,62 @@
+#!/usr/bin/env bash
+# Time to first successful request for a build made with `mvn package -Pstartup`.
+#
+#   scripts/startup-time.sh [jar|aot|cds] [runs]
+#
+#   jar  extracted jar, prod profile
+#   aot  + Spring AOT initializers
+#   cds  + AOT + the class-data-sharing archive from the training run
+#
+# Needs PostgreSQL and Redis reachable with the usual settings (docker compose up -d).
+# Prints one line per run and the median in milliseconds.
+set -euo pipefail
+
+MODE="${1:-cds}"
+RUNS="${2:-5}"
+PORT="${PORT:-8080}"
+URL="${URL:-http://localhost:${PORT}/api/restaurants}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-120}"
+DIR="$(cd "$(dirname "$0")/.." && pwd)/target/startup"
+JAR="$(ls "$DIR"/*.jar | head -n 1)"
+
+JVM_ARGS=(-Dspring.profiles.active=prod -Dorder.number.node-id=0 -Dserver.port="$PORT")
+case "$MODE" in
+  jar) ;;
+  aot) JVM_ARGS+=(-Dspring.aot.enabled=true) ;;
+  cds) JVM_ARGS+=(-Dspring.aot.enabled=true -XX:SharedArchiveFile="$DIR/application.jsa" -Xshare:auto) ;;
+  *) echo "unknown mode: $MODE" >&2; exit 2 ;;
+esac
+
+now_ms() { date +%s%3N; }
+
+results=()
+for run in $(seq 1 "$RUNS"); do
+  start=$(now_ms)
+  (cd "$DIR" && exec java "${JVM_ARGS[@]}" -jar "$JAR") >"$DIR/startup-$MODE-$run.log" 2>&1 &
+  pid=$!
+
+  elapsed=""
+  while kill -0 "$pid" 2>/dev/null; do
+    if curl -fsS -o /dev/null "$URL"; then
+      elapsed=$(( $(now_ms) - start ))
+      break
+    fi
+    if (( $(now_ms) - start > TIMEOUT_SECONDS * 1000 )); then
+      break
+    fi
+    sleep 0.05
+  done
+
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+
+  if [[ -z "$elapsed" ]]; then
+    echo "run $run: no successful request, see $DIR/startup-$MODE-$run.log" >&2
+    exit 1
+  fi
+  echo "run $run: ${elapsed} ms"
+  results+=("$elapsed")
+done
+
+median=$(printf '%s\n' "${results[@]}" | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }')
+echo "$MODE median: ${median} ms"
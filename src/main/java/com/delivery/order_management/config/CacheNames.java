@@ -0,0 +1,19 @@
+package com.delivery.order_management.config;
+
+/**
+ * Names of the Redis caches holding response DTOs, keyed by id, and of the
+ * Hibernate second-level cache regions configured in ehcache.xml
+ */
+public final class CacheNames {
+
+    public static final String RESTAURANTS = "restaurants";
+    public static final String MENU_ITEMS = "menuItems";
+    // Menu of a restaurant keyed by restaurant id; short TTL since stock changes do not evict it
+    public static final String RESTAURANT_MENUS = "restaurantMenus";
+
+    // Hibernate query cache region for the catalog finders
+    public static final String CATALOG_QUERIES = "catalog-queries";
+
+    private CacheNames() {
+    }
+}
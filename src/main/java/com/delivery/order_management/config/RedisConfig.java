@@ -1,19 +1,27 @@
 package com.delivery.order_management.config;
 
 import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.delivery.order_management.service.cache.GuardedCacheManager;
+import com.delivery.order_management.service.resilience.DependencyGuard;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
 @Configuration
 @EnableCaching
 public class RedisConfig {
@@ -28,28 +36,55 @@ public class RedisConfig {
                 template.setHashKeySerializer(new StringRedisSerializer());
 
                 // Use JSON serializer for values
-                template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
-                template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+                template.setValueSerializer(jsonSerializer());
+                template.setHashValueSerializer(jsonSerializer());
 
                 template.afterPropertiesSet();
                 return template;
         }
 
         @Bean
-        public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+        public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                        DependencyGuard redisGuard,
+                        @Value("${order.cache.ttl:1h}") Duration ttl,
+                        @Value("${order.cache.menu-ttl:60s}") Duration menuTtl,
+                        @Value("${order.cache.ttl-jitter:0.1}") double ttlJitter) {
                 RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                                .entryTtl(Duration.ofHours(1))
+                                .entryTtl(jitteredTtl(ttl, ttlJitter))
                                 .serializeKeysWith(
                                                 RedisSerializationContext.SerializationPair
                                                                 .fromSerializer(new StringRedisSerializer()))
                                 .serializeValuesWith(
                                                 RedisSerializationContext.SerializationPair.fromSerializer(
-                                                                new GenericJackson2JsonRedisSerializer()))
+                                                                jsonSerializer()))
                                 .disableCachingNullValues();
 
-                return RedisCacheManager.builder(connectionFactory)
+                RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                                 .cacheDefaults(config)
-                                .transactionAware()
+                                .withCacheConfiguration(CacheNames.RESTAURANT_MENUS,
+                                                config.entryTtl(jitteredTtl(menuTtl, ttlJitter)))
                                 .build();
+                redisCacheManager.afterPropertiesSet();
+
+                // Fails open to the database when Redis is slow or down; also makes the caches transaction-aware
+                return new GuardedCacheManager(redisCacheManager, redisGuard);
+        }
+
+        /**
+         * TTL stretched by a random fraction so entries written together do not expire together
+         */
+        private static RedisCacheWriter.TtlFunction jitteredTtl(Duration ttl, double jitter) {
+                return (key, value) -> ttl.plusMillis(
+                                (long) (ttl.toMillis() * jitter * ThreadLocalRandom.current().nextDouble()));
+        }
+
+        /**
+         * JSON serializer that also understands java.time values used by the DTOs
+         */
+        private GenericJackson2JsonRedisSerializer jsonSerializer() {
+                return new GenericJackson2JsonRedisSerializer()
+                                .configure(mapper -> mapper
+                                                .registerModule(new JavaTimeModule())
+                                                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
         }
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.delivery.order_management.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.delivery.order_management.service.resilience.DependencyGuard;
+import com.delivery.order_management.service.resilience.GuardSettings;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class ResilienceConfig {
+
+    /**
+     * Every Redis call (cache, idempotency keys, rate limit buckets, tracking relay) goes through this guard
+     */
+    @Bean(destroyMethod = "shutdown")
+    public DependencyGuard redisGuard(MeterRegistry meterRegistry,
+            @Value("${order.resilience.redis.window-size:20}") int windowSize,
+            @Value("${order.resilience.redis.failure-threshold:0.5}") double failureThreshold,
+            @Value("${order.resilience.redis.open-duration:5s}") Duration openDuration,
+            @Value("${order.resilience.redis.half-open-calls:3}") int halfOpenCalls,
+            @Value("${order.resilience.redis.max-concurrent-calls:64}") int maxConcurrentCalls,
+            @Value("${order.resilience.redis.initial-timeout:50ms}") Duration initialTimeout,
+            @Value("${order.resilience.redis.min-timeout:10ms}") Duration minTimeout,
+            @Value("${order.resilience.redis.max-timeout:250ms}") Duration maxTimeout) {
+        return new DependencyGuard("redis", new GuardSettings(windowSize, failureThreshold, openDuration,
+                halfOpenCalls, maxConcurrentCalls, initialTimeout, minTimeout, maxTimeout), meterRegistry);
+    }
+}
@@ -0,0 +1,80 @@
+package com.delivery.order_management.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.delivery.order_management.model.dto.LockContentionResponse;
+import com.delivery.order_management.model.dto.MenuItemAnalyticsResponse;
+import com.delivery.order_management.model.dto.OrderAnalyticsResponse;
+import com.delivery.order_management.model.dto.PopularItemResponse;
+import com.delivery.order_management.service.OrderAnalyticsService;
+import com.delivery.order_management.service.PopularItemsService;
+import com.delivery.order_management.service.analytics.PopularityWindow;
+import com.delivery.order_management.service.concurrency.OptimisticLockRetry;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "Order analytics APIs backed by in-memory rollups")
+public class AnalyticsController {
+
+    private final OrderAnalyticsService orderAnalyticsService;
+    private final PopularItemsService popularItemsService;
+    private final OptimisticLockRetry optimisticLockRetry;
+
+    @GetMapping("/orders")
+    @Operation(summary = "Get order counts and revenue per hour", description = "Defaults to the last 24 hours across all restaurants")
+    public ResponseEntity<OrderAnalyticsResponse> getOrderAnalytics(
+            @RequestParam(required = false) Long restaurantId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusHours(24);
+
+        return ResponseEntity.ok(orderAnalyticsService.getOrderAnalytics(restaurantId, start, end));
+    }
+
+    @GetMapping("/menu-items/{menuItemId}")
+    @Operation(summary = "Get quantity ordered and revenue for a menu item", description = "Defaults to the last 24 hours")
+    public ResponseEntity<MenuItemAnalyticsResponse> getMenuItemAnalytics(
+            @PathVariable Long menuItemId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusHours(24);
+
+        return ResponseEntity.ok(orderAnalyticsService.getMenuItemAnalytics(menuItemId, start, end));
+    }
+
+    @GetMapping("/popular-items")
+    @Operation(summary = "Get approximate top menu items", description = "Across all restaurants unless restaurantId is given")
+    public ResponseEntity<List<PopularItemResponse>> getPopularItems(
+            @RequestParam(required = false) Long restaurantId,
+            @RequestParam(required = false, defaultValue = "LAST_HOUR") PopularityWindow window,
+            @RequestParam(required = false, defaultValue = "20") int limit) {
+
+        return ResponseEntity.ok(popularItemsService.getPopularItems(restaurantId, window, limit));
+    }
+
+    @GetMapping("/lock-contention")
+    @Operation(summary = "Get the rows with the most optimistic lock conflicts", description = "Approximate counts since startup, per entity")
+    public ResponseEntity<List<LockContentionResponse>> getLockContention(
+            @RequestParam(required = false, defaultValue = "20") int limit) {
+
+        return ResponseEntity.ok(optimisticLockRetry.getHotIds(limit));
+    }
+}
@@ -0,0 +1,34 @@
+package com.delivery.order_management.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.delivery.order_management.model.dto.KitchenBoardResponse;
+import com.delivery.order_management.model.entity.OrderStatus;
+import com.delivery.order_management.service.KitchenBoardService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/kitchen")
+@RequiredArgsConstructor
+@Tag(name = "Kitchen", description = "Kitchen display board served from memory")
+public class KitchenController {
+
+    private final KitchenBoardService kitchenBoardService;
+
+    @GetMapping("/restaurants/{restaurantId}/board")
+    @Operation(summary = "Get active orders of a restaurant, oldest first", description = "Optionally filtered by status")
+    public ResponseEntity<KitchenBoardResponse> getBoard(
+            @PathVariable Long restaurantId,
+            @RequestParam(required = false) OrderStatus status) {
+
+        return ResponseEntity.ok(kitchenBoardService.getBoard(restaurantId, status));
+    }
+}
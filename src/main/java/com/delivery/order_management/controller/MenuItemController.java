@@ -1,10 +1,13 @@
 package com.delivery.order_management.controller;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,14 +15,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.delivery.order_management.model.dto.BatchLookupResponse;
 import com.delivery.order_management.model.dto.CreateMenuItemRequest;
+import com.delivery.order_management.model.dto.MenuItemFileFormat;
+import com.delivery.order_management.model.dto.MenuItemImportResult;
 import com.delivery.order_management.model.dto.MenuItemResponse;
 import com.delivery.order_management.model.entity.MenuItem;
+import com.delivery.order_management.model.money.Money;
+import com.delivery.order_management.service.CatalogLookupService;
+import com.delivery.order_management.service.MenuItemBulkService;
 import com.delivery.order_management.service.MenuItemService;
+import com.delivery.order_management.service.RestaurantService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -33,23 +45,33 @@ import lombok.RequiredArgsConstructor;
 public class MenuItemController {
 
     private final MenuItemService menuItemService;
+    private final MenuItemBulkService menuItemBulkService;
+    private final RestaurantService restaurantService;
+    private final CatalogLookupService catalogLookupService;
 
     @GetMapping
     @Operation(summary = "Get all menu items")
     public ResponseEntity<List<MenuItemResponse>> getAllMenuItems() {
         List<MenuItem> menuItems = menuItemService.getAllMenuItems();
         List<MenuItemResponse> response = menuItems.stream()
-                .map(this::toResponse)
+                .map(MenuItemResponse::from)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get many menu items by ID", description = "Keyed by ID; unknown IDs map to null and are listed in notFound")
+    public ResponseEntity<BatchLookupResponse<MenuItemResponse>> getMenuItemsByIds(
+            @RequestParam List<Long> ids) {
+
+        return ResponseEntity.ok(catalogLookupService.lookupMenuItems(ids));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get menu item by ID")
     public ResponseEntity<MenuItemResponse> getMenuItemById(@PathVariable Long id) {
-        MenuItem menuItem = menuItemService.getMenuItemById(id);
-        return ResponseEntity.ok(toResponse(menuItem));
+        return ResponseEntity.ok(catalogLookupService.getMenuItem(id));
     }
 
     @GetMapping("/restaurant/{restaurantId}")
@@ -58,14 +80,7 @@ public class MenuItemController {
             @PathVariable Long restaurantId,
             @RequestParam(required = false, defaultValue = "false") boolean availableOnly) {
 
-        List<MenuItem> menuItems = availableOnly ? menuItemService.getAvailableMenuItems(restaurantId)
-                : menuItemService.getMenuItemsByRestaurant(restaurantId);
-
-        List<MenuItemResponse> response = menuItems.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(catalogLookupService.getMenu(restaurantId, availableOnly));
     }
 
     @GetMapping("/category/{category}")
@@ -75,7 +90,7 @@ public class MenuItemController {
 
         List<MenuItem> menuItems = menuItemService.getMenuItemsByCategory(category);
         List<MenuItemResponse> response = menuItems.stream()
-                .map(this::toResponse)
+                .map(MenuItemResponse::from)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(response);
@@ -89,7 +104,7 @@ public class MenuItemController {
 
         List<MenuItem> menuItems = menuItemService.getMenuItemsByPriceRange(minPrice, maxPrice);
         List<MenuItemResponse> response = menuItems.stream()
-                .map(this::toResponse)
+                .map(MenuItemResponse::from)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(response);
@@ -104,7 +119,37 @@ public class MenuItemController {
         MenuItem menuItem = toEntity(request);
         MenuItem created = menuItemService.createMenuItem(restaurantId, menuItem);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(created));
+        return ResponseEntity.status(HttpStatus.CREATED).body(MenuItemResponse.from(created));
+    }
+
+    @PostMapping(value = "/restaurant/{restaurantId}/import", consumes = { "text/csv", "application/x-ndjson" })
+    @Operation(summary = "Bulk import menu items for restaurant", description = "Streams CSV or NDJSON; rows with an id update that item, others are inserted")
+    public ResponseEntity<MenuItemImportResult> importMenuItems(
+            @PathVariable Long restaurantId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+
+        MenuItemImportResult result = menuItemBulkService.importMenuItems(
+                restaurantId, MenuItemFileFormat.fromContentType(contentType), body);
+
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/restaurant/{restaurantId}/export")
+    @Operation(summary = "Bulk export menu items for restaurant as CSV or NDJSON")
+    public ResponseEntity<StreamingResponseBody> exportMenuItems(
+            @PathVariable Long restaurantId,
+            @RequestParam(required = false, defaultValue = "CSV") MenuItemFileFormat format) {
+
+        // Validate before the response is committed so a missing restaurant is still a 404
+        restaurantService.getRestaurantById(restaurantId);
+
+        StreamingResponseBody body = output -> menuItemBulkService.exportMenuItems(restaurantId, format, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"menu-items-" + restaurantId + "." + format.name().toLowerCase() + "\"")
+                .body(body);
     }
 
     @PutMapping("/{id}")
@@ -116,7 +161,7 @@ public class MenuItemController {
         MenuItem menuItem = toEntity(request);
         MenuItem updated = menuItemService.updateMenuItem(id, menuItem);
 
-        return ResponseEntity.ok(toResponse(updated));
+        return ResponseEntity.ok(MenuItemResponse.from(updated));
     }
 
     @DeleteMapping("/{id}")
@@ -141,26 +186,11 @@ public class MenuItemController {
         return MenuItem.builder()
                 .name(request.getName())
                 .description(request.getDescription())
-                .price(request.getPrice())
+                .price(Money.of(request.getPrice()))
                 .category(request.getCategory())
                 .stockQuantity(request.getStockQuantity())
                 .isAvailable(request.getIsAvailable())
-                .build();
-    }
-
-    private MenuItemResponse toResponse(MenuItem menuItem) {
-        return MenuItemResponse.builder()
-                .id(menuItem.getId())
-                .restaurantId(menuItem.getRestaurant().getId())
-                .restaurantName(menuItem.getRestaurant().getName())
-                .name(menuItem.getName())
-                .description(menuItem.getDescription())
-                .price(menuItem.getPrice())
-                .category(menuItem.getCategory())
-                .isAvailable(menuItem.getIsAvailable())
-                .stockQuantity(menuItem.getStockQuantity())
-                .createdAt(menuItem.getCreatedAt())
-                .updatedAt(menuItem.getUpdatedAt())
+                .version(request.getVersion())
                 .build();
     }
 }
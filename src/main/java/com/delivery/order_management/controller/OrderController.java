@@ -0,0 +1,142 @@
+package com.delivery.order_management.controller;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.delivery.order_management.model.dto.BatchLookupResponse;
+import com.delivery.order_management.model.dto.CreateOrderRequest;
+import com.delivery.order_management.model.dto.OrderLookupRequest;
+import com.delivery.order_management.model.dto.OrderResponse;
+import com.delivery.order_management.model.dto.UpdateOrderStatusRequest;
+import com.delivery.order_management.model.entity.Order;
+import com.delivery.order_management.model.entity.OrderStatus;
+import com.delivery.order_management.service.IdempotencyService;
+import com.delivery.order_management.service.OrderArchiveService;
+import com.delivery.order_management.service.OrderIntakeService;
+import com.delivery.order_management.service.OrderService;
+import com.delivery.order_management.service.RateLimitService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/orders")
+@RequiredArgsConstructor
+@Tag(name = "Order", description = "Order management APIs")
+public class OrderController {
+
+    private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
+    private final OrderIntakeService orderIntakeService;
+    private final OrderArchiveService orderArchiveService;
+    private final RateLimitService rateLimitService;
+
+    @GetMapping
+    @Operation(summary = "Get all orders with pagination")
+    public ResponseEntity<Page<OrderResponse>> getAllOrders(Pageable pageable) {
+        Page<OrderResponse> response = orderService.getAllOrders(pageable).map(OrderResponse::from);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get order by ID")
+    public ResponseEntity<OrderResponse> getOrderById(@PathVariable Long id) {
+        Order order = orderService.getOrderById(id);
+        return ResponseEntity.ok(OrderResponse.from(order));
+    }
+
+    @GetMapping("/number/{orderNumber}")
+    @Operation(summary = "Get order by order number")
+    public ResponseEntity<OrderResponse> getOrderByOrderNumber(@PathVariable String orderNumber) {
+        // Old delivered and cancelled orders are only found in the archive
+        OrderResponse response = orderService.findOrderByOrderNumber(orderNumber)
+                .map(OrderResponse::from)
+                .orElseGet(() -> orderArchiveService.getArchivedOrder(orderNumber));
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/lookup")
+    @Operation(summary = "Get many orders by ID", description = "Keyed by ID; unknown IDs map to null and are listed in notFound")
+    public ResponseEntity<BatchLookupResponse<OrderResponse>> lookupOrders(
+            @Valid @RequestBody OrderLookupRequest request) {
+
+        LinkedHashSet<Long> ids = new LinkedHashSet<>(request.getIds());
+        Map<Long, OrderResponse> found = orderService.getOrdersByIds(ids).stream()
+                .map(OrderResponse::from)
+                .collect(Collectors.toMap(OrderResponse::getId, Function.identity()));
+
+        return ResponseEntity.ok(BatchLookupResponse.of(ids, found));
+    }
+
+    @GetMapping("/status/{status}")
+    @Operation(summary = "Get orders by status")
+    public ResponseEntity<List<OrderResponse>> getOrdersByStatus(@PathVariable OrderStatus status) {
+        List<OrderResponse> response = orderService.getOrdersByStatus(status).stream()
+                .map(OrderResponse::from)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/customer/{customerPhone}")
+    @Operation(summary = "Get orders by customer phone", description = "Live orders first, then archived orders newest first")
+    public ResponseEntity<List<OrderResponse>> getOrdersByCustomerPhone(@PathVariable String customerPhone) {
+        List<OrderResponse> response = orderService.getOrdersByCustomerPhone(customerPhone).stream()
+                .map(OrderResponse::from)
+                .collect(Collectors.toList());
+        // Delivered and cancelled orders past the archive age only live in the archive
+        response.addAll(orderArchiveService.getArchivedOrdersByCustomerPhone(customerPhone));
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping
+    @Operation(summary = "Create new order", description = "Retries with the same Idempotency-Key return the original order")
+    public ResponseEntity<OrderResponse> createOrder(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody CreateOrderRequest request) {
+
+        // Limited inside the idempotent action, so replaying a stored response costs no tokens
+        OrderResponse response = idempotencyService.execute(idempotencyKey, request, recordInTransaction -> {
+            rateLimitService.checkOrder(request.getRestaurantId(), request.getCustomerPhone());
+            return OrderResponse.from(orderIntakeService.submit(request, recordInTransaction));
+        });
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PutMapping("/{id}/status")
+    @Operation(summary = "Update order status")
+    public ResponseEntity<OrderResponse> updateOrderStatus(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateOrderStatusRequest request) {
+
+        Order updated = orderService.updateOrderStatus(id, request.getStatus());
+        return ResponseEntity.ok(OrderResponse.from(updated));
+    }
+
+    @PostMapping("/{id}/cancel")
+    @Operation(summary = "Cancel order")
+    public ResponseEntity<OrderResponse> cancelOrder(@PathVariable Long id) {
+        Order cancelled = orderService.cancelOrder(id);
+        return ResponseEntity.ok(OrderResponse.from(cancelled));
+    }
+}
@@ -0,0 +1,61 @@
+package com.delivery.order_management.controller;
+
+import java.time.LocalDateTime;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.delivery.order_management.model.dto.OrderExportResponse;
+import com.delivery.order_management.service.OrderExportService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/exports/orders")
+@RequiredArgsConstructor
+@Tag(name = "Order Export", description = "Columnar order history exports for offline analytics")
+public class OrderExportController {
+
+    private static final MediaType ARROW_FILE = MediaType.parseMediaType("application/vnd.apache.arrow.file");
+
+    private final OrderExportService orderExportService;
+
+    @PostMapping
+    @Operation(summary = "Start an export of orders and order lines", description = "Orders created in [from, to), including archived orders; poll the returned job for progress")
+    public ResponseEntity<OrderExportResponse> startExport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(OrderExportResponse.from(orderExportService.startExport(from, to)));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get export status and progress")
+    public ResponseEntity<OrderExportResponse> getExport(@PathVariable String id) {
+        return ResponseEntity.ok(OrderExportResponse.from(orderExportService.getExport(id)));
+    }
+
+    @GetMapping("/{id}/files/{fileName}")
+    @Operation(summary = "Download a file of a completed export as an Arrow IPC file")
+    public ResponseEntity<Resource> downloadFile(@PathVariable String id, @PathVariable String fileName) {
+        Resource file = new FileSystemResource(orderExportService.getExportFile(id, fileName));
+        return ResponseEntity.ok()
+                .contentType(ARROW_FILE)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(file);
+    }
+}
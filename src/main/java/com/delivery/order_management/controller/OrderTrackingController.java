@@ -0,0 +1,35 @@
+package com.delivery.order_management.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.delivery.order_management.service.OrderTrackingService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/tracking")
+@RequiredArgsConstructor
+@Tag(name = "Order Tracking", description = "Server-sent events for order status changes")
+public class OrderTrackingController {
+
+    private final OrderTrackingService orderTrackingService;
+
+    @GetMapping(value = "/orders/{orderNumber}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream status changes of an order")
+    public SseEmitter trackOrder(@PathVariable String orderNumber) {
+        return orderTrackingService.subscribeToOrder(orderNumber);
+    }
+
+    @GetMapping(value = "/restaurants/{restaurantId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream the active order board of a restaurant")
+    public SseEmitter trackRestaurant(@PathVariable Long restaurantId) {
+        return orderTrackingService.subscribeToRestaurant(restaurantId);
+    }
+}
@@ -15,9 +15,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.delivery.order_management.model.dto.BatchLookupResponse;
 import com.delivery.order_management.model.dto.CreateRestaurantRequest;
+import com.delivery.order_management.model.dto.NearbyRestaurantResponse;
 import com.delivery.order_management.model.dto.RestaurantResponse;
 import com.delivery.order_management.model.entity.Restaurant;
+import com.delivery.order_management.service.CatalogLookupService;
+import com.delivery.order_management.service.NearbyRestaurantService;
 import com.delivery.order_management.service.RestaurantService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -32,6 +36,8 @@ import lombok.RequiredArgsConstructor;
 public class RestaurantController {
 
     private final RestaurantService restaurantService;
+    private final CatalogLookupService catalogLookupService;
+    private final NearbyRestaurantService nearbyRestaurantService;
 
     @GetMapping
     @Operation(summary = "Get all restaurants")
@@ -42,17 +48,24 @@ public class RestaurantController {
                 : restaurantService.getAllRestaurants();
 
         List<RestaurantResponse> response = restaurants.stream()
-                .map(this::toResponse)
+                .map(RestaurantResponse::from)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get many restaurants by ID", description = "Keyed by ID; unknown IDs map to null and are listed in notFound")
+    public ResponseEntity<BatchLookupResponse<RestaurantResponse>> getRestaurantsByIds(
+            @RequestParam List<Long> ids) {
+
+        return ResponseEntity.ok(catalogLookupService.lookupRestaurants(ids));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get restaurant by ID")
     public ResponseEntity<RestaurantResponse> getRestaurantById(@PathVariable Long id) {
-        Restaurant restaurant = restaurantService.getRestaurantById(id);
-        return ResponseEntity.ok(toResponse(restaurant));
+        return ResponseEntity.ok(catalogLookupService.getRestaurant(id));
     }
 
     @GetMapping("/search")
@@ -62,12 +75,25 @@ public class RestaurantController {
 
         List<Restaurant> restaurants = restaurantService.searchRestaurants(keyword);
         List<RestaurantResponse> response = restaurants.stream()
-                .map(this::toResponse)
+                .map(RestaurantResponse::from)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/nearby")
+    @Operation(summary = "Find nearby restaurants", description = "Nearest first within radiusKm; by default only restaurants open now with an available menu item")
+    public ResponseEntity<List<NearbyRestaurantResponse>> findNearbyRestaurants(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false, defaultValue = "5") double radiusKm,
+            @RequestParam(required = false, defaultValue = "20") int limit,
+            @RequestParam(required = false, defaultValue = "true") boolean openNow,
+            @RequestParam(required = false, defaultValue = "true") boolean availableOnly) {
+
+        return ResponseEntity.ok(nearbyRestaurantService.findNearby(lat, lng, radiusKm, limit, openNow, availableOnly));
+    }
+
     @PostMapping
     @Operation(summary = "Create new restaurant")
     public ResponseEntity<RestaurantResponse> createRestaurant(
@@ -76,7 +102,7 @@ public class RestaurantController {
         Restaurant restaurant = toEntity(request);
         Restaurant created = restaurantService.createRestaurant(restaurant);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(created));
+        return ResponseEntity.status(HttpStatus.CREATED).body(RestaurantResponse.from(created));
     }
 
     @PutMapping("/{id}")
@@ -88,7 +114,7 @@ public class RestaurantController {
         Restaurant restaurant = toEntity(request);
         Restaurant updated = restaurantService.updateRestaurant(id, restaurant);
 
-        return ResponseEntity.ok(toResponse(updated));
+        return ResponseEntity.ok(RestaurantResponse.from(updated));
     }
 
     @DeleteMapping("/{id}")
@@ -114,22 +140,10 @@ public class RestaurantController {
                 .phone(request.getPhone())
                 .openingTime(request.getOpeningTime())
                 .closingTime(request.getClosingTime())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
                 .isActive(request.getIsActive())
-                .build();
-    }
-
-    private RestaurantResponse toResponse(Restaurant restaurant) {
-        return RestaurantResponse.builder()
-                .id(restaurant.getId())
-                .name(restaurant.getName())
-                .description(restaurant.getDescription())
-                .address(restaurant.getAddress())
-                .phone(restaurant.getPhone())
-                .isActive(restaurant.getIsActive())
-                .openingTime(restaurant.getOpeningTime())
-                .closingTime(restaurant.getClosingTime())
-                .createdAt(restaurant.getCreatedAt())
-                .updatedAt(restaurant.getUpdatedAt())
+                .version(request.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,7 @@
+package com.delivery.order_management.event;
+
+/**
+ * Published by OrderService after a new order has been persisted
+ */
+public record OrderCreatedEvent(OrderSnapshot order) {
+}
@@ -0,0 +1,24 @@
+package com.delivery.order_management.event;
+
+import com.delivery.order_management.model.entity.OrderItem;
+import com.delivery.order_management.model.money.Money;
+
+/**
+ * Immutable copy of an order line, safe to hand to other threads
+ */
+public record OrderLineSnapshot(
+        Long menuItemId,
+        String menuItemName,
+        int quantity,
+        Money subtotal,
+        String notes) {
+
+    public static OrderLineSnapshot from(OrderItem item) {
+        return new OrderLineSnapshot(
+                item.getMenuItem().getId(),
+                item.getMenuItem().getName(),
+                item.getQuantity(),
+                item.getSubtotal(),
+                item.getNotes());
+    }
+}
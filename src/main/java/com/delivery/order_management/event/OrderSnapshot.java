@@ -0,0 +1,42 @@
+package com.delivery.order_management.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.delivery.order_management.model.entity.Order;
+import com.delivery.order_management.model.entity.OrderStatus;
+import com.delivery.order_management.model.money.Money;
+
+/**
+ * Immutable copy of an order taken inside the transaction that changed it
+ */
+public record OrderSnapshot(
+        Long id,
+        String orderNumber,
+        Long restaurantId,
+        String customerName,
+        Double deliveryLatitude,
+        Double deliveryLongitude,
+        OrderStatus status,
+        Money totalAmount,
+        String notes,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        List<OrderLineSnapshot> lines) {
+
+    public static OrderSnapshot from(Order order) {
+        return new OrderSnapshot(
+                order.getId(),
+                order.getOrderNumber(),
+                order.getRestaurant().getId(),
+                order.getCustomerName(),
+                order.getDeliveryLatitude(),
+                order.getDeliveryLongitude(),
+                order.getStatus(),
+                order.getTotalAmount(),
+                order.getNotes(),
+                order.getCreatedAt(),
+                order.getUpdatedAt(),
+                order.getOrderItems().stream().map(OrderLineSnapshot::from).toList());
+    }
+}
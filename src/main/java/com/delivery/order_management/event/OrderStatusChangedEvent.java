@@ -0,0 +1,9 @@
+package com.delivery.order_management.event;
+
+import com.delivery.order_management.model.entity.OrderStatus;
+
+/**
+ * Published by OrderService when an order moves to a different status
+ */
+public record OrderStatusChangedEvent(OrderSnapshot order, OrderStatus previousStatus) {
+}
@@ -0,0 +1,10 @@
+package com.delivery.order_management.event;
+
+import com.delivery.order_management.model.entity.OrderStatus;
+
+/**
+ * An order change committed on another node, with the order read from the
+ * database; previousStatus is null for a newly created order
+ */
+public record RemoteOrderChangedEvent(OrderSnapshot order, OrderStatus previousStatus) {
+}
@@ -0,0 +1,9 @@
+package com.delivery.order_management.event;
+
+import com.delivery.order_management.model.dto.OrderTrackingEvent;
+
+/**
+ * Published by the Redis tracking relay for an order change committed on another node
+ */
+public record RemoteOrderTrackingEvent(OrderTrackingEvent event) {
+}
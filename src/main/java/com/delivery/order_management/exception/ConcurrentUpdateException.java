@@ -0,0 +1,7 @@
+package com.delivery.order_management.exception;
+
+public class ConcurrentUpdateException extends RuntimeException {
+    public ConcurrentUpdateException(String message) {
+        super(message);
+    }
+}
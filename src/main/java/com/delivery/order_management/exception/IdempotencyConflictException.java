@@ -0,0 +1,7 @@
+package com.delivery.order_management.exception;
+
+public class IdempotencyConflictException extends RuntimeException {
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
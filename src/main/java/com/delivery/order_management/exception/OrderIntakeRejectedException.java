@@ -0,0 +1,7 @@
+package com.delivery.order_management.exception;
+
+public class OrderIntakeRejectedException extends RuntimeException {
+    public OrderIntakeRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,35 @@
+package com.delivery.order_management.model.dto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchLookupResponse<T> {
+    // Every requested id in request order; null when not found
+    private Map<Long, T> items;
+    private List<Long> notFound;
+
+    public static <T> BatchLookupResponse<T> of(Collection<Long> ids, Map<Long, T> found) {
+        Map<Long, T> items = new LinkedHashMap<>();
+        List<Long> notFound = new ArrayList<>();
+        for (Long id : ids) {
+            T item = found.get(id);
+            items.put(id, item);
+            if (item == null) {
+                notFound.add(id);
+            }
+        }
+        return new BatchLookupResponse<>(items, notFound);
+    }
+}
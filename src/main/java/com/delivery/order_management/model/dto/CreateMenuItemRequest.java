@@ -3,6 +3,7 @@ package com.delivery.order_management.model.dto;
 import java.math.BigDecimal;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -24,6 +25,7 @@ public class CreateMenuItemRequest {
 
     @NotNull(message = "Price is required")
     @DecimalMin(value = "0.01", message = "Price must be greater than 0")
+    @Digits(integer = 8, fraction = 2, message = "Price must have at most 8 integer and 2 fraction digits")
     private BigDecimal price;
 
     private String category;
@@ -33,4 +35,7 @@ public class CreateMenuItemRequest {
     private Integer stockQuantity;
 
     private Boolean isAvailable = true;
+
+    // Version the client last read; updates fail with 409 when it is stale. Ignored on create.
+    private Long version;
 }
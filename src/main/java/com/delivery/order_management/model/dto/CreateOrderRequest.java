@@ -3,6 +3,8 @@ package com.delivery.order_management.model.dto;
 import java.util.List;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
@@ -29,6 +31,14 @@ public class CreateOrderRequest {
     @NotBlank(message = "Delivery address is required")
     private String deliveryAddress;
 
+    @DecimalMin(value = "-90", message = "Delivery latitude must be between -90 and 90")
+    @DecimalMax(value = "90", message = "Delivery latitude must be between -90 and 90")
+    private Double deliveryLatitude;
+
+    @DecimalMin(value = "-180", message = "Delivery longitude must be between -180 and 180")
+    @DecimalMax(value = "180", message = "Delivery longitude must be between -180 and 180")
+    private Double deliveryLongitude;
+
     @NotEmpty(message = "Order items cannot be empty")
     @Valid
     private List<OrderItemRequest> items;
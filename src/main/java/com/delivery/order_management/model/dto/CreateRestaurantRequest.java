@@ -2,6 +2,8 @@ package com.delivery.order_management.model.dto;
 
 import java.time.LocalTime;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -33,4 +35,15 @@ public class CreateRestaurantRequest {
     private LocalTime closingTime;
 
     private Boolean isActive = true;
+
+    @DecimalMin(value = "-90", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
+    // Version the client last read; updates fail with 409 when it is stale. Ignored on create.
+    private Long version;
 }
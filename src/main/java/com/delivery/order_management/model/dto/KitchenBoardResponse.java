@@ -0,0 +1,19 @@
+package com.delivery.order_management.model.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KitchenBoardResponse {
+    private Long restaurantId;
+    private LocalDateTime updatedAt;
+    private List<KitchenTicketResponse> tickets;
+}
@@ -0,0 +1,17 @@
+package com.delivery.order_management.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KitchenTicketItemResponse {
+    private Long menuItemId;
+    private String menuItemName;
+    private Integer quantity;
+    private String notes;
+}
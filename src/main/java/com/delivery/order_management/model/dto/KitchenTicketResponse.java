@@ -0,0 +1,25 @@
+package com.delivery.order_management.model.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.delivery.order_management.model.entity.OrderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class KitchenTicketResponse {
+    private Long orderId;
+    private String orderNumber;
+    private String customerName;
+    private OrderStatus status;
+    private String notes;
+    private LocalDateTime createdAt;
+    private List<KitchenTicketItemResponse> items;
+}
@@ -0,0 +1,17 @@
+package com.delivery.order_management.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LockContentionResponse {
+    private String entity;
+    private Long id;
+    private Long conflicts;
+    private Long maxError;
+}
@@ -0,0 +1,21 @@
+package com.delivery.order_management.model.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuItemAnalyticsResponse {
+    private Long menuItemId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Long quantityOrdered;
+    private BigDecimal revenue;
+}
@@ -0,0 +1,28 @@
+package com.delivery.order_management.model.dto;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Payload formats supported by bulk menu import and export
+ */
+public enum MenuItemFileFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    MenuItemFileFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    public static MenuItemFileFormat fromContentType(String contentType) {
+        if (contentType != null && MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(NDJSON.mediaType))) {
+            return NDJSON;
+        }
+        return CSV;
+    }
+}
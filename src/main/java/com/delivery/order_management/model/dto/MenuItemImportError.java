@@ -0,0 +1,15 @@
+package com.delivery.order_management.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuItemImportError {
+    private Long line;
+    private String message;
+}
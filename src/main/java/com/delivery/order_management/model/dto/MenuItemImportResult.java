@@ -0,0 +1,23 @@
+package com.delivery.order_management.model.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuItemImportResult {
+    private Long restaurantId;
+    private Long totalRows;
+    private Long inserted;
+    private Long updated;
+    private Long failed;
+    private Long elapsedMillis;
+    private Boolean errorsTruncated;
+    private List<MenuItemImportError> errors;
+}
@@ -3,6 +3,8 @@ package com.delivery.order_management.model.dto;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import com.delivery.order_management.model.entity.MenuItem;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,6 +24,24 @@ public class MenuItemResponse {
     private String category;
     private Boolean isAvailable;
     private Integer stockQuantity;
+    private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    public static MenuItemResponse from(MenuItem menuItem) {
+        return MenuItemResponse.builder()
+                .id(menuItem.getId())
+                .restaurantId(menuItem.getRestaurant().getId())
+                .restaurantName(menuItem.getRestaurant().getName())
+                .name(menuItem.getName())
+                .description(menuItem.getDescription())
+                .price(menuItem.getPrice().toBigDecimal())
+                .category(menuItem.getCategory())
+                .isAvailable(menuItem.getIsAvailable())
+                .stockQuantity(menuItem.getStockQuantity())
+                .version(menuItem.getVersion())
+                .createdAt(menuItem.getCreatedAt())
+                .updatedAt(menuItem.getUpdatedAt())
+                .build();
+    }
 }
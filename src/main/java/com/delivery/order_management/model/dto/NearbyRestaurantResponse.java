@@ -0,0 +1,16 @@
+package com.delivery.order_management.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyRestaurantResponse {
+    private RestaurantResponse restaurant;
+    // Great-circle distance from the query point
+    private double distanceKm;
+}
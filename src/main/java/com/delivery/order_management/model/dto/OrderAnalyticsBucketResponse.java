@@ -0,0 +1,23 @@
+package com.delivery.order_management.model.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.delivery.order_management.model.entity.OrderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderAnalyticsBucketResponse {
+    private LocalDateTime bucketStart;
+    private Long orderCount;
+    private BigDecimal revenue;
+    private Map<OrderStatus, Long> countsByStatus;
+}
@@ -0,0 +1,27 @@
+package com.delivery.order_management.model.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import com.delivery.order_management.model.entity.OrderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderAnalyticsResponse {
+    private Long restaurantId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Long orderCount;
+    private BigDecimal revenue;
+    private Map<OrderStatus, Long> countsByStatus;
+    private List<OrderAnalyticsBucketResponse> buckets;
+}
@@ -0,0 +1,55 @@
+package com.delivery.order_management.model.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.delivery.order_management.service.export.ExportStatus;
+import com.delivery.order_management.service.export.OrderExportJob;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderExportResponse {
+    private String id;
+    private ExportStatus status;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Long totalOrders;
+    private Long ordersWritten;
+    private Long linesWritten;
+    private Double progressPercent;
+    private List<String> files;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static OrderExportResponse from(OrderExportJob job) {
+        long written = job.getOrdersWritten().get();
+        long total = job.getTotalOrders();
+        Double progress = job.getStatus() == ExportStatus.COMPLETED ? Double.valueOf(100.0)
+                : total > 0 ? Double.valueOf(Math.min(100.0, written * 100.0 / total)) : null;
+
+        return OrderExportResponse.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .from(job.getFrom())
+                .to(job.getTo())
+                .totalOrders(total >= 0 ? total : null)
+                .ordersWritten(written)
+                .linesWritten(job.getLinesWritten().get())
+                .progressPercent(progress)
+                .files(job.getFiles())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
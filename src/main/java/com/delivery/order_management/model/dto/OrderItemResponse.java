@@ -2,6 +2,8 @@ package com.delivery.order_management.model.dto;
 
 import java.math.BigDecimal;
 
+import com.delivery.order_management.model.entity.OrderItem;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,4 +21,16 @@ public class OrderItemResponse {
     private BigDecimal priceAtOrder;
     private BigDecimal subtotal;
     private String notes;
+
+    public static OrderItemResponse from(OrderItem item) {
+        return OrderItemResponse.builder()
+                .id(item.getId())
+                .menuItemId(item.getMenuItem().getId())
+                .menuItemName(item.getMenuItem().getName())
+                .quantity(item.getQuantity())
+                .priceAtOrder(item.getPriceAtOrder().toBigDecimal())
+                .subtotal(item.getSubtotal().toBigDecimal())
+                .notes(item.getNotes())
+                .build();
+    }
 }
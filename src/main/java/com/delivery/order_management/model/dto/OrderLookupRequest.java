@@ -0,0 +1,22 @@
+package com.delivery.order_management.model.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLookupRequest {
+
+    @NotEmpty(message = "Order ids are required")
+    @Size(max = 100, message = "At most 100 orders can be looked up at once")
+    private List<@NotNull Long> ids;
+}
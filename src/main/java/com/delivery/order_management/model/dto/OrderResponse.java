@@ -3,7 +3,9 @@ package com.delivery.order_management.model.dto;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import com.delivery.order_management.model.entity.Order;
 import com.delivery.order_management.model.entity.OrderStatus;
 
 import lombok.AllArgsConstructor;
@@ -23,10 +25,34 @@ public class OrderResponse {
     private String customerName;
     private String customerPhone;
     private String deliveryAddress;
+    private Double deliveryLatitude;
+    private Double deliveryLongitude;
     private BigDecimal totalAmount;
     private OrderStatus status;
     private String notes;
     private List<OrderItemResponse> items;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    public static OrderResponse from(Order order) {
+        return OrderResponse.builder()
+                .id(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .restaurantId(order.getRestaurant().getId())
+                .restaurantName(order.getRestaurant().getName())
+                .customerName(order.getCustomerName())
+                .customerPhone(order.getCustomerPhone())
+                .deliveryAddress(order.getDeliveryAddress())
+                .deliveryLatitude(order.getDeliveryLatitude())
+                .deliveryLongitude(order.getDeliveryLongitude())
+                .totalAmount(order.getTotalAmount().toBigDecimal())
+                .status(order.getStatus())
+                .notes(order.getNotes())
+                .items(order.getOrderItems().stream()
+                        .map(OrderItemResponse::from)
+                        .collect(Collectors.toList()))
+                .createdAt(order.getCreatedAt())
+                .updatedAt(order.getUpdatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,25 @@
+package com.delivery.order_management.model.dto;
+
+import java.time.LocalDateTime;
+
+import com.delivery.order_management.model.entity.OrderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderTrackingEvent {
+    private Long orderId;
+    private String orderNumber;
+    private Long restaurantId;
+    private OrderStatus status;
+    private OrderStatus previousStatus;
+    private LocalDateTime occurredAt;
+    // updated_at of the order after the change; orders events from different nodes
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,18 @@
+package com.delivery.order_management.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PopularItemResponse {
+    private Long menuItemId;
+    private String menuItemName;
+    private Long restaurantId;
+    private Long quantity;
+    private Long maxError;
+}
@@ -3,6 +3,8 @@ package com.delivery.order_management.model.dto;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
+import com.delivery.order_management.model.entity.Restaurant;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,6 +23,27 @@ public class RestaurantResponse {
     private Boolean isActive;
     private LocalTime openingTime;
     private LocalTime closingTime;
+    private Double latitude;
+    private Double longitude;
+    private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    public static RestaurantResponse from(Restaurant restaurant) {
+        return RestaurantResponse.builder()
+                .id(restaurant.getId())
+                .name(restaurant.getName())
+                .description(restaurant.getDescription())
+                .address(restaurant.getAddress())
+                .phone(restaurant.getPhone())
+                .isActive(restaurant.getIsActive())
+                .openingTime(restaurant.getOpeningTime())
+                .closingTime(restaurant.getClosingTime())
+                .latitude(restaurant.getLatitude())
+                .longitude(restaurant.getLongitude())
+                .version(restaurant.getVersion())
+                .createdAt(restaurant.getCreatedAt())
+                .updatedAt(restaurant.getUpdatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,69 @@
+package com.delivery.order_management.model.entity;
+
+import java.time.LocalDateTime;
+
+import com.delivery.order_management.service.export.ExportStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Shared state of an order export, so any node can report it
+ */
+@Entity
+@Table(name = "order_exports")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderExportRecord {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "range_from", nullable = false)
+    private LocalDateTime rangeFrom;
+
+    @Column(name = "range_to", nullable = false)
+    private LocalDateTime rangeTo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ExportStatus status;
+
+    @Column(name = "total_orders", nullable = false)
+    private long totalOrders;
+
+    @Column(name = "orders_written", nullable = false)
+    private long ordersWritten;
+
+    @Column(name = "lines_written", nullable = false)
+    private long linesWritten;
+
+    @Column(columnDefinition = "TEXT")
+    private String error;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // Refreshed by the node running the export; an unfinished export that stops refreshing was abandoned
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+}
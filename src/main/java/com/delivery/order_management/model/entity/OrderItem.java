@@ -1,6 +1,6 @@
 package com.delivery.order_management.model.entity;
 
-import java.math.BigDecimal;
+import com.delivery.order_management.model.money.Money;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -42,10 +42,10 @@ public class OrderItem {
     private Integer quantity;
 
     @Column(name = "price_at_order", nullable = false, precision = 10, scale = 2)
-    private BigDecimal priceAtOrder;
+    private Money priceAtOrder;
 
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal subtotal;
+    private Money subtotal;
 
     private String notes;
 }
\ No newline at end of file
@@ -1,5 +1,9 @@
 package com.delivery.order_management.model.entity;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum OrderStatus {
     PENDING,
     CONFIRMED,
@@ -7,5 +11,12 @@ public enum OrderStatus {
     READY_FOR_PICKUP,
     OUT_FOR_DELIVERY,
     DELIVERED,
-    CANCELLED
+    CANCELLED;
+
+    public static final Set<OrderStatus> ACTIVE_STATUSES = Collections.unmodifiableSet(EnumSet.of(
+            PENDING, CONFIRMED, PREPARING, READY_FOR_PICKUP, OUT_FOR_DELIVERY));
+
+    public boolean isTerminal() {
+        return this == DELIVERED || this == CANCELLED;
+    }
 }
\ No newline at end of file
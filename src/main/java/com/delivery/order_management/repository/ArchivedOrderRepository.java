@@ -0,0 +1,19 @@
+package com.delivery.order_management.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.delivery.order_management.model.entity.ArchivedOrder;
+
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    // Find by order number
+    Optional<ArchivedOrder> findByOrderNumber(String orderNumber);
+
+    // Find by customer phone, newest first
+    List<ArchivedOrder> findByCustomerPhoneOrderByCreatedAtDesc(String customerPhone);
+}
@@ -0,0 +1,38 @@
+package com.delivery.order_management.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.delivery.order_management.model.entity.IdempotencyRecord;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // Find a record that has not expired yet
+    Optional<IdempotencyRecord> findByIdempotencyKeyAndCreatedAtAfter(String idempotencyKey, LocalDateTime after);
+
+    // Plain INSERT rather than save(), which would merge into an existing row; a taken key fails on the primary key
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_records (idempotency_key, request_hash, response_body, created_at) " +
+            "VALUES (:key, :requestHash, :responseBody, :createdAt)", nativeQuery = true)
+    int insert(@Param("key") String key, @Param("requestHash") String requestHash,
+            @Param("responseBody") String responseBody, @Param("createdAt") LocalDateTime createdAt);
+
+    // Drop the record of a key if it expired, so the key can be used again
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.idempotencyKey = :key AND r.createdAt < :cutoff")
+    int deleteExpired(@Param("key") String key, @Param("cutoff") LocalDateTime cutoff);
+
+    // Drop every expired record (purge job)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :cutoff")
+    int deleteByCreatedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,43 +1,90 @@
 package com.delivery.order_management.repository;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.delivery.order_management.config.CacheNames;
 import com.delivery.order_management.model.entity.MenuItem;
+import com.delivery.order_management.model.money.Money;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface MenuItemRepository extends JpaRepository<MenuItem, Long> {
+public interface MenuItemRepository extends JpaRepository<MenuItem, Long>, MenuItemStockRepository {
 
        // Find by restaurant ID
+       @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                     @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheNames.CATALOG_QUERIES) })
        List<MenuItem> findByRestaurantId(Long restaurantId);
 
        // Find available items by restaurant
+       @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                     @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheNames.CATALOG_QUERIES) })
        List<MenuItem> findByRestaurantIdAndIsAvailableTrue(Long restaurantId);
 
        // Find by category
+       @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                     @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheNames.CATALOG_QUERIES) })
        List<MenuItem> findByCategory(String category);
 
        // Find by price range
-       List<MenuItem> findByPriceBetween(BigDecimal minPrice, BigDecimal maxPrice);
+       List<MenuItem> findByPriceBetween(Money minPrice, Money maxPrice);
 
        // Find by restaurant and category
+       @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                     @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheNames.CATALOG_QUERIES) })
        List<MenuItem> findByRestaurantIdAndCategory(Long restaurantId, String category);
 
-       // Custom query: Update stock quantity
-       @Modifying
-       @Query("UPDATE MenuItem m SET m.stockQuantity = m.stockQuantity - :quantity " +
-                     "WHERE m.id = :menuItemId AND m.stockQuantity >= :quantity")
-       int decreaseStock(@Param("menuItemId") Long menuItemId, @Param("quantity") Integer quantity);
+       // Find by ids with their restaurant in one query, from the database rather than this node's
+       // second-level cache, since the results go to the shared DTO cache (batch lookup)
+       @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+       @Query("SELECT m FROM MenuItem m JOIN FETCH m.restaurant WHERE m.id IN :ids")
+       List<MenuItem> findAllWithRestaurantByIdIn(@Param("ids") Collection<Long> ids);
+
+       // Find by restaurant ID with the restaurant in one query, from the database (cached menu DTO)
+       @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+       @Query("SELECT m FROM MenuItem m JOIN FETCH m.restaurant WHERE m.restaurant.id = :restaurantId ORDER BY m.id")
+       List<MenuItem> findWithRestaurantByRestaurantId(@Param("restaurantId") Long restaurantId);
+
+       // Find by ids from the database, bypassing the second-level cache (order pricing)
+       @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+       @Query("SELECT m FROM MenuItem m WHERE m.id IN :ids")
+       List<MenuItem> findAllUncachedByIdIn(@Param("ids") Collection<Long> ids);
+
+       // Lock menu items by ids in id order so concurrent lockers cannot deadlock (batched intake)
+       @Lock(LockModeType.PESSIMISTIC_WRITE)
+       @Query("SELECT m FROM MenuItem m WHERE m.id IN :ids ORDER BY m.id")
+       List<MenuItem> findAllForUpdateByIdIn(@Param("ids") Collection<Long> ids);
 
        // Check if item is available with sufficient stock
        @Query("SELECT CASE WHEN COUNT(m) > 0 THEN true ELSE false END " +
                      "FROM MenuItem m " +
                      "WHERE m.id = :id AND m.isAvailable = true AND m.stockQuantity >= :quantity")
        boolean isAvailableWithStock(@Param("id") Long id, @Param("quantity") Integer quantity);
+
+       // Restaurants with at least one available item in stock (nearby index)
+       @Query("SELECT DISTINCT m.restaurant.id FROM MenuItem m WHERE m.isAvailable = true AND m.stockQuantity > 0")
+       List<Long> findRestaurantIdsWithAvailableItems();
+
+       // Restaurants with a menu item changed since the given time (nearby index)
+       @Query("SELECT DISTINCT m.restaurant.id FROM MenuItem m WHERE m.updatedAt >= :since")
+       List<Long> findRestaurantIdsWithItemsChangedSince(@Param("since") LocalDateTime since);
+
+       // Of the restaurants whose row or menu items changed since the given time, those with an available item
+       // in stock (nearby index)
+       @Query("SELECT DISTINCT m.restaurant.id FROM MenuItem m WHERE m.isAvailable = true AND m.stockQuantity > 0 " +
+                     "AND (m.restaurant.id IN (SELECT c.restaurant.id FROM MenuItem c WHERE c.updatedAt >= :since) " +
+                     "OR m.restaurant.id IN (SELECT r.id FROM Restaurant r WHERE r.updatedAt >= :since))")
+       List<Long> findChangedRestaurantIdsWithAvailableItems(@Param("since") LocalDateTime since);
 }
\ No newline at end of file
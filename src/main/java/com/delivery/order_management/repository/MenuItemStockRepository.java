@@ -0,0 +1,14 @@
+package com.delivery.order_management.repository;
+
+/**
+ * Conditional stock updates that keep the menu item second-level cache
+ * consistent without clearing the whole MenuItem region.
+ */
+public interface MenuItemStockRepository {
+
+    // Update stock quantity only if enough is left; returns the number of rows updated
+    int decreaseStock(Long menuItemId, Integer quantity);
+
+    // Restore stock in place; bumps the version so concurrent read-modify-write updates conflict
+    int increaseStock(Long menuItemId, Integer quantity);
+}
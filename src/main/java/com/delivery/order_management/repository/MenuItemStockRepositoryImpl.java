@@ -0,0 +1,76 @@
+package com.delivery.order_management.repository;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import com.delivery.order_management.model.entity.MenuItem;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * A JPQL bulk update makes Hibernate evict the entire MenuItem cache region
+ * and invalidate every cached menu_items query, which on the order path would
+ * empty the cache on every order. These updates are native SQL instead: they
+ * soft-lock just the updated item's cache entry until the transaction ends,
+ * as Hibernate does for its own entity updates, and declare a query space no
+ * cached query uses, since no cached query filters on stock.
+ */
+class MenuItemStockRepositoryImpl implements MenuItemStockRepository {
+
+    // updated_at is set like @PreUpdate does, so the nearby index sees stock running out
+    private static final String DECREASE_SQL = "UPDATE menu_items SET stock_quantity = stock_quantity - :quantity, "
+            + "version = version + 1, updated_at = :updatedAt WHERE id = :menuItemId AND stock_quantity >= :quantity";
+
+    private static final String INCREASE_SQL = "UPDATE menu_items SET stock_quantity = stock_quantity + :quantity, "
+            + "version = version + 1, updated_at = :updatedAt WHERE id = :menuItemId";
+
+    private static final String STOCK_QUERY_SPACE = "menu_items.stock_quantity";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int decreaseStock(Long menuItemId, Integer quantity) {
+        return updateStock(DECREASE_SQL, menuItemId, quantity);
+    }
+
+    @Override
+    public int increaseStock(Long menuItemId, Integer quantity) {
+        return updateStock(INCREASE_SQL, menuItemId, quantity);
+    }
+
+    private int updateStock(String sql, Long menuItemId, Integer quantity) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        lockCachedItem(session, menuItemId);
+
+        return session.createNativeQuery(sql)
+                .setParameter("menuItemId", menuItemId)
+                .setParameter("quantity", quantity)
+                .setParameter("updatedAt", LocalDateTime.now())
+                .addSynchronizedQuerySpace(STOCK_QUERY_SPACE)
+                .executeUpdate();
+    }
+
+    /**
+     * Readers skip the locked entry and loads that started before the
+     * transaction ended cannot put the old row back
+     */
+    private void lockCachedItem(SessionImplementor session, Long menuItemId) {
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(MenuItem.class);
+        EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+        if (cacheAccess == null) {
+            return;
+        }
+
+        Object key = cacheAccess.generateCacheKey(menuItemId, persister, session.getFactory(),
+                session.getTenantIdentifier());
+        SoftLock lock = cacheAccess.lockItem(session, key, null);
+        session.getActionQueue().registerProcess(
+                (success, completedSession) -> cacheAccess.unlockItem(completedSession, key, lock));
+    }
+}
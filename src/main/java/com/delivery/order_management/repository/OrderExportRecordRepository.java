@@ -0,0 +1,39 @@
+package com.delivery.order_management.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.delivery.order_management.model.entity.OrderExportRecord;
+import com.delivery.order_management.service.export.ExportStatus;
+
+@Repository
+public interface OrderExportRecordRepository extends JpaRepository<OrderExportRecord, String> {
+
+    // Own transaction, as the export itself runs in a read-only snapshot transaction
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("UPDATE OrderExportRecord r SET r.status = :status, r.totalOrders = :totalOrders, " +
+            "r.ordersWritten = :ordersWritten, r.linesWritten = :linesWritten, r.error = :error, " +
+            "r.startedAt = :startedAt, r.finishedAt = :finishedAt, r.heartbeatAt = :heartbeatAt WHERE r.id = :id")
+    int updateState(@Param("id") String id,
+            @Param("status") ExportStatus status,
+            @Param("totalOrders") long totalOrders,
+            @Param("ordersWritten") long ordersWritten,
+            @Param("linesWritten") long linesWritten,
+            @Param("error") String error,
+            @Param("startedAt") LocalDateTime startedAt,
+            @Param("finishedAt") LocalDateTime finishedAt,
+            @Param("heartbeatAt") LocalDateTime heartbeatAt);
+
+    // Finished before the expiry, or abandoned since then
+    @Query("SELECT r FROM OrderExportRecord r WHERE r.finishedAt < :expiry OR r.heartbeatAt < :expiry")
+    List<OrderExportRecord> findExpired(@Param("expiry") LocalDateTime expiry);
+}
@@ -1,8 +1,11 @@
 package com.delivery.order_management.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -21,4 +24,17 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     // Custom query: Get total quantity ordered for a menu item
     @Query("SELECT SUM(oi.quantity) FROM OrderItem oi WHERE oi.menuItem.id = :menuItemId")
     Integer getTotalQuantityOrdered(@Param("menuItemId") Long menuItemId);
-}
\ No newline at end of file
+
+    // Aggregate quantities and subtotals of non-cancelled orders per restaurant, hour and menu item (analytics rebuild)
+    @Query(value = "SELECT o.restaurant_id, date_trunc('hour', o.created_at) AS bucket, oi.menu_item_id, " +
+            "SUM(oi.quantity), SUM(oi.subtotal) " +
+            "FROM order_items oi JOIN orders o ON o.id = oi.order_id " +
+            "WHERE o.created_at >= :since AND o.status <> 'CANCELLED' " +
+            "GROUP BY o.restaurant_id, bucket, oi.menu_item_id", nativeQuery = true)
+    List<Object[]> aggregateByRestaurantHourAndMenuItem(@Param("since") LocalDateTime since);
+
+    // Delete the lines of the given orders (archival)
+    @Modifying
+    @Query("DELETE FROM OrderItem oi WHERE oi.order.id IN :orderIds")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+}
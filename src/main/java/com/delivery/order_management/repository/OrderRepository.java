@@ -1,18 +1,21 @@
 package com.delivery.order_management.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.delivery.order_management.model.entity.Order;
 import com.delivery.order_management.model.entity.OrderStatus;
+import com.delivery.order_management.model.money.Money;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -39,10 +42,63 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     // Find orders by restaurant and status
     List<Order> findByRestaurantIdAndStatus(Long restaurantId, OrderStatus status);
 
+    // Find orders by restaurant in any of the given statuses
+    List<Order> findByRestaurantIdAndStatusIn(Long restaurantId, Collection<OrderStatus> statuses);
+
+    // Orders in any of the given statuses with their lines and menu items (kitchen board rebuild)
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems i LEFT JOIN FETCH i.menuItem " +
+            "WHERE o.status IN :statuses")
+    List<Order> findWithItemsByStatusIn(@Param("statuses") Collection<OrderStatus> statuses);
+
+    // Orders by ids with restaurant, lines and menu items (batch lookup)
+    @Query("SELECT DISTINCT o FROM Order o JOIN FETCH o.restaurant LEFT JOIN FETCH o.orderItems i " +
+            "LEFT JOIN FETCH i.menuItem WHERE o.id IN :ids")
+    List<Order> findWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Lock a batch of terminal orders last touched before the cutoff; rows locked by another node are skipped (archival)
+    @Query(value = "SELECT o.id FROM orders o WHERE o.status IN (:statuses) AND o.updated_at < :cutoff " +
+            "ORDER BY o.id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockArchivableIds(@Param("statuses") Collection<String> statuses,
+            @Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // Delete orders by ids; their lines must be deleted first (archival)
+    @Modifying
+    @Query("DELETE FROM Order o WHERE o.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Id, restaurant, drop-off and last change of orders in a status (dispatch rebuild)
+    @Query("SELECT o.id, o.restaurant.id, o.deliveryLatitude, o.deliveryLongitude, o.updatedAt FROM Order o " +
+            "WHERE o.status = :status")
+    List<Object[]> findDispatchCandidates(@Param("status") OrderStatus status);
+
+    // Same columns for orders in a status changed since the given time (dispatch polling)
+    @Query("SELECT o.id, o.restaurant.id, o.deliveryLatitude, o.deliveryLongitude, o.updatedAt FROM Order o " +
+            "WHERE o.status = :status AND o.updatedAt >= :since")
+    List<Object[]> findDispatchCandidatesChangedSince(@Param("status") OrderStatus status,
+            @Param("since") LocalDateTime since);
+
+    // Lock those of the given orders still in a status, in id order so concurrent lockers cannot deadlock (dispatch)
+    @Query(value = "SELECT o.id FROM orders o WHERE o.id IN (:ids) AND o.status = :status ORDER BY o.id FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") String status);
+
+    // Move orders to a status in one statement; bypasses the persistence context (dispatch)
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :status, o.updatedAt = :updatedAt WHERE o.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") OrderStatus status,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
     // Count orders by status
     long countByStatus(OrderStatus status);
 
     // Custom query: Find orders with total amount greater than
     @Query("SELECT o FROM Order o WHERE o.totalAmount > :amount ORDER BY o.createdAt DESC")
-    List<Order> findOrdersAboveAmount(@Param("amount") java.math.BigDecimal amount);
+    List<Order> findOrdersAboveAmount(@Param("amount") Money amount);
+
+    // Aggregate counts and totals per restaurant, hour and status (analytics rebuild)
+    @Query(value = "SELECT o.restaurant_id, date_trunc('hour', o.created_at) AS bucket, o.status, " +
+            "COUNT(*), SUM(o.total_amount) " +
+            "FROM orders o WHERE o.created_at >= :since " +
+            "GROUP BY o.restaurant_id, bucket, o.status", nativeQuery = true)
+    List<Object[]> aggregateByRestaurantHourAndStatus(@Param("since") LocalDateTime since);
 }
\ No newline at end of file
@@ -1,29 +1,57 @@
 package com.delivery.order_management.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.delivery.order_management.config.CacheNames;
 import com.delivery.order_management.model.entity.Restaurant;
 
+import jakarta.persistence.QueryHint;
+
 public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
     // Find by name (case-insensitive)
     Optional<Restaurant> findByNameIgnoreCase(String name);
 
-    // Find active restaurants
+    // Find active restaurants (query-cached)
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheNames.CATALOG_QUERIES) })
     List<Restaurant> findByIsActiveTrue();
 
     // Find by name containing (search)
     List<Restaurant> findByNameContainingIgnoreCase(String keyword);
 
-    // Custom query: Find restaurants with available menu items
+    // Custom query: Find restaurants with available menu items (query-cached)
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheNames.CATALOG_QUERIES) })
     @Query("SELECT DISTINCT r FROM Restaurant r " +
             "JOIN r.menuItems m " +
             "WHERE r.isActive = true AND m.isAvailable = true")
     List<Restaurant> findRestaurantsWithAvailableItems();
 
+    // Location, hours and status of every restaurant with coordinates (nearby index)
+    @Query("SELECT r.id, r.latitude, r.longitude, r.openingTime, r.closingTime, r.isActive FROM Restaurant r " +
+            "WHERE r.latitude IS NOT NULL AND r.longitude IS NOT NULL")
+    List<Object[]> findLocations();
+
+    // Location, hours and status of restaurants changed since the given time, with or without coordinates (nearby index)
+    @Query("SELECT r.id, r.latitude, r.longitude, r.openingTime, r.closingTime, r.isActive FROM Restaurant r " +
+            "WHERE r.updatedAt >= :since")
+    List<Object[]> findLocationsChangedSince(@Param("since") LocalDateTime since);
+
+    // Find by ids from the database rather than this node's second-level cache (shared DTO cache loads)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+    @Query("SELECT r FROM Restaurant r WHERE r.id IN :ids")
+    List<Restaurant> findAllUncachedByIdIn(@Param("ids") Collection<Long> ids);
+
     // Check if restaurant exists by name
     boolean existsByNameIgnoreCase(String name);
 }
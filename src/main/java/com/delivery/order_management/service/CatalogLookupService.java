@@ -0,0 +1,155 @@
+package com.delivery.order_management.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.delivery.order_management.config.CacheNames;
+import com.delivery.order_management.exception.ResourceNotFoundException;
+import com.delivery.order_management.model.dto.BatchLookupResponse;
+import com.delivery.order_management.model.dto.MenuItemResponse;
+import com.delivery.order_management.model.dto.RestaurantResponse;
+import com.delivery.order_management.repository.MenuItemRepository;
+import com.delivery.order_management.repository.RestaurantRepository;
+import com.delivery.order_management.service.cache.DtoCache;
+import com.delivery.order_management.service.cache.DtoCaches;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache-first lookups of restaurants, menu items and restaurant menus.
+ *
+ * Batch lookups read all ids from the cache in one round trip and fetch the
+ * misses with a single IN query. Single lookups share one database fetch per
+ * id and refresh hot entries ahead of expiry (see DtoCache). Loaders read the
+ * database, not this node's second-level cache, which may not have seen a
+ * write made on another node yet and would put the old row back into the
+ * shared cache after that node evicted it. Not
+ * transactional on purpose: callers waiting on another caller's fetch must
+ * not hold a pooled connection, and loaders join-fetch what they map.
+ */
+@Service
+@Slf4j
+public class CatalogLookupService {
+
+    static final int MAX_BATCH_SIZE = 100;
+
+    private final RestaurantRepository restaurantRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final DtoCache<RestaurantResponse> restaurantCache;
+    private final DtoCache<MenuItemResponse> menuItemCache;
+    private final DtoCache<List<MenuItemResponse>> menuCache;
+
+    public CatalogLookupService(RestaurantRepository restaurantRepository,
+            MenuItemRepository menuItemRepository,
+            DtoCaches dtoCaches,
+            @Value("${order.cache.ttl:1h}") Duration ttl,
+            @Value("${order.cache.menu-ttl:60s}") Duration menuTtl) {
+        this.restaurantRepository = restaurantRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.restaurantCache = dtoCaches.create(CacheNames.RESTAURANTS, ttl);
+        this.menuItemCache = dtoCaches.create(CacheNames.MENU_ITEMS, ttl);
+        this.menuCache = dtoCaches.create(CacheNames.RESTAURANT_MENUS, menuTtl);
+    }
+
+    /**
+     * Get restaurant by ID from the cache, loading it once on a miss
+     */
+    public RestaurantResponse getRestaurant(Long id) {
+        RestaurantResponse restaurant = restaurantCache.get(id,
+                key -> restaurantRepository.findAllUncachedByIdIn(List.of(key)).stream()
+                        .findFirst()
+                        .map(RestaurantResponse::from)
+                        .orElse(null));
+        if (restaurant == null) {
+            throw new ResourceNotFoundException("Restaurant not found with id: " + id);
+        }
+        return restaurant;
+    }
+
+    /**
+     * Get menu item by ID from the cache, loading it once on a miss
+     */
+    public MenuItemResponse getMenuItem(Long id) {
+        MenuItemResponse menuItem = menuItemCache.get(id,
+                key -> menuItemRepository.findAllWithRestaurantByIdIn(List.of(key)).stream()
+                        .findFirst()
+                        .map(MenuItemResponse::from)
+                        .orElse(null));
+        if (menuItem == null) {
+            throw new ResourceNotFoundException("Menu item not found with id: " + id);
+        }
+        return menuItem;
+    }
+
+    /**
+     * Get the menu of a restaurant, optionally only the available items
+     */
+    public List<MenuItemResponse> getMenu(Long restaurantId, boolean availableOnly) {
+        // Validate restaurant exists
+        getRestaurant(restaurantId);
+
+        List<MenuItemResponse> menu = menuCache.get(restaurantId,
+                // Mutable list: the JSON serializer records the concrete type
+                key -> menuItemRepository.findWithRestaurantByRestaurantId(key).stream()
+                        .map(MenuItemResponse::from)
+                        .collect(Collectors.toCollection(ArrayList::new)));
+        if (!availableOnly) {
+            return menu;
+        }
+        return menu.stream().filter(item -> Boolean.TRUE.equals(item.getIsAvailable())).toList();
+    }
+
+    /**
+     * Look up many restaurants with one cache read and at most one query
+     */
+    public BatchLookupResponse<RestaurantResponse> lookupRestaurants(Collection<Long> ids) {
+        return lookup(ids, restaurantCache, misses -> {
+            Map<Long, RestaurantResponse> loaded = new HashMap<>();
+            restaurantRepository.findAllUncachedByIdIn(misses)
+                    .forEach(restaurant -> loaded.put(restaurant.getId(), RestaurantResponse.from(restaurant)));
+            return loaded;
+        });
+    }
+
+    /**
+     * Look up many menu items with one cache read and at most one query
+     */
+    public BatchLookupResponse<MenuItemResponse> lookupMenuItems(Collection<Long> ids) {
+        return lookup(ids, menuItemCache, misses -> {
+            Map<Long, MenuItemResponse> loaded = new HashMap<>();
+            menuItemRepository.findAllWithRestaurantByIdIn(misses)
+                    .forEach(menuItem -> loaded.put(menuItem.getId(), MenuItemResponse.from(menuItem)));
+            return loaded;
+        });
+    }
+
+    private <T> BatchLookupResponse<T> lookup(Collection<Long> ids, DtoCache<T> cache,
+            Function<Collection<Long>, Map<Long, T>> loader) {
+        LinkedHashSet<Long> unique = new LinkedHashSet<>(ids);
+        if (unique.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " ids can be looked up at once");
+        }
+
+        Map<Long, T> found = cache.getAll(unique);
+        List<Long> misses = unique.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!misses.isEmpty()) {
+            Map<Long, T> loaded = loader.apply(misses);
+            loaded.forEach(cache::put);
+            found.putAll(loaded);
+        }
+        log.debug("Batch lookup of {} ids: {} cache hits, {} loaded", unique.size(),
+                unique.size() - misses.size(), found.size() - (unique.size() - misses.size()));
+
+        return BatchLookupResponse.of(unique, found);
+    }
+}
@@ -0,0 +1,296 @@
+package com.delivery.order_management.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.delivery.order_management.event.OrderSnapshot;
+import com.delivery.order_management.event.OrderStatusChangedEvent;
+import com.delivery.order_management.model.entity.Order;
+import com.delivery.order_management.model.entity.OrderStatus;
+import com.delivery.order_management.repository.OrderRepository;
+import com.delivery.order_management.repository.RestaurantRepository;
+import com.delivery.order_management.service.dispatch.DeliveryBatcher;
+import com.delivery.order_management.service.dispatch.DeliveryBatcher.ReadyOrder;
+import com.delivery.order_management.service.dispatch.DeliveryBatcher.Run;
+import com.delivery.order_management.service.dispatch.DispatchLease;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dispatches orders that are ready for pickup in courier runs.
+ *
+ * One node dispatches at a time: the one holding the DispatchLease, a
+ * PostgreSQL advisory lock that every node tries to take on each tick, on
+ * a connection of its own outside the pool.
+ * A node that takes it loads every order ready for pickup, so the pending
+ * orders survive restarts and handovers. After that each tick queues the
+ * orders that became ready since the last tick on any node, read by
+ * updated_at and looking back change-lag for late commits; local status
+ * change events queue orders sooner. A single dispatcher tick owns the
+ * DeliveryBatcher. Each tick places queued orders into runs until its CPU
+ * budget is spent, leaving the rest for the next tick, then moves every due
+ * run out for delivery with one transaction per max-orders-per-write orders.
+ * A run that fails to write is placed again and retried on the next tick.
+ */
+@Service
+@ConditionalOnProperty(name = "order.dispatch.enabled", havingValue = "true")
+@Slf4j
+public class DispatchService {
+
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final DispatchLease lease;
+    private final DeliveryBatcher.Settings settings;
+
+    private final long tickBudgetNanos;
+    private final int maxOrdersPerWrite;
+    private final Duration changeLag;
+
+    private final Queue<Change> changes = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingOrders = new AtomicInteger();
+    private volatile boolean leading;
+    // Dispatcher thread only
+    private final Map<Long, double[]> pickupLocations = new HashMap<>();
+    private DeliveryBatcher batcher;
+    private LocalDateTime changesSince;
+
+    private final Timer tickTimer;
+    private final DistributionSummary runSizes;
+    private final Counter dispatchedOrders;
+    private final Counter deferredChanges;
+
+    public DispatchService(OrderService orderService,
+            OrderRepository orderRepository,
+            RestaurantRepository restaurantRepository,
+            DataSourceProperties dataSourceProperties,
+            MeterRegistry meterRegistry,
+            @Value("${order.dispatch.max-run-size:3}") int maxRunSize,
+            @Value("${order.dispatch.pickup-radius-km:1}") double pickupRadiusKm,
+            @Value("${order.dispatch.drop-off-radius-km:2}") double dropOffRadiusKm,
+            @Value("${order.dispatch.max-hold:3m}") Duration maxHold,
+            @Value("${order.dispatch.tick-budget:20ms}") Duration tickBudget,
+            @Value("${order.dispatch.max-orders-per-write:500}") int maxOrdersPerWrite,
+            @Value("${order.dispatch.change-lag:2s}") Duration changeLag,
+            @Value("${order.dispatch.lock-key:7301}") long lockKey) {
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.restaurantRepository = restaurantRepository;
+        // Not from the pool: the lock connection stays open for as long as the node runs
+        this.lease = new DispatchLease(dataSourceProperties.initializeDataSourceBuilder()
+                .type(SimpleDriverDataSource.class)
+                .build(), lockKey);
+        this.settings = new DeliveryBatcher.Settings(maxRunSize, pickupRadiusKm, dropOffRadiusKm, maxHold.toMillis());
+        this.tickBudgetNanos = tickBudget.toNanos();
+        this.maxOrdersPerWrite = maxOrdersPerWrite;
+        this.changeLag = changeLag;
+
+        this.tickTimer = Timer.builder("order.dispatch.tick.duration")
+                .description("Time to place queued orders and write due runs")
+                .register(meterRegistry);
+        this.runSizes = DistributionSummary.builder("order.dispatch.run.size")
+                .description("Orders per dispatched courier run")
+                .register(meterRegistry);
+        this.dispatchedOrders = Counter.builder("order.dispatch.orders")
+                .description("Orders moved out for delivery by the dispatcher")
+                .register(meterRegistry);
+        this.deferredChanges = Counter.builder("order.dispatch.deferred")
+                .description("Queued order changes left for the next tick when the tick budget ran out")
+                .register(meterRegistry);
+        Gauge.builder("order.dispatch.pending", pendingOrders, AtomicInteger::get)
+                .description("Orders ready for pickup waiting in an open run")
+                .register(meterRegistry);
+        Gauge.builder("order.dispatch.queue.depth", changes, Queue::size)
+                .description("Order changes waiting for the dispatcher")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        // Other nodes pick the change up by polling
+        if (!leading) {
+            return;
+        }
+        OrderSnapshot order = event.order();
+        if (order.status() == OrderStatus.READY_FOR_PICKUP) {
+            changes.add(new Change(order.id(), order.restaurantId(), order.deliveryLatitude(),
+                    order.deliveryLongitude(), System.currentTimeMillis(), true));
+        } else if (event.previousStatus() == OrderStatus.READY_FOR_PICKUP) {
+            changes.add(new Change(order.id(), order.restaurantId(), null, null, 0, false));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.dispatch.tick-interval:PT1S}")
+    public void tick() {
+        if (!lease.hold()) {
+            if (leading) {
+                stepDown();
+            }
+            return;
+        }
+        tickTimer.record(() -> {
+            if (!leading) {
+                loadReadyOrders();
+                leading = true;
+            } else {
+                pollReadyOrders();
+            }
+
+            long deadline = System.nanoTime() + tickBudgetNanos;
+            Change change;
+            while (System.nanoTime() < deadline && (change = changes.poll()) != null) {
+                try {
+                    apply(change);
+                } catch (RuntimeException ex) {
+                    // Restaurant lookup failed; keep the order for the next tick
+                    log.warn("Placing order {} failed ({}), retrying next tick", change.orderId(), ex.getMessage());
+                    changes.add(change);
+                    break;
+                }
+            }
+            if (!changes.isEmpty()) {
+                deferredChanges.increment(changes.size());
+            }
+
+            List<Run> due = batcher.takeDue(System.currentTimeMillis());
+            for (int from = 0; from < due.size();) {
+                List<Run> chunk = new ArrayList<>();
+                int orders = 0;
+                while (from < due.size() && (chunk.isEmpty() || orders + due.get(from).orders().size() <= maxOrdersPerWrite)) {
+                    orders += due.get(from).orders().size();
+                    chunk.add(due.get(from++));
+                }
+                write(chunk);
+            }
+            pendingOrders.set(batcher.pendingOrders());
+        });
+    }
+
+    private void write(List<Run> runs) {
+        List<Long> orderIds = new ArrayList<>();
+        for (Run run : runs) {
+            run.orders().forEach(order -> orderIds.add(order.orderId()));
+        }
+
+        List<Order> dispatched;
+        try {
+            dispatched = orderService.dispatchOrders(orderIds);
+        } catch (RuntimeException ex) {
+            log.warn("Dispatching {} orders in {} runs failed ({}), retrying next tick",
+                    orderIds.size(), runs.size(), ex.getMessage());
+            runs.forEach(run -> run.orders().forEach(batcher::add));
+            return;
+        }
+
+        Set<Long> moved = new HashSet<>();
+        dispatched.forEach(order -> moved.add(order.getId()));
+        for (Run run : runs) {
+            long size = run.orders().stream().filter(order -> moved.contains(order.orderId())).count();
+            if (size > 0) {
+                runSizes.record(size);
+            }
+        }
+        dispatchedOrders.increment(moved.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        lease.release();
+    }
+
+    private void loadReadyOrders() {
+        pickupLocations.clear();
+        restaurantRepository.findLocations().forEach(row -> pickupLocations.put(((Number) row[0]).longValue(),
+                new double[] { ((Number) row[1]).doubleValue(), ((Number) row[2]).doubleValue() }));
+
+        // Changes queued before this node led are covered by the full load
+        changes.clear();
+        batcher = new DeliveryBatcher(settings);
+        changesSince = LocalDateTime.now().minus(changeLag);
+        int orders = 0;
+        for (Object[] row : orderRepository.findDispatchCandidates(OrderStatus.READY_FOR_PICKUP)) {
+            apply(readyChange(row));
+            orders++;
+        }
+        log.info("Dispatcher loaded {} orders ready for pickup", orders);
+    }
+
+    /**
+     * Queue orders that became ready on any node since the last poll; orders
+     * already placed are left as they are
+     */
+    private void pollReadyOrders() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        for (Object[] row : orderRepository.findDispatchCandidatesChangedSince(OrderStatus.READY_FOR_PICKUP,
+                changesSince)) {
+            changes.add(readyChange(row));
+        }
+        changesSince = startedAt.minus(changeLag);
+    }
+
+    private void stepDown() {
+        log.info("Dispatcher lock lost; dropping {} pending orders", batcher.pendingOrders());
+        leading = false;
+        changes.clear();
+        batcher = null;
+        pendingOrders.set(0);
+    }
+
+    private static Change readyChange(Object[] row) {
+        LocalDateTime readyAt = row[4] instanceof Timestamp timestamp
+                ? timestamp.toLocalDateTime()
+                : (LocalDateTime) row[4];
+        return new Change(((Number) row[0]).longValue(), ((Number) row[1]).longValue(),
+                (Double) row[2], (Double) row[3],
+                readyAt != null ? readyAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0, true);
+    }
+
+    private void apply(Change change) {
+        if (!change.ready()) {
+            batcher.remove(change.orderId());
+            return;
+        }
+        double[] pickup = pickupLocation(change.restaurantId());
+        batcher.add(new ReadyOrder(change.orderId(), change.restaurantId(), pickup[0], pickup[1],
+                change.latitude() != null ? change.latitude() : Double.NaN,
+                change.longitude() != null ? change.longitude() : Double.NaN,
+                change.readyAtMillis()));
+    }
+
+    // Restaurants rarely move; one created after startup is looked up on its first ready order
+    private double[] pickupLocation(long restaurantId) {
+        return pickupLocations.computeIfAbsent(restaurantId, id -> restaurantRepository.findById(id)
+                .filter(restaurant -> restaurant.getLatitude() != null && restaurant.getLongitude() != null)
+                .map(restaurant -> new double[] { restaurant.getLatitude(), restaurant.getLongitude() })
+                .orElse(new double[] { Double.NaN, Double.NaN }));
+    }
+
+    private record Change(long orderId, long restaurantId, Double latitude, Double longitude, long readyAtMillis,
+            boolean ready) {
+    }
+}
@@ -0,0 +1,282 @@
+package com.delivery.order_management.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.delivery.order_management.exception.IdempotencyConflictException;
+import com.delivery.order_management.model.dto.OrderResponse;
+import com.delivery.order_management.model.entity.IdempotencyRecord;
+import com.delivery.order_management.model.entity.Order;
+import com.delivery.order_management.repository.IdempotencyRecordRepository;
+import com.delivery.order_management.service.resilience.DependencyGuard;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deduplicates order submissions carrying the same Idempotency-Key.
+ *
+ * The response is written to the idempotency_records table inside the
+ * transaction that creates the order, so the key and the order commit or roll
+ * back together, and the table's primary key lets only one order claim a key
+ * even when Redis is unavailable. Redis keeps a copy with a TTL for fast
+ * replays; Redis calls go through the Redis dependency guard, so a slow Redis
+ * costs a short timeout at most. Expired records are purged periodically, and
+ * an expired key may be used again.
+ * Duplicates arriving while the first attempt is still running wait on that
+ * attempt on this node, and are rejected with a conflict on other nodes.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    private static final String RESPONSE_KEY_PREFIX = "idempotency:response:";
+    private static final String LOCK_KEY_PREFIX = "idempotency:lock:";
+    // Length of the idempotency_records key column
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final DependencyGuard redisGuard;
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    // Sorted properties and map keys, so equal requests always serialize to the same bytes
+    private final ObjectMapper canonicalMapper;
+    private final Duration ttl;
+    private final Duration lockTtl;
+
+    private final ConcurrentMap<String, Attempt> inFlightAttempts = new ConcurrentHashMap<>();
+
+    public IdempotencyService(RedisTemplate<String, Object> redisTemplate,
+            DependencyGuard redisGuard,
+            IdempotencyRecordRepository idempotencyRecordRepository,
+            ObjectMapper objectMapper,
+            @Value("${order.idempotency.ttl:24h}") Duration ttl,
+            @Value("${order.idempotency.lock-ttl:30s}") Duration lockTtl) {
+        this.redisTemplate = redisTemplate;
+        this.redisGuard = redisGuard;
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.canonicalMapper = objectMapper.copy()
+                .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        this.ttl = ttl;
+        this.lockTtl = lockTtl;
+    }
+
+    /**
+     * Run the action once per key and replay its response for retries
+     */
+    public OrderResponse execute(String key, Object request, IdempotentAction action) {
+        if (key == null || key.isBlank()) {
+            return action.run(order -> {
+            });
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String requestHash = fingerprint(request);
+        Attempt attempt = new Attempt(requestHash, new CompletableFuture<>());
+        Attempt inFlight = inFlightAttempts.putIfAbsent(key, attempt);
+
+        if (inFlight != null) {
+            log.info("Coalescing duplicate request onto in-flight attempt for key: {}", key);
+            verifySameRequest(key, inFlight.requestHash(), requestHash);
+            return await(inFlight.result());
+        }
+
+        try {
+            OrderResponse response = run(key, requestHash, action);
+            attempt.result().complete(response);
+            return response;
+        } catch (RuntimeException ex) {
+            attempt.result().completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlightAttempts.remove(key, attempt);
+        }
+    }
+
+    /**
+     * Delete records older than the TTL; they no longer replay
+     */
+    @Scheduled(fixedDelayString = "${order.idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        int purged = idempotencyRecordRepository.deleteByCreatedAtBefore(LocalDateTime.now().minus(ttl));
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency records", purged);
+        }
+    }
+
+    private OrderResponse run(String key, String requestHash, IdempotentAction action) {
+        Optional<StoredResponse> stored = findStored(key);
+        if (stored.isPresent()) {
+            log.info("Replaying stored response for idempotency key: {}", key);
+            return replay(key, stored.get(), requestHash);
+        }
+
+        if (!acquireLock(key)) {
+            // Another node owns the key; it may have finished in the meantime
+            stored = findStored(key);
+            if (stored.isPresent()) {
+                return replay(key, stored.get(), requestHash);
+            }
+            throw new IdempotencyConflictException("Request with this Idempotency-Key is already in progress: " + key);
+        }
+
+        try {
+            OrderResponse response;
+            try {
+                response = action.run(order -> record(key, requestHash, order));
+            } catch (DataIntegrityViolationException ex) {
+                // Another node recorded the key first, which the Redis lock normally prevents
+                Optional<StoredResponse> recorded = findRecorded(key);
+                if (recorded.isPresent()) {
+                    return replay(key, recorded.get(), requestHash);
+                }
+                throw ex;
+            }
+            cache(key, new StoredResponse(requestHash, response));
+            return response;
+        } finally {
+            releaseLock(key);
+        }
+    }
+
+    private OrderResponse replay(String key, StoredResponse stored, String requestHash) {
+        verifySameRequest(key, stored.getRequestHash(), requestHash);
+        return stored.getResponse();
+    }
+
+    private void verifySameRequest(String key, String expectedHash, String actualHash) {
+        if (!expectedHash.equals(actualHash)) {
+            throw new IdempotencyConflictException("Idempotency-Key was already used for a different request: " + key);
+        }
+    }
+
+    private Optional<StoredResponse> findStored(String key) {
+        // Null when Redis is slow or down; the database has every stored response too
+        Object cached = redisGuard.call(() -> redisTemplate.opsForValue().get(RESPONSE_KEY_PREFIX + key), () -> null);
+        if (cached instanceof StoredResponse storedResponse) {
+            return Optional.of(storedResponse);
+        }
+
+        return findRecorded(key);
+    }
+
+    private Optional<StoredResponse> findRecorded(String key) {
+        return idempotencyRecordRepository
+                .findByIdempotencyKeyAndCreatedAtAfter(key, LocalDateTime.now().minus(ttl))
+                .map(this::fromRecord);
+    }
+
+    /**
+     * Record the key in the order's transaction. A failure rolls the order
+     * back, and a key recorded by another request fails on the primary key
+     */
+    private void record(String key, String requestHash, Order order) {
+        String responseBody;
+        try {
+            responseBody = objectMapper.writeValueAsString(OrderResponse.from(order));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize response for idempotency key: " + key, ex);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // An expired record still holds the key until the purge job gets to it
+        idempotencyRecordRepository.deleteExpired(key, now.minus(ttl));
+        idempotencyRecordRepository.insert(key, requestHash, responseBody, now);
+    }
+
+    private void cache(String key, StoredResponse storedResponse) {
+        redisGuard.run(() -> redisTemplate.opsForValue().set(RESPONSE_KEY_PREFIX + key, storedResponse, ttl),
+                () -> log.warn("Failed to store idempotency key {} in Redis", key));
+    }
+
+    private boolean acquireLock(String key) {
+        // Without Redis, duplicates on other nodes are stopped by the idempotency_records primary key
+        return redisGuard.call(() -> Boolean.TRUE.equals(
+                redisTemplate.opsForValue().setIfAbsent(LOCK_KEY_PREFIX + key, "locked", lockTtl)), () -> {
+                    log.warn("Redis lock unavailable for idempotency key {}", key);
+                    return true;
+                });
+    }
+
+    private void releaseLock(String key) {
+        // Left to expire with lock-ttl if Redis is unavailable
+        redisGuard.run(() -> redisTemplate.delete(LOCK_KEY_PREFIX + key), () -> {
+        });
+    }
+
+    private StoredResponse fromRecord(IdempotencyRecord record) {
+        try {
+            OrderResponse response = objectMapper.readValue(record.getResponseBody(), OrderResponse.class);
+            return new StoredResponse(record.getRequestHash(), response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Corrupt idempotency record: " + record.getIdempotencyKey(), ex);
+        }
+    }
+
+    /**
+     * SHA-256 of the canonical JSON form of the request
+     */
+    private String fingerprint(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonicalMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Failed to fingerprint idempotent request", ex);
+        }
+    }
+
+    private OrderResponse await(CompletableFuture<OrderResponse> result) {
+        try {
+            return result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * The idempotent work; it passes the created order to recordInTransaction
+     * inside the transaction that creates it
+     */
+    @FunctionalInterface
+    public interface IdempotentAction {
+        OrderResponse run(Consumer<Order> recordInTransaction);
+    }
+
+    private record Attempt(String requestHash, CompletableFuture<OrderResponse> result) {
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StoredResponse {
+        private String requestHash;
+        private OrderResponse response;
+    }
+}
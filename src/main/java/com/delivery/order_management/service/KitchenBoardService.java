@@ -0,0 +1,174 @@
+package com.delivery.order_management.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.dao.DataAccessException;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.delivery.order_management.event.OrderCreatedEvent;
+import com.delivery.order_management.event.OrderLineSnapshot;
+import com.delivery.order_management.event.OrderSnapshot;
+import com.delivery.order_management.event.OrderStatusChangedEvent;
+import com.delivery.order_management.event.RemoteOrderTrackingEvent;
+import com.delivery.order_management.model.dto.KitchenBoardResponse;
+import com.delivery.order_management.model.dto.KitchenTicketItemResponse;
+import com.delivery.order_management.model.dto.KitchenTicketResponse;
+import com.delivery.order_management.model.dto.OrderTrackingEvent;
+import com.delivery.order_management.model.entity.Order;
+import com.delivery.order_management.model.entity.OrderStatus;
+import com.delivery.order_management.repository.OrderRepository;
+import com.delivery.order_management.service.kitchen.KitchenBoard;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kitchen display boards: the non-terminal orders of each restaurant with
+ * their lines, held in memory and ordered by age.
+ *
+ * Boards are loaded from the database once at startup and then follow the
+ * order events published after each commit, so serving a board never touches
+ * the database. Events that arrive while the startup load is running are
+ * queued and replayed on top of it. Changes made on other nodes arrive through
+ * the tracking relay; they carry only the status, so an order the board does
+ * not hold yet is read once from the database. Every change is ordered by the
+ * order's updated_at, so late events are dropped rather than applied.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KitchenBoardService {
+
+    private final OrderRepository orderRepository;
+
+    private final Map<Long, KitchenBoard> boards = new ConcurrentHashMap<>();
+    private final Queue<OrderSnapshot> pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile boolean rebuilding = true;
+
+    /**
+     * Load the active orders of every restaurant
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<Order> activeOrders = orderRepository.findWithItemsByStatusIn(OrderStatus.ACTIVE_STATUSES);
+        for (Order order : activeOrders) {
+            apply(OrderSnapshot.from(order));
+        }
+
+        synchronized (pendingDuringRebuild) {
+            rebuilding = false;
+        }
+        OrderSnapshot pending;
+        while ((pending = pendingDuringRebuild.poll()) != null) {
+            apply(pending);
+        }
+        log.info("Kitchen boards rebuilt with {} active orders across {} restaurants",
+                activeOrders.size(), boards.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        accept(event.order());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        accept(event.order());
+    }
+
+    @EventListener
+    public void onRemoteOrderChanged(RemoteOrderTrackingEvent remote) {
+        OrderTrackingEvent event = remote.event();
+        KitchenBoard board = boards.computeIfAbsent(event.getRestaurantId(), id -> new KitchenBoard());
+        if (event.getStatus().isTerminal()) {
+            board.remove(event.getOrderId(), event.getUpdatedAt());
+        } else if (!board.updateStatus(event.getOrderId(), event.getStatus(), event.getUpdatedAt())) {
+            loadOrder(event.getOrderId());
+        }
+    }
+
+    /**
+     * Active tickets of a restaurant, optionally limited to one status
+     */
+    public KitchenBoardResponse getBoard(Long restaurantId, OrderStatus status) {
+        KitchenBoard board = boards.get(restaurantId);
+        if (board == null) {
+            return KitchenBoardResponse.builder()
+                    .restaurantId(restaurantId)
+                    .tickets(List.of())
+                    .build();
+        }
+
+        KitchenBoard.View view = board.view();
+        List<KitchenTicketResponse> tickets = status == null
+                ? view.tickets()
+                : view.tickets().stream().filter(ticket -> ticket.getStatus() == status).toList();
+        return KitchenBoardResponse.builder()
+                .restaurantId(restaurantId)
+                .updatedAt(view.updatedAt())
+                .tickets(tickets)
+                .build();
+    }
+
+    private void accept(OrderSnapshot order) {
+        if (rebuilding) {
+            synchronized (pendingDuringRebuild) {
+                if (rebuilding) {
+                    pendingDuringRebuild.add(order);
+                    return;
+                }
+            }
+        }
+        apply(order);
+    }
+
+    private void loadOrder(Long orderId) {
+        try {
+            // Archived orders are terminal and were never on a board, so a miss needs nothing
+            for (Order order : orderRepository.findWithItemsByIdIn(List.of(orderId))) {
+                accept(OrderSnapshot.from(order));
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Failed to load order {} for the kitchen board: {}", orderId, ex.getMessage());
+        }
+    }
+
+    private void apply(OrderSnapshot order) {
+        KitchenBoard board = boards.computeIfAbsent(order.restaurantId(), id -> new KitchenBoard());
+        if (order.status().isTerminal()) {
+            board.remove(order.id(), order.updatedAt());
+        } else {
+            board.put(toTicket(order), order.updatedAt());
+        }
+    }
+
+    private KitchenTicketResponse toTicket(OrderSnapshot order) {
+        return KitchenTicketResponse.builder()
+                .orderId(order.id())
+                .orderNumber(order.orderNumber())
+                .customerName(order.customerName())
+                .status(order.status())
+                .notes(order.notes())
+                .createdAt(order.createdAt())
+                .items(order.lines().stream().map(this::toTicketItem).toList())
+                .build();
+    }
+
+    private KitchenTicketItemResponse toTicketItem(OrderLineSnapshot line) {
+        return KitchenTicketItemResponse.builder()
+                .menuItemId(line.menuItemId())
+                .menuItemName(line.menuItemName())
+                .quantity(line.quantity())
+                .notes(line.notes())
+                .build();
+    }
+}
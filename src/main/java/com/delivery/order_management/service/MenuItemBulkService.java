@@ -0,0 +1,526 @@
+package com.delivery.order_management.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.delivery.order_management.config.CacheNames;
+import com.delivery.order_management.model.dto.MenuItemFileFormat;
+import com.delivery.order_management.model.dto.MenuItemImportError;
+import com.delivery.order_management.model.dto.MenuItemImportResult;
+import com.delivery.order_management.model.dto.MenuItemImportRow;
+import com.delivery.order_management.model.entity.MenuItem;
+import com.delivery.order_management.model.entity.Restaurant;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk menu import and export.
+ *
+ * Imports read the request body row by row, validate rows in chunks and write
+ * each chunk with JDBC batches in one transaction. A chunk that fails as a
+ * whole is retried row by row so every bad row is reported with its line
+ * number. Exports stream rows from a server-side cursor straight to the
+ * response.
+ */
+@Service
+@Slf4j
+public class MenuItemBulkService {
+
+    static final List<String> COLUMNS = List.of(
+            "id", "name", "description", "price", "category", "stock_quantity", "is_available");
+
+    private static final String INSERT_SQL = "INSERT INTO menu_items "
+            + "(restaurant_id, name, description, price, category, stock_quantity, is_available, version, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE menu_items SET name = ?, description = ?, price = ?, "
+            + "category = ?, stock_quantity = ?, is_available = ?, updated_at = ?, version = version + 1 "
+            + "WHERE id = ? AND restaurant_id = ?";
+
+    private static final String EXPORT_SQL = "SELECT id, name, description, price, category, stock_quantity, "
+            + "is_available FROM menu_items WHERE restaurant_id = ? ORDER BY id";
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final RestaurantService restaurantService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final Cache menuItemCache;
+    private final Cache menuCache;
+    private final SessionFactory sessionFactory;
+    private final int chunkSize;
+    private final int fetchSize;
+
+    public MenuItemBulkService(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            RestaurantService restaurantService,
+            Validator validator,
+            ObjectMapper objectMapper,
+            CacheManager cacheManager,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${order.menu-import.chunk-size:1000}") int chunkSize,
+            @Value("${order.menu-export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.restaurantService = restaurantService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.menuItemCache = cacheManager.getCache(CacheNames.MENU_ITEMS);
+        this.menuCache = cacheManager.getCache(CacheNames.RESTAURANT_MENUS);
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.chunkSize = chunkSize;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Import menu items for a restaurant from a CSV or NDJSON stream
+     */
+    public MenuItemImportResult importMenuItems(Long restaurantId, MenuItemFileFormat format, InputStream input) {
+        log.info("Importing {} menu items for restaurant: {}", format, restaurantId);
+
+        // Validate restaurant exists once for the whole file
+        restaurantService.getRestaurantById(restaurantId);
+
+        ImportProgress progress = new ImportProgress();
+        long started = System.currentTimeMillis();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            RowReader rows = format == MenuItemFileFormat.NDJSON ? new NdjsonRowReader(reader) : new CsvRowReader(reader);
+            List<ParsedRow> chunk = new ArrayList<>(chunkSize);
+            ParsedRow parsed;
+
+            while ((parsed = rows.next()) != null) {
+                progress.totalRows++;
+                String error = parsed.error() != null ? parsed.error() : validate(parsed.row());
+                if (error != null) {
+                    progress.fail(parsed.line(), error);
+                    continue;
+                }
+
+                chunk.add(parsed);
+                if (chunk.size() == chunkSize) {
+                    writeChunk(restaurantId, chunk, progress);
+                    chunk.clear();
+                }
+            }
+            writeChunk(restaurantId, chunk, progress);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read import payload", ex);
+        }
+
+        menuCache.evict(restaurantId);
+
+        long elapsed = System.currentTimeMillis() - started;
+        log.info("Imported menu items for restaurant {}: {} rows, {} inserted, {} updated, {} failed in {} ms",
+                restaurantId, progress.totalRows, progress.inserted, progress.updated, progress.failed, elapsed);
+
+        return MenuItemImportResult.builder()
+                .restaurantId(restaurantId)
+                .totalRows(progress.totalRows)
+                .inserted(progress.inserted)
+                .updated(progress.updated)
+                .failed(progress.failed)
+                .elapsedMillis(elapsed)
+                .errorsTruncated(progress.failed > progress.errors.size())
+                .errors(progress.errors)
+                .build();
+    }
+
+    /**
+     * Stream all menu items of a restaurant as CSV or NDJSON
+     */
+    public void exportMenuItems(Long restaurantId, MenuItemFileFormat format, OutputStream output) {
+        log.info("Exporting {} menu items for restaurant: {}", format, restaurantId);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == MenuItemFileFormat.CSV) {
+            write(writer, String.join(",", COLUMNS) + "\n");
+        }
+
+        // PostgreSQL only uses a cursor for fetch size inside a transaction
+        readOnlyTransactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXPORT_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, restaurantId);
+            return statement;
+        }, (ResultSet rs) -> {
+            MenuItemImportRow row = MenuItemImportRow.builder()
+                    .id(rs.getLong("id"))
+                    .name(rs.getString("name"))
+                    .description(rs.getString("description"))
+                    .price(rs.getBigDecimal("price"))
+                    .category(rs.getString("category"))
+                    .stockQuantity((Integer) rs.getObject("stock_quantity"))
+                    .isAvailable((Boolean) rs.getObject("is_available"))
+                    .build();
+            write(writer, format == MenuItemFileFormat.CSV ? toCsvLine(row) : toJsonLine(row));
+        }));
+
+        try {
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeChunk(Long restaurantId, List<ParsedRow> chunk, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            ChunkOutcome outcome = transactionTemplate.execute(status -> writeRows(restaurantId, chunk));
+            progress.apply(outcome);
+        } catch (DataAccessException ex) {
+            log.warn("Import chunk failed ({}), retrying {} rows individually", ex.getMessage(), chunk.size());
+            for (ParsedRow row : chunk) {
+                try {
+                    ChunkOutcome outcome = transactionTemplate.execute(status -> writeRows(restaurantId, List.of(row)));
+                    progress.apply(outcome);
+                } catch (DataAccessException rowEx) {
+                    progress.fail(row.line(), rootMessage(rowEx));
+                }
+            }
+        }
+
+        // Updates bypass MenuItemService and Hibernate, so drop their cached responses and entities here
+        chunk.stream()
+                .map(row -> row.row().getId())
+                .filter(id -> id != null)
+                .forEach(id -> {
+                    menuItemCache.evict(id);
+                    sessionFactory.getCache().evictEntityData(MenuItem.class, id);
+                });
+        // Inserts change the restaurant's menu and any catalog query result
+        sessionFactory.getCache().evictCollectionData(Restaurant.class.getName() + ".menuItems", restaurantId);
+        sessionFactory.getCache().evictQueryRegion(CacheNames.CATALOG_QUERIES);
+    }
+
+    private ChunkOutcome writeRows(Long restaurantId, List<ParsedRow> rows) {
+        List<ParsedRow> inserts = rows.stream().filter(row -> row.row().getId() == null).toList();
+        List<ParsedRow> updates = rows.stream().filter(row -> row.row().getId() != null).toList();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        ChunkOutcome outcome = new ChunkOutcome();
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts, inserts.size(), (ps, parsed) -> {
+                MenuItemImportRow row = parsed.row();
+                ps.setLong(1, restaurantId);
+                ps.setString(2, row.getName());
+                ps.setString(3, row.getDescription());
+                ps.setBigDecimal(4, row.getPrice());
+                ps.setString(5, row.getCategory());
+                ps.setInt(6, row.getStockQuantity());
+                ps.setBoolean(7, row.getIsAvailable() == null || row.getIsAvailable());
+                ps.setTimestamp(8, now);
+                ps.setTimestamp(9, now);
+            });
+            outcome.inserted = inserts.size();
+        }
+
+        if (!updates.isEmpty()) {
+            int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, updates, updates.size(), (ps, parsed) -> {
+                MenuItemImportRow row = parsed.row();
+                ps.setString(1, row.getName());
+                ps.setString(2, row.getDescription());
+                ps.setBigDecimal(3, row.getPrice());
+                ps.setString(4, row.getCategory());
+                ps.setInt(5, row.getStockQuantity());
+                ps.setBoolean(6, row.getIsAvailable() == null || row.getIsAvailable());
+                ps.setTimestamp(7, now);
+                ps.setLong(8, row.getId());
+                ps.setLong(9, restaurantId);
+            });
+            int[] updateCounts = counts[0];
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (updateCounts[i] == 0) {
+                    outcome.errors.add(new MenuItemImportError(updates.get(i).line(),
+                            "Menu item " + updates.get(i).row().getId() + " not found for restaurant " + restaurantId));
+                } else {
+                    outcome.updated++;
+                }
+            }
+        }
+
+        return outcome;
+    }
+
+    private String validate(MenuItemImportRow row) {
+        Set<ConstraintViolation<MenuItemImportRow>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+    }
+
+    private String toCsvLine(MenuItemImportRow row) {
+        return String.join(",",
+                String.valueOf(row.getId()),
+                csvField(row.getName()),
+                csvField(row.getDescription()),
+                row.getPrice() == null ? "" : row.getPrice().toPlainString(),
+                csvField(row.getCategory()),
+                row.getStockQuantity() == null ? "" : row.getStockQuantity().toString(),
+                row.getIsAvailable() == null ? "" : row.getIsAvailable().toString()) + "\n";
+    }
+
+    private String toJsonLine(MenuItemImportRow row) {
+        try {
+            return objectMapper.writeValueAsString(row) + "\n";
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize menu item " + row.getId(), ex);
+        }
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static void write(Writer writer, String text) {
+        try {
+            writer.write(text);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write export", ex);
+        }
+    }
+
+    private static String rootMessage(Throwable ex) {
+        Throwable cause = ex;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+
+    private record ParsedRow(long line, MenuItemImportRow row, String error) {
+    }
+
+    private interface RowReader {
+        ParsedRow next() throws IOException;
+    }
+
+    private class NdjsonRowReader implements RowReader {
+        private final BufferedReader reader;
+        private long line;
+
+        NdjsonRowReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                try {
+                    return new ParsedRow(line, objectMapper.readValue(text, MenuItemImportRow.class), null);
+                } catch (JsonProcessingException ex) {
+                    return new ParsedRow(line, null, "Invalid JSON: " + ex.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * RFC 4180 style reader: quoted fields may contain commas, quotes and line breaks
+     */
+    private static class CsvRowReader implements RowReader {
+        private final BufferedReader reader;
+        private Map<String, Integer> header;
+        private long line;
+
+        CsvRowReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            if (header == null) {
+                List<String> names = readRecord();
+                if (names == null) {
+                    return null;
+                }
+                header = new HashMap<>();
+                for (int i = 0; i < names.size(); i++) {
+                    header.put(names.get(i).trim().toLowerCase(Locale.ROOT).replace("stockquantity", "stock_quantity")
+                            .replace("isavailable", "is_available"), i);
+                }
+                if (!header.containsKey("name") || !header.containsKey("price")) {
+                    throw new IllegalArgumentException("CSV header must contain at least name and price: " + names);
+                }
+            }
+
+            List<String> fields;
+            long startLine;
+            do {
+                startLine = line + 1;
+                fields = readRecord();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isBlank());
+
+            try {
+                return new ParsedRow(startLine, MenuItemImportRow.builder()
+                        .id(parseLong(field(fields, "id")))
+                        .name(field(fields, "name"))
+                        .description(field(fields, "description"))
+                        .price(field(fields, "price") == null ? null : new BigDecimal(field(fields, "price")))
+                        .category(field(fields, "category"))
+                        .stockQuantity(field(fields, "stock_quantity") == null
+                                ? null
+                                : Integer.valueOf(field(fields, "stock_quantity")))
+                        .isAvailable(field(fields, "is_available") == null
+                                ? Boolean.TRUE
+                                : Boolean.valueOf(field(fields, "is_available")))
+                        .build(), null);
+            } catch (NumberFormatException ex) {
+                return new ParsedRow(startLine, null, "Invalid number: " + ex.getMessage());
+            }
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = header.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private static Long parseLong(String value) {
+            return value == null || "null".equals(value) ? null : Long.valueOf(value);
+        }
+
+        private List<String> readRecord() throws IOException {
+            String text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == text.length()) {
+                    if (!quoted) {
+                        break;
+                    }
+                    // Quoted field continues on the next line
+                    String continuation = reader.readLine();
+                    if (continuation == null) {
+                        break;
+                    }
+                    line++;
+                    current.append('\n');
+                    text = continuation;
+                    i = 0;
+                    continue;
+                }
+
+                char c = text.charAt(i++);
+                if (quoted) {
+                    if (c == '"' && i < text.length() && text.charAt(i) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+    }
+
+    private static class ChunkOutcome {
+        private long inserted;
+        private long updated;
+        private final List<MenuItemImportError> errors = new ArrayList<>();
+    }
+
+    private static class ImportProgress {
+        private long totalRows;
+        private long inserted;
+        private long updated;
+        private long failed;
+        private final List<MenuItemImportError> errors = new ArrayList<>();
+
+        void apply(ChunkOutcome outcome) {
+            inserted += outcome.inserted;
+            updated += outcome.updated;
+            for (MenuItemImportError error : outcome.errors) {
+                fail(error.getLine(), error.getMessage());
+            }
+        }
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new MenuItemImportError(line, message));
+            }
+        }
+    }
+}
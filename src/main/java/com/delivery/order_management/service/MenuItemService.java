@@ -1,16 +1,27 @@
 package com.delivery.order_management.service;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.delivery.order_management.config.CacheNames;
 import com.delivery.order_management.exception.InsufficientStockException;
 import com.delivery.order_management.exception.ResourceNotFoundException;
 import com.delivery.order_management.model.entity.MenuItem;
 import com.delivery.order_management.model.entity.Restaurant;
+import com.delivery.order_management.model.money.Money;
 import com.delivery.order_management.repository.MenuItemRepository;
+import com.delivery.order_management.service.concurrency.OptimisticLockRetry;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +34,7 @@ public class MenuItemService {
 
     private final MenuItemRepository menuItemRepository;
     private final RestaurantService restaurantService;
+    private final OptimisticLockRetry optimisticLockRetry;
 
     /**
      * Get all menu items
@@ -41,6 +53,17 @@ public class MenuItemService {
                 .orElseThrow(() -> new ResourceNotFoundException("Menu item not found with id: " + id));
     }
 
+    /**
+     * Get menu items by IDs from the database, keyed by ID; unknown IDs are
+     * skipped. Used to price orders, so price and availability never come from
+     * a second-level cache entry another node has not invalidated yet.
+     */
+    public Map<Long, MenuItem> getMenuItemsForPricing(Collection<Long> ids) {
+        log.info("Fetching {} menu items for pricing", ids.size());
+        return menuItemRepository.findAllUncachedByIdIn(ids).stream()
+                .collect(Collectors.toMap(MenuItem::getId, Function.identity()));
+    }
+
     /**
      * Get menu items by restaurant
      */
@@ -74,13 +97,17 @@ public class MenuItemService {
      */
     public List<MenuItem> getMenuItemsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
         log.info("Fetching menu items with price between {} and {}", minPrice, maxPrice);
-        return menuItemRepository.findByPriceBetween(minPrice, maxPrice);
+        // Bounds are filters, not amounts: round them outwards instead of rejecting extra fraction digits
+        return menuItemRepository.findByPriceBetween(
+                Money.of(minPrice.setScale(Money.SCALE, RoundingMode.FLOOR)),
+                Money.of(maxPrice.setScale(Money.SCALE, RoundingMode.CEILING)));
     }
 
     /**
      * Create new menu item
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.RESTAURANT_MENUS, key = "#restaurantId")
     public MenuItem createMenuItem(Long restaurantId, MenuItem menuItem) {
         log.info("Creating new menu item for restaurant: {}", restaurantId);
 
@@ -89,9 +116,10 @@ public class MenuItemService {
 
         // Set restaurant
         menuItem.setRestaurant(restaurant);
+        menuItem.setVersion(null);
 
         // Validate price
-        if (menuItem.getPrice().compareTo(BigDecimal.ZERO) <= 0) {
+        if (menuItem.getPrice().signum() <= 0) {
             throw new IllegalArgumentException("Price must be greater than zero");
         }
 
@@ -99,29 +127,39 @@ public class MenuItemService {
     }
 
     /**
-     * Update menu item
+     * Update menu item, rejecting a stale client version and retrying
+     * version conflicts with concurrent writers
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.MENU_ITEMS, key = "#id"),
+            @CacheEvict(cacheNames = CacheNames.RESTAURANT_MENUS, key = "#result.restaurant.id") })
     public MenuItem updateMenuItem(Long id, MenuItem menuItemDetails) {
         log.info("Updating menu item with id: {}", id);
 
-        MenuItem menuItem = getMenuItemById(id);
+        return optimisticLockRetry.execute("menu_item", id, () -> {
+            MenuItem menuItem = getMenuItemById(id);
+            OptimisticLockRetry.checkVersion("Menu item", id, menuItemDetails.getVersion(), menuItem.getVersion());
 
-        // Update fields
-        menuItem.setName(menuItemDetails.getName());
-        menuItem.setDescription(menuItemDetails.getDescription());
-        menuItem.setPrice(menuItemDetails.getPrice());
-        menuItem.setCategory(menuItemDetails.getCategory());
-        menuItem.setIsAvailable(menuItemDetails.getIsAvailable());
-        menuItem.setStockQuantity(menuItemDetails.getStockQuantity());
+            // Update fields
+            menuItem.setName(menuItemDetails.getName());
+            menuItem.setDescription(menuItemDetails.getDescription());
+            menuItem.setPrice(menuItemDetails.getPrice());
+            menuItem.setCategory(menuItemDetails.getCategory());
+            menuItem.setIsAvailable(menuItemDetails.getIsAvailable());
+            menuItem.setStockQuantity(menuItemDetails.getStockQuantity());
 
-        return menuItemRepository.save(menuItem);
+            return menuItemRepository.saveAndFlush(menuItem);
+        });
     }
 
     /**
      * Delete menu item
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.MENU_ITEMS, key = "#id"),
+            @CacheEvict(cacheNames = CacheNames.RESTAURANT_MENUS, allEntries = true) })
     public void deleteMenuItem(Long id) {
         log.info("Deleting menu item with id: {}", id);
 
@@ -141,6 +179,7 @@ public class MenuItemService {
      * Decrease stock quantity
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.MENU_ITEMS, key = "#menuItemId")
     public void decreaseStock(Long menuItemId, Integer quantity) {
         log.info("Decreasing stock for menu item: {} by quantity: {}", menuItemId, quantity);
 
@@ -160,11 +199,15 @@ public class MenuItemService {
      * Increase stock quantity (for returns/cancellations)
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.MENU_ITEMS, key = "#menuItemId")
     public void increaseStock(Long menuItemId, Integer quantity) {
         log.info("Increasing stock for menu item: {} by quantity: {}", menuItemId, quantity);
 
-        MenuItem menuItem = getMenuItemById(menuItemId);
-        menuItem.setStockQuantity(menuItem.getStockQuantity() + quantity);
-        menuItemRepository.save(menuItem);
+        // Single conditional UPDATE so a concurrent edit cannot lose the restored quantity
+        int updated = menuItemRepository.increaseStock(menuItemId, quantity);
+
+        if (updated == 0) {
+            throw new ResourceNotFoundException("Menu item not found with id: " + menuItemId);
+        }
     }
-}
\ No newline at end of file
+}
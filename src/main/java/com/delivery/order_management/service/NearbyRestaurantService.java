@@ -0,0 +1,254 @@
+package com.delivery.order_management.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.delivery.order_management.model.dto.NearbyRestaurantResponse;
+import com.delivery.order_management.model.dto.RestaurantResponse;
+import com.delivery.order_management.repository.MenuItemRepository;
+import com.delivery.order_management.repository.RestaurantRepository;
+import com.delivery.order_management.service.geo.GeoGrid;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Nearest restaurants to a point, optionally only those open now and with
+ * an available menu item.
+ *
+ * Search runs against an immutable in-memory GeoGrid of every restaurant
+ * with coordinates, so a query never touches the database for the spatial
+ * part; only the few hits are loaded, through the catalog cache. The grid
+ * holds active restaurants only.
+ *
+ * The grid is built from two projection queries at startup and every
+ * full-rebuild-interval. In between, every refresh-interval, and within a
+ * second of a restaurant change on this node, only restaurants whose row or
+ * menu items have an updated_at since the last refresh are read back and the
+ * grid is rebuilt in memory. Refreshes look back change-lag further, for
+ * transactions that commit after their updated_at and for clock skew between
+ * nodes. Deleted menu items leave no updated_at behind and are picked up by
+ * the next full rebuild.
+ */
+@Service
+@Slf4j
+public class NearbyRestaurantService {
+
+    private final RestaurantRepository restaurantRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final CatalogLookupService catalogLookupService;
+
+    private final double cellDegrees;
+    private final long refreshIntervalNanos;
+    private final long fullRebuildIntervalNanos;
+    private final Duration changeLag;
+    private final double maxRadiusKm;
+    private final int maxResults;
+    private final Timer rebuildTimer;
+    private final Timer refreshTimer;
+
+    // Indexed restaurants by id; only touched under the monitor
+    private final Map<Long, GeoGrid.Location> locations = new HashMap<>();
+    private LocalDateTime changesSince;
+    private volatile GeoGrid grid;
+    private volatile long builtAt;
+    private volatile long refreshedAt;
+    private volatile boolean stale;
+
+    public NearbyRestaurantService(RestaurantRepository restaurantRepository,
+            MenuItemRepository menuItemRepository,
+            CatalogLookupService catalogLookupService,
+            MeterRegistry meterRegistry,
+            @Value("${order.nearby.cell-size:0.02}") double cellDegrees,
+            @Value("${order.nearby.refresh-interval:5s}") Duration refreshInterval,
+            @Value("${order.nearby.full-rebuild-interval:15m}") Duration fullRebuildInterval,
+            @Value("${order.nearby.change-lag:10s}") Duration changeLag,
+            @Value("${order.nearby.max-radius-km:50}") double maxRadiusKm,
+            @Value("${order.nearby.max-results:100}") int maxResults) {
+        this.restaurantRepository = restaurantRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.catalogLookupService = catalogLookupService;
+        this.cellDegrees = cellDegrees;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.fullRebuildIntervalNanos = fullRebuildInterval.toNanos();
+        this.changeLag = changeLag;
+        this.maxRadiusKm = maxRadiusKm;
+        this.maxResults = maxResults;
+
+        this.rebuildTimer = Timer.builder("order.nearby.rebuild.duration")
+                .description("Time to rebuild the nearby restaurant index")
+                .register(meterRegistry);
+        this.refreshTimer = Timer.builder("order.nearby.refresh.duration")
+                .description("Time to apply changed restaurants to the nearby restaurant index")
+                .register(meterRegistry);
+        Gauge.builder("order.nearby.index.size", this, service -> service.grid != null ? service.grid.size() : 0)
+                .description("Restaurants in the nearby index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Nearest restaurants within radiusKm, nearest first
+     */
+    public List<NearbyRestaurantResponse> findNearby(double latitude, double longitude, double radiusKm, int limit,
+            boolean openNow, boolean availableOnly) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90 and longitude between -180 and 180");
+        }
+        if (radiusKm <= 0 || radiusKm > maxRadiusKm) {
+            throw new IllegalArgumentException("Radius must be greater than 0 and at most " + maxRadiusKm + " km");
+        }
+        if (limit < 1 || limit > maxResults) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxResults);
+        }
+
+        int secondOfDay = openNow ? LocalTime.now().toSecondOfDay() : -1;
+        List<GeoGrid.Hit> hits = currentGrid().nearest(latitude, longitude, radiusKm, limit, secondOfDay, availableOnly);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>(hits.size());
+        hits.forEach(hit -> ids.add(hit.id()));
+        Map<Long, RestaurantResponse> restaurants = catalogLookupService.lookupRestaurants(ids).getItems();
+
+        List<NearbyRestaurantResponse> response = new ArrayList<>(hits.size());
+        for (GeoGrid.Hit hit : hits) {
+            RestaurantResponse restaurant = restaurants.get(hit.id());
+            // Gone since the last rebuild
+            if (restaurant != null) {
+                response.add(new NearbyRestaurantResponse(restaurant, hit.distanceKm()));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Refresh the index within a second of the current transaction committing,
+     * or of now outside one; called after restaurant changes
+     */
+    public void markStale() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stale = true;
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stale = true;
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${order.nearby.check-interval:PT1S}")
+    public void refreshIfStale() {
+        long now = System.nanoTime();
+        if (grid == null || now - builtAt >= fullRebuildIntervalNanos) {
+            rebuild();
+        } else if (stale || now - refreshedAt >= refreshIntervalNanos) {
+            refreshChanged();
+        }
+    }
+
+    private GeoGrid currentGrid() {
+        GeoGrid current = grid;
+        if (current == null) {
+            synchronized (this) {
+                if (grid == null) {
+                    rebuild();
+                }
+                current = grid;
+            }
+        }
+        return current;
+    }
+
+    private synchronized void rebuild() {
+        // Cleared first so a change during the rebuild triggers another one
+        stale = false;
+        LocalDateTime startedAt = LocalDateTime.now();
+        grid = rebuildTimer.record(() -> {
+            Set<Long> withItems = new HashSet<>(menuItemRepository.findRestaurantIdsWithAvailableItems());
+            locations.clear();
+            for (Object[] row : restaurantRepository.findLocations()) {
+                apply(row, withItems);
+            }
+            return GeoGrid.build(new ArrayList<>(locations.values()), cellDegrees);
+        });
+        changesSince = startedAt.minus(changeLag);
+        builtAt = refreshedAt = System.nanoTime();
+        log.debug("Nearby restaurant index rebuilt with {} restaurants", grid.size());
+    }
+
+    private synchronized void refreshChanged() {
+        stale = false;
+        LocalDateTime startedAt = LocalDateTime.now();
+        refreshTimer.record(() -> {
+            List<Object[]> rows = restaurantRepository.findLocationsChangedSince(changesSince);
+            Set<Long> changed = new HashSet<>(menuItemRepository.findRestaurantIdsWithItemsChangedSince(changesSince));
+            if (rows.isEmpty() && changed.isEmpty()) {
+                return;
+            }
+            Set<Long> withItems = new HashSet<>(menuItemRepository.findChangedRestaurantIdsWithAvailableItems(
+                    changesSince));
+            for (Object[] row : rows) {
+                changed.remove(apply(row, withItems));
+            }
+            // Only their menu items changed; location, hours and status are as indexed
+            for (Long id : changed) {
+                GeoGrid.Location location = locations.get(id);
+                if (location != null) {
+                    locations.put(id, new GeoGrid.Location(id, location.latitude(), location.longitude(),
+                            location.opensAt(), location.closesAt(), true, withItems.contains(id)));
+                }
+            }
+            grid = GeoGrid.build(new ArrayList<>(locations.values()), cellDegrees);
+        });
+        changesSince = startedAt.minus(changeLag);
+        refreshedAt = System.nanoTime();
+    }
+
+    /**
+     * Index or drop the restaurant of a findLocations row; returns its id
+     */
+    private long apply(Object[] row, Set<Long> withItems) {
+        long id = ((Number) row[0]).longValue();
+        if (row[1] == null || row[2] == null || !Boolean.TRUE.equals(row[5])) {
+            locations.remove(id);
+            return id;
+        }
+        locations.put(id, new GeoGrid.Location(id,
+                ((Number) row[1]).doubleValue(),
+                ((Number) row[2]).doubleValue(),
+                secondOfDay((LocalTime) row[3]),
+                secondOfDay((LocalTime) row[4]),
+                true,
+                withItems.contains(id)));
+        return id;
+    }
+
+    private static int secondOfDay(LocalTime time) {
+        return time != null ? time.toSecondOfDay() : -1;
+    }
+}
@@ -0,0 +1,282 @@
+package com.delivery.order_management.service;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.delivery.order_management.event.OrderCreatedEvent;
+import com.delivery.order_management.event.OrderLineSnapshot;
+import com.delivery.order_management.event.OrderSnapshot;
+import com.delivery.order_management.event.OrderStatusChangedEvent;
+import com.delivery.order_management.event.RemoteOrderChangedEvent;
+import com.delivery.order_management.model.dto.MenuItemAnalyticsResponse;
+import com.delivery.order_management.model.dto.OrderAnalyticsBucketResponse;
+import com.delivery.order_management.model.dto.OrderAnalyticsResponse;
+import com.delivery.order_management.model.entity.OrderStatus;
+import com.delivery.order_management.model.money.Money;
+import com.delivery.order_management.repository.OrderItemRepository;
+import com.delivery.order_management.repository.OrderRepository;
+import com.delivery.order_management.service.analytics.OrderRollup;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dashboard analytics served from hourly rollups kept in memory.
+ *
+ * Rollups are rebuilt from the database once at startup and then maintained
+ * from order events after each commit, so queries cost O(buckets) instead of
+ * scanning orders. Orders created while the rebuild is running may be missed
+ * until the next restart. Menu item counters, like revenue, leave out
+ * cancelled orders. Changes made on other nodes arrive through the tracking
+ * relay; with the local relay, each node only counts its own orders until
+ * its next rebuild, and a message the Redis relay loses is missing until then.
+ */
+@Service
+@Slf4j
+public class OrderAnalyticsService {
+
+    private static final long BUCKET_SECONDS = Duration.ofHours(1).toSeconds();
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final Duration retention;
+
+    private volatile OrderRollup globalRollup = new OrderRollup();
+    private volatile Map<Long, OrderRollup> restaurantRollups = new ConcurrentHashMap<>();
+
+    public OrderAnalyticsService(OrderRepository orderRepository,
+            OrderItemRepository orderItemRepository,
+            @Value("${order.analytics.retention:30d}") Duration retention) {
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.retention = retention;
+    }
+
+    /**
+     * Rebuild rollups from the database for the retention window
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime since = LocalDateTime.now().minus(retention);
+        log.info("Rebuilding order analytics rollups since {}", since);
+
+        OrderRollup global = new OrderRollup();
+        Map<Long, OrderRollup> byRestaurant = new ConcurrentHashMap<>();
+
+        for (Object[] row : orderRepository.aggregateByRestaurantHourAndStatus(since)) {
+            Long restaurantId = ((Number) row[0]).longValue();
+            long bucketId = bucketOf(toLocalDateTime(row[1]));
+            OrderStatus status = OrderStatus.valueOf((String) row[2]);
+            long count = ((Number) row[3]).longValue();
+            long amount = toMinorUnits((BigDecimal) row[4]);
+
+            global.bucket(bucketId).addOrders(status, count, amount);
+            byRestaurant.computeIfAbsent(restaurantId, id -> new OrderRollup())
+                    .bucket(bucketId).addOrders(status, count, amount);
+        }
+
+        for (Object[] row : orderItemRepository.aggregateByRestaurantHourAndMenuItem(since)) {
+            Long restaurantId = ((Number) row[0]).longValue();
+            long bucketId = bucketOf(toLocalDateTime(row[1]));
+            Long menuItemId = ((Number) row[2]).longValue();
+            long quantity = ((Number) row[3]).longValue();
+            long amount = toMinorUnits((BigDecimal) row[4]);
+
+            global.bucket(bucketId).addItem(menuItemId, quantity, amount);
+            byRestaurant.computeIfAbsent(restaurantId, id -> new OrderRollup())
+                    .bucket(bucketId).addItem(menuItemId, quantity, amount);
+        }
+
+        this.globalRollup = global;
+        this.restaurantRollups = byRestaurant;
+        log.info("Order analytics rollups rebuilt for {} restaurants", byRestaurant.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        addOrder(event.order());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        moveOrder(event.order(), event.previousStatus());
+    }
+
+    @EventListener
+    public void onRemoteOrderChanged(RemoteOrderChangedEvent event) {
+        if (event.previousStatus() == null) {
+            addOrder(event.order());
+        } else {
+            moveOrder(event.order(), event.previousStatus());
+        }
+    }
+
+    /**
+     * Order counts and revenue for a restaurant, or all restaurants when restaurantId is null
+     */
+    public OrderAnalyticsResponse getOrderAnalytics(Long restaurantId, LocalDateTime from, LocalDateTime to) {
+        log.info("Fetching order analytics for restaurant: {} between {} and {}", restaurantId, from, to);
+        validateRange(from, to);
+
+        OrderRollup rollup = restaurantId == null ? globalRollup : restaurantRollups.get(restaurantId);
+        Map<OrderStatus, Long> totalCounts = emptyCounts();
+        long totalOrders = 0;
+        long totalRevenue = 0;
+        List<OrderAnalyticsBucketResponse> buckets = new ArrayList<>();
+
+        if (rollup != null) {
+            for (Map.Entry<Long, OrderRollup.Bucket> entry : rollup.range(bucketOf(from), bucketOf(to)).entrySet()) {
+                OrderRollup.Bucket bucket = entry.getValue();
+                Map<OrderStatus, Long> counts = emptyCounts();
+                long orders = 0;
+                long revenue = 0;
+
+                for (OrderStatus status : OrderStatus.values()) {
+                    long count = bucket.orderCount(status);
+                    counts.put(status, count);
+                    totalCounts.merge(status, count, Long::sum);
+                    orders += count;
+                    if (status != OrderStatus.CANCELLED) {
+                        revenue += bucket.amount(status);
+                    }
+                }
+
+                totalOrders += orders;
+                totalRevenue += revenue;
+                buckets.add(OrderAnalyticsBucketResponse.builder()
+                        .bucketStart(bucketStart(entry.getKey()))
+                        .orderCount(orders)
+                        .revenue(fromMinorUnits(revenue))
+                        .countsByStatus(counts)
+                        .build());
+            }
+        }
+
+        return OrderAnalyticsResponse.builder()
+                .restaurantId(restaurantId)
+                .from(from)
+                .to(to)
+                .orderCount(totalOrders)
+                .revenue(fromMinorUnits(totalRevenue))
+                .countsByStatus(totalCounts)
+                .buckets(buckets)
+                .build();
+    }
+
+    /**
+     * Quantity ordered and revenue for a menu item
+     */
+    public MenuItemAnalyticsResponse getMenuItemAnalytics(Long menuItemId, LocalDateTime from, LocalDateTime to) {
+        log.info("Fetching analytics for menu item: {} between {} and {}", menuItemId, from, to);
+        validateRange(from, to);
+
+        long quantity = 0;
+        long revenue = 0;
+        for (OrderRollup.Bucket bucket : globalRollup.range(bucketOf(from), bucketOf(to)).values()) {
+            OrderRollup.ItemCounters item = bucket.item(menuItemId);
+            if (item != null) {
+                quantity += item.quantity();
+                revenue += item.amount();
+            }
+        }
+
+        return MenuItemAnalyticsResponse.builder()
+                .menuItemId(menuItemId)
+                .from(from)
+                .to(to)
+                .quantityOrdered(quantity)
+                .revenue(fromMinorUnits(revenue))
+                .build();
+    }
+
+    private void addOrder(OrderSnapshot order) {
+        long bucketId = bucketOf(order.createdAt());
+        long amount = order.totalAmount().minorUnits();
+        long oldestBucket = bucketOf(LocalDateTime.now().minus(retention));
+
+        for (OrderRollup rollup : rollupsFor(order.restaurantId())) {
+            rollup.evictBefore(oldestBucket);
+            OrderRollup.Bucket bucket = rollup.bucket(bucketId);
+            bucket.addOrders(order.status(), 1, amount);
+            if (order.status() != OrderStatus.CANCELLED) {
+                addLines(bucket, order, 1);
+            }
+        }
+    }
+
+    private void moveOrder(OrderSnapshot order, OrderStatus previousStatus) {
+        long bucketId = bucketOf(order.createdAt());
+        long amount = order.totalAmount().minorUnits();
+
+        for (OrderRollup rollup : rollupsFor(order.restaurantId())) {
+            // Buckets past retention are gone; nothing to move
+            OrderRollup.Bucket bucket = rollup.existingBucket(bucketId);
+            if (bucket != null) {
+                bucket.moveOrder(previousStatus, order.status(), amount);
+                if (order.status() == OrderStatus.CANCELLED) {
+                    addLines(bucket, order, -1);
+                } else if (previousStatus == OrderStatus.CANCELLED) {
+                    addLines(bucket, order, 1);
+                }
+            }
+        }
+    }
+
+    private static void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Analytics range start must not be after its end");
+        }
+    }
+
+    private List<OrderRollup> rollupsFor(Long restaurantId) {
+        return List.of(globalRollup, restaurantRollups.computeIfAbsent(restaurantId, id -> new OrderRollup()));
+    }
+
+    // Add (sign 1) or take back (sign -1) the order's lines in the menu item counters
+    private static void addLines(OrderRollup.Bucket bucket, OrderSnapshot order, int sign) {
+        for (OrderLineSnapshot line : order.lines()) {
+            bucket.addItem(line.menuItemId(), sign * line.quantity(), sign * line.subtotal().minorUnits());
+        }
+    }
+
+    private Map<OrderStatus, Long> emptyCounts() {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            counts.put(status, 0L);
+        }
+        return counts;
+    }
+
+    private static long bucketOf(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), BUCKET_SECONDS);
+    }
+
+    private static LocalDateTime bucketStart(long bucketId) {
+        return LocalDateTime.ofEpochSecond(bucketId * BUCKET_SECONDS, 0, ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        return amount == null ? 0 : Money.of(amount).minorUnits();
+    }
+
+    private static BigDecimal fromMinorUnits(long amount) {
+        return Money.ofMinor(amount).toBigDecimal();
+    }
+}
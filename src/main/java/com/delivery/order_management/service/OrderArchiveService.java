@@ -0,0 +1,194 @@
+package com.delivery.order_management.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.delivery.order_management.exception.ResourceNotFoundException;
+import com.delivery.order_management.model.dto.OrderResponse;
+import com.delivery.order_management.model.entity.ArchivedOrder;
+import com.delivery.order_management.model.entity.Order;
+import com.delivery.order_management.model.entity.OrderStatus;
+import com.delivery.order_management.repository.ArchivedOrderRepository;
+import com.delivery.order_management.repository.OrderItemRepository;
+import com.delivery.order_management.repository.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves delivered and cancelled orders out of the live tables once they are
+ * older than the configured age, so orders and order_items only hold recent
+ * and in-flight rows.
+ *
+ * Each batch is locked with SKIP LOCKED, copied into archived_orders as one
+ * gzipped JSON document per order and deleted from the live tables in the same
+ * transaction, so an order is always found in exactly one place and several
+ * nodes can run the job at once. Archived orders stay readable by order
+ * number and by customer phone.
+ */
+@Service
+@Slf4j
+public class OrderArchiveService {
+
+    private static final List<String> ARCHIVABLE_STATUSES = List.of(
+            OrderStatus.DELIVERED.name(), OrderStatus.CANCELLED.name());
+
+    private static final String INSERT_SQL = "INSERT INTO archived_orders "
+            + "(id, order_number, restaurant_id, customer_phone, status, total_amount, created_at, archived_at, payload) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO NOTHING";
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Counter archivedOrders;
+
+    private final boolean enabled;
+    private final Duration minAge;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public OrderArchiveService(OrderRepository orderRepository,
+            OrderItemRepository orderItemRepository,
+            ArchivedOrderRepository archivedOrderRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${order.archive.enabled:true}") boolean enabled,
+            @Value("${order.archive.min-age:30d}") Duration minAge,
+            @Value("${order.archive.batch-size:500}") int batchSize,
+            @Value("${order.archive.max-batches-per-run:200}") int maxBatchesPerRun) {
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.archivedOrders = Counter.builder("order.archive.orders")
+                .description("Orders moved from the live tables to the archive")
+                .register(meterRegistry);
+        this.enabled = enabled;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * Archive terminal orders older than the configured age, one batch per transaction
+     */
+    @Scheduled(initialDelayString = "${order.archive.initial-delay:PT5M}", fixedDelayString = "${order.archive.interval:PT1H}")
+    public void archiveOldOrders() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        long started = System.currentTimeMillis();
+        int total = 0;
+
+        // Capped per run so a large backlog is worked off over several runs
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer archived = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            total += archived;
+            if (archived < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Archived {} orders last updated before {} in {} ms",
+                    total, cutoff, System.currentTimeMillis() - started);
+        }
+    }
+
+    /**
+     * Get an archived order by order number
+     */
+    public OrderResponse getArchivedOrder(String orderNumber) {
+        log.info("Fetching archived order with order number: {}", orderNumber);
+        ArchivedOrder archived = archivedOrderRepository.findByOrderNumber(orderNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Order not found with order number: " + orderNumber));
+        return decodePayload(archived.getPayload());
+    }
+
+    /**
+     * Get archived orders by customer phone, newest first
+     */
+    public List<OrderResponse> getArchivedOrdersByCustomerPhone(String customerPhone) {
+        log.info("Fetching archived orders for customer phone: {}", customerPhone);
+        return archivedOrderRepository.findByCustomerPhoneOrderByCreatedAtDesc(customerPhone).stream()
+                .map(archived -> decodePayload(archived.getPayload()))
+                .toList();
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = orderRepository.lockArchivableIds(ARCHIVABLE_STATUSES, cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        List<Order> orders = orderRepository.findWithItemsByIdIn(ids);
+        Timestamp archivedAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, orders, orders.size(), (ps, order) -> {
+            ps.setLong(1, order.getId());
+            ps.setString(2, order.getOrderNumber());
+            ps.setLong(3, order.getRestaurant().getId());
+            ps.setString(4, order.getCustomerPhone());
+            ps.setString(5, order.getStatus().name());
+            ps.setBigDecimal(6, order.getTotalAmount().toBigDecimal());
+            ps.setTimestamp(7, Timestamp.valueOf(order.getCreatedAt()));
+            ps.setTimestamp(8, archivedAt);
+            ps.setBytes(9, encode(OrderResponse.from(order)));
+        });
+
+        orderItemRepository.deleteByOrderIdIn(ids);
+        orderRepository.deleteByIdIn(ids);
+
+        archivedOrders.increment(ids.size());
+        return ids.size();
+    }
+
+    private byte[] encode(OrderResponse order) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, order);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to encode archived order " + order.getOrderNumber(), ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode an archived_orders payload
+     */
+    public OrderResponse decodePayload(byte[] payload) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(gzip, OrderResponse.class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to decode archived order", ex);
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package com.delivery.order_management.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import com.delivery.order_management.exception.ResourceNotFoundException;
+import com.delivery.order_management.model.dto.OrderItemResponse;
+import com.delivery.order_management.model.dto.OrderResponse;
+import com.delivery.order_management.model.entity.OrderExportRecord;
+import com.delivery.order_management.repository.OrderExportRecordRepository;
+import com.delivery.order_management.service.export.ExportStatus;
+import com.delivery.order_management.service.export.OrderArrowWriter;
+import com.delivery.order_management.service.export.OrderExportJob;
+import com.delivery.order_management.service.export.OrderLineArrowWriter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exports orders and order lines created in a date range to Arrow IPC files,
+ * as background jobs with progress reporting.
+ *
+ * A job runs on the node that accepted it, but its state is kept in the
+ * order_exports table, refreshed every sync-interval, and its files are
+ * written below order.export.directory, which must be shared storage when
+ * several nodes run. Any node can then report progress and serve the files.
+ * A job whose node stops refreshing it for stale-after is reported as failed.
+ *
+ * Rows are read through a server-side cursor and written column by column
+ * into fixed-size record batches, without entities, so memory stays bounded by
+ * one fetch and one batch however long the range is. Live and archived orders
+ * are read in one repeatable-read transaction, so an order moved by the
+ * archival job mid-export is neither missed nor written twice.
+ */
+@Service
+@Slf4j
+public class OrderExportService {
+
+    public static final String ORDERS_FILE = "orders.arrow";
+    public static final String ORDER_LINES_FILE = "order_lines.arrow";
+
+    private static final String COUNT_SQL = "SELECT "
+            + "(SELECT COUNT(*) FROM orders WHERE created_at >= ? AND created_at < ?) + "
+            + "(SELECT COUNT(*) FROM archived_orders WHERE created_at >= ? AND created_at < ?)";
+
+    private static final String ORDERS_SQL = "SELECT id, order_number, restaurant_id, status, total_amount, "
+            + "created_at, updated_at FROM orders WHERE created_at >= ? AND created_at < ?";
+
+    private static final String LINES_SQL = "SELECT oi.id, oi.order_id, oi.menu_item_id, oi.quantity, "
+            + "oi.price_at_order, oi.subtotal FROM order_items oi JOIN orders o ON o.id = oi.order_id "
+            + "WHERE o.created_at >= ? AND o.created_at < ?";
+
+    private static final String ARCHIVED_SQL = "SELECT payload FROM archived_orders "
+            + "WHERE created_at >= ? AND created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate snapshotTemplate;
+    private final OrderArchiveService orderArchiveService;
+    private final OrderExportRecordRepository orderExportRecordRepository;
+    private final BufferAllocator allocator;
+    private final ExecutorService executor;
+    private final Path directory;
+    private final int fetchSize;
+    private final int batchSize;
+    private final Duration retention;
+    private final Duration staleAfter;
+
+    // Jobs queued or running on this node
+    private final Map<String, OrderExportJob> jobs = new ConcurrentHashMap<>();
+
+    public OrderExportService(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            OrderArchiveService orderArchiveService,
+            OrderExportRecordRepository orderExportRecordRepository,
+            @Value("${order.export.directory:${java.io.tmpdir}/order-exports}") String directory,
+            @Value("${order.export.threads:1}") int threads,
+            @Value("${order.export.fetch-size:5000}") int fetchSize,
+            @Value("${order.export.batch-size:65536}") int batchSize,
+            @Value("${order.export.memory-limit:256MB}") DataSize memoryLimit,
+            @Value("${order.export.retention:24h}") Duration retention,
+            @Value("${order.export.stale-after:1m}") Duration staleAfter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setReadOnly(true);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.orderArchiveService = orderArchiveService;
+        this.orderExportRecordRepository = orderExportRecordRepository;
+        this.allocator = new RootAllocator(memoryLimit.toBytes());
+        this.executor = Executors.newFixedThreadPool(threads, Thread.ofPlatform()
+                .name("order-export-", 0).daemon(true).factory());
+        this.directory = Paths.get(directory);
+        this.fetchSize = fetchSize;
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.staleAfter = staleAfter;
+    }
+
+    /**
+     * Queue an export of orders created in [from, to)
+     */
+    public OrderExportJob startExport(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Export range start must be before its end");
+        }
+        removeExpiredJobs();
+
+        String id = UUID.randomUUID().toString();
+        OrderExportJob job = new OrderExportJob(id, from, to, directory.resolve(id), LocalDateTime.now());
+        orderExportRecordRepository.save(OrderExportRecord.builder()
+                .id(id)
+                .rangeFrom(from)
+                .rangeTo(to)
+                .status(job.getStatus())
+                .totalOrders(job.getTotalOrders())
+                .createdAt(job.getCreatedAt())
+                .heartbeatAt(job.getCreatedAt())
+                .build());
+        jobs.put(id, job);
+        executor.execute(() -> run(job));
+
+        log.info("Queued order export {} for orders created from {} to {}", id, from, to);
+        return job;
+    }
+
+    /**
+     * Get an export job by ID
+     */
+    public OrderExportJob getExport(String id) {
+        OrderExportJob job = jobs.get(id);
+        if (job != null) {
+            return job;
+        }
+        return orderExportRecordRepository.findById(id)
+                .map(this::toJob)
+                .orElseThrow(() -> new ResourceNotFoundException("Export not found with id: " + id));
+    }
+
+    /**
+     * Path of a file of a completed export
+     */
+    public Path getExportFile(String id, String fileName) {
+        OrderExportJob job = getExport(id);
+        if (job.getStatus() != ExportStatus.COMPLETED || !job.getFiles().contains(fileName)) {
+            throw new ResourceNotFoundException("Export file not found: " + id + "/" + fileName);
+        }
+        Path file = job.getDirectory().resolve(fileName);
+        if (!Files.exists(file)) {
+            // Written by another node to a directory this node does not share
+            log.warn("Export file {} is missing; order.export.directory must be shared by all nodes", file);
+            throw new ResourceNotFoundException("Export file not found: " + id + "/" + fileName);
+        }
+        return file;
+    }
+
+    /**
+     * Write the progress of the jobs on this node, which also shows other
+     * nodes that they are still alive
+     */
+    @Scheduled(fixedDelayString = "${order.export.sync-interval:PT1S}")
+    public void syncJobs() {
+        for (OrderExportJob job : jobs.values()) {
+            sync(job);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdownNow();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Order exports did not stop within 10 s");
+        }
+        for (OrderExportJob job : jobs.values()) {
+            if (!job.isFinished()) {
+                job.setError("Node stopped before the export finished");
+                job.setStatus(ExportStatus.FAILED);
+                job.setFinishedAt(LocalDateTime.now());
+                sync(job);
+            }
+        }
+        try {
+            allocator.close();
+        } catch (IllegalStateException ex) {
+            // Buffers of an export that did not stop in time
+            log.warn("Closed the export allocator with memory still allocated: {}", ex.getMessage());
+        }
+    }
+
+    private void run(OrderExportJob job) {
+        job.setStatus(ExportStatus.RUNNING);
+        job.setStartedAt(LocalDateTime.now());
+        sync(job);
+        long started = System.currentTimeMillis();
+
+        try {
+            Files.createDirectories(job.getDirectory());
+            Timestamp from = Timestamp.valueOf(job.getFrom());
+            Timestamp to = Timestamp.valueOf(job.getTo());
+
+            snapshotTemplate.executeWithoutResult(status -> {
+                job.setTotalOrders(jdbcTemplate.queryForObject(COUNT_SQL, Long.class, from, to, from, to));
+                try (BufferAllocator jobAllocator = allocator.newChildAllocator(job.getId(), 0, allocator.getLimit());
+                        OrderArrowWriter orders = new OrderArrowWriter(jobAllocator,
+                                job.getDirectory().resolve(ORDERS_FILE), batchSize);
+                        OrderLineArrowWriter lines = new OrderLineArrowWriter(jobAllocator,
+                                job.getDirectory().resolve(ORDER_LINES_FILE), batchSize)) {
+                    exportLiveOrders(job, from, to, orders);
+                    exportLiveLines(job, from, to, lines);
+                    exportArchivedOrders(job, from, to, orders, lines);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+
+            job.setFiles(List.of(ORDERS_FILE, ORDER_LINES_FILE));
+            job.setStatus(ExportStatus.COMPLETED);
+            log.info("Order export {} wrote {} orders and {} lines in {} ms", job.getId(),
+                    job.getOrdersWritten().get(), job.getLinesWritten().get(), System.currentTimeMillis() - started);
+        } catch (Exception ex) {
+            log.error("Order export {} failed", job.getId(), ex);
+            job.setError(ex.getMessage());
+            job.setStatus(ExportStatus.FAILED);
+            deleteDirectory(job.getDirectory());
+        } finally {
+            job.setFinishedAt(LocalDateTime.now());
+            if (sync(job)) {
+                jobs.remove(job.getId());
+            }
+        }
+    }
+
+    /**
+     * Write the state of a job on this node to its row; serialized per job, so
+     * a periodic sync cannot overwrite the final state with an older one
+     */
+    private boolean sync(OrderExportJob job) {
+        synchronized (job) {
+            try {
+                orderExportRecordRepository.updateState(job.getId(), job.getStatus(), job.getTotalOrders(),
+                        job.getOrdersWritten().get(), job.getLinesWritten().get(), job.getError(),
+                        job.getStartedAt(), job.getFinishedAt(), LocalDateTime.now());
+                return true;
+            } catch (DataAccessException ex) {
+                log.warn("Failed to record the state of order export {}: {}", job.getId(), ex.getMessage());
+                return false;
+            }
+        }
+    }
+
+    private OrderExportJob toJob(OrderExportRecord record) {
+        OrderExportJob job = new OrderExportJob(record.getId(), record.getRangeFrom(), record.getRangeTo(),
+                directory.resolve(record.getId()), record.getCreatedAt());
+        job.setStatus(record.getStatus());
+        job.setTotalOrders(record.getTotalOrders());
+        job.getOrdersWritten().set(record.getOrdersWritten());
+        job.getLinesWritten().set(record.getLinesWritten());
+        job.setError(record.getError());
+        job.setStartedAt(record.getStartedAt());
+        job.setFinishedAt(record.getFinishedAt());
+        if (record.getStatus() == ExportStatus.COMPLETED) {
+            job.setFiles(List.of(ORDERS_FILE, ORDER_LINES_FILE));
+        } else if (!job.isFinished() && record.getHeartbeatAt().isBefore(LocalDateTime.now().minus(staleAfter))) {
+            job.setError("The node running the export stopped before it finished");
+            job.setStatus(ExportStatus.FAILED);
+        }
+        return job;
+    }
+
+    private void exportLiveOrders(OrderExportJob job, Timestamp from, Timestamp to, OrderArrowWriter orders) {
+        stream(ORDERS_SQL, from, to, rs -> {
+            Timestamp updatedAt = rs.getTimestamp("updated_at");
+            orders.write(rs.getLong("id"),
+                    rs.getString("order_number"),
+                    rs.getLong("restaurant_id"),
+                    rs.getString("status"),
+                    rs.getBigDecimal("total_amount"),
+                    rs.getTimestamp("created_at").toLocalDateTime(),
+                    updatedAt != null ? updatedAt.toLocalDateTime() : null);
+            job.getOrdersWritten().incrementAndGet();
+        });
+    }
+
+    private void exportLiveLines(OrderExportJob job, Timestamp from, Timestamp to, OrderLineArrowWriter lines) {
+        stream(LINES_SQL, from, to, rs -> {
+            lines.write(rs.getLong("id"),
+                    rs.getLong("order_id"),
+                    rs.getLong("menu_item_id"),
+                    rs.getInt("quantity"),
+                    rs.getBigDecimal("price_at_order"),
+                    rs.getBigDecimal("subtotal"));
+            job.getLinesWritten().incrementAndGet();
+        });
+    }
+
+    private void exportArchivedOrders(OrderExportJob job, Timestamp from, Timestamp to,
+            OrderArrowWriter orders, OrderLineArrowWriter lines) {
+        stream(ARCHIVED_SQL, from, to, rs -> {
+            OrderResponse order = orderArchiveService.decodePayload(rs.getBytes("payload"));
+            orders.write(order.getId(),
+                    order.getOrderNumber(),
+                    order.getRestaurantId(),
+                    order.getStatus().name(),
+                    order.getTotalAmount(),
+                    order.getCreatedAt(),
+                    order.getUpdatedAt());
+            job.getOrdersWritten().incrementAndGet();
+
+            for (OrderItemResponse item : order.getItems()) {
+                lines.write(item.getId(),
+                        order.getId(),
+                        item.getMenuItemId(),
+                        item.getQuantity(),
+                        item.getPriceAtOrder(),
+                        item.getSubtotal());
+                job.getLinesWritten().incrementAndGet();
+            }
+        });
+    }
+
+    // PostgreSQL only uses a cursor for fetch size inside a transaction
+    private void stream(String sql, Timestamp from, Timestamp to, RowWriter rowWriter) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setTimestamp(1, from);
+            statement.setTimestamp(2, to);
+            return statement;
+        }, (ResultSet rs) -> {
+            try {
+                rowWriter.write(rs);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private void removeExpiredJobs() {
+        LocalDateTime expiry = LocalDateTime.now().minus(retention);
+        // Finished jobs whose final state could not be recorded
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(expiry));
+
+        List<OrderExportRecord> expired = orderExportRecordRepository.findExpired(expiry);
+        for (OrderExportRecord record : expired) {
+            deleteDirectory(directory.resolve(record.getId()));
+        }
+        orderExportRecordRepository.deleteAllInBatch(expired);
+    }
+
+    private void deleteDirectory(Path path) {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        } catch (IOException ex) {
+            log.warn("Failed to delete export directory {}", path, ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws IOException, SQLException;
+    }
+}
@@ -0,0 +1,383 @@
+package com.delivery.order_management.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.delivery.order_management.config.CacheNames;
+import com.delivery.order_management.event.OrderCreatedEvent;
+import com.delivery.order_management.event.OrderSnapshot;
+import com.delivery.order_management.exception.InsufficientStockException;
+import com.delivery.order_management.exception.OrderIntakeRejectedException;
+import com.delivery.order_management.exception.ResourceNotFoundException;
+import com.delivery.order_management.model.dto.CreateOrderRequest;
+import com.delivery.order_management.model.dto.OrderItemRequest;
+import com.delivery.order_management.model.entity.MenuItem;
+import com.delivery.order_management.model.entity.Order;
+import com.delivery.order_management.model.entity.OrderItem;
+import com.delivery.order_management.model.entity.Restaurant;
+import com.delivery.order_management.repository.MenuItemRepository;
+import com.delivery.order_management.repository.OrderRepository;
+import com.delivery.order_management.repository.RestaurantRepository;
+import com.delivery.order_management.service.intake.MpscRingBuffer;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Entry point for order submission.
+ *
+ * In the default direct mode each order is its own transaction. In batched
+ * mode request threads put orders into a bounded lock-free ring buffer and a
+ * single writer thread drains up to max-batch-size orders or waits at most
+ * max-batch-delay, then locks the batch's menu items once, reserves stock in
+ * memory order by order and inserts every accepted order in one transaction,
+ * so orders no longer contend on menu item rows and share one commit. An
+ * order that fails validation or stock is rejected alone; if the batch
+ * transaction itself fails, its orders are retried one by one.
+ *
+ * Callers may pass a hook that runs with the saved order inside the
+ * transaction that writes it, in either mode.
+ *
+ * Request threads wait at most result-timeout for their order. On shutdown
+ * the writer drains the queue, and anything still queued once it has stopped
+ * is rejected, so no caller is left waiting on an order nobody will write.
+ */
+@Service
+@Slf4j
+public class OrderIntakeService {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final OrderService orderService;
+    private final RestaurantRepository restaurantRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache menuItemCache;
+
+    private final boolean batched;
+    private final int maxBatchSize;
+    private final long maxBatchDelayNanos;
+    private final long resultTimeoutNanos;
+    private final MpscRingBuffer<PendingOrder> queue;
+    private final DistributionSummary batchSizes;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    // Set by the writer once it stops polling; from then on queued orders are rejected
+    private volatile boolean writerStopped;
+    private volatile Thread writer;
+
+    public OrderIntakeService(OrderService orderService,
+            RestaurantRepository restaurantRepository,
+            MenuItemRepository menuItemRepository,
+            OrderRepository orderRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            CacheManager cacheManager,
+            MeterRegistry meterRegistry,
+            @Value("${order.intake.mode:direct}") String mode,
+            @Value("${order.intake.queue-capacity:4096}") int queueCapacity,
+            @Value("${order.intake.max-batch-size:64}") int maxBatchSize,
+            @Value("${order.intake.max-batch-delay:2ms}") Duration maxBatchDelay,
+            @Value("${order.intake.result-timeout:30s}") Duration resultTimeout) {
+        this.orderService = orderService;
+        this.restaurantRepository = restaurantRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.orderRepository = orderRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.menuItemCache = cacheManager.getCache(CacheNames.MENU_ITEMS);
+
+        this.batched = "batched".equals(mode.toLowerCase(Locale.ROOT));
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchDelayNanos = maxBatchDelay.toNanos();
+        this.resultTimeoutNanos = resultTimeout.toNanos();
+        this.queue = new MpscRingBuffer<>(queueCapacity);
+
+        this.batchSizes = DistributionSummary.builder("order.intake.batch.size")
+                .description("Orders written per intake transaction")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("order.intake.batch.duration")
+                .description("Time to write one intake batch")
+                .register(meterRegistry);
+        Gauge.builder("order.intake.queue.depth", queue, MpscRingBuffer::size)
+                .description("Orders waiting for the intake writer")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!batched) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("order-intake-writer").daemon(true).start(this::runWriter);
+        log.info("Batched order intake started: queue {}, batches of up to {} orders or {} us",
+                queue.capacity(), maxBatchSize, TimeUnit.NANOSECONDS.toMicros(maxBatchDelayNanos));
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        // The writer drains what is already queued before it exits
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        if (writer.isAlive()) {
+            // Still inside a batch; callers are released by their result timeout
+            log.warn("Order intake writer did not stop within 10 s, {} orders still queued", queue.size());
+        }
+    }
+
+    /**
+     * Create an order directly or through the batched writer, depending on order.intake.mode
+     */
+    public Order submit(CreateOrderRequest request) {
+        return submit(request, order -> {
+        });
+    }
+
+    /**
+     * Same, passing the saved order to inTransaction before its transaction commits
+     */
+    public Order submit(CreateOrderRequest request, Consumer<Order> inTransaction) {
+        if (!batched) {
+            return orderService.createOrder(request, inTransaction);
+        }
+
+        PendingOrder pending = new PendingOrder(request, inTransaction, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            throw new OrderIntakeRejectedException("Order intake is at capacity, please retry shortly");
+        }
+        LockSupport.unpark(writer);
+        if (writerStopped) {
+            // Raced with stop(): the writer is gone, so nobody else will take this order
+            rejectQueued();
+        }
+
+        try {
+            return pending.result().get(resultTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Order intake failed", ex.getCause());
+        } catch (TimeoutException ex) {
+            // The order may still be written; a retry with the same Idempotency-Key returns it
+            throw new OrderIntakeRejectedException("Order intake did not answer in time, please retry");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new OrderIntakeRejectedException("Interrupted while waiting for order intake");
+        }
+    }
+
+    /**
+     * Reject everything left in the queue; only once the writer has stopped
+     * polling, and serialized, as the queue allows a single consumer
+     */
+    private synchronized void rejectQueued() {
+        PendingOrder pending;
+        int rejected = 0;
+        while ((pending = queue.poll()) != null) {
+            pending.result().completeExceptionally(
+                    new OrderIntakeRejectedException("Order intake is shutting down, please retry"));
+            rejected++;
+        }
+        if (rejected > 0) {
+            log.warn("Rejected {} queued orders after the intake writer stopped", rejected);
+        }
+    }
+
+    private void runWriter() {
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        while (true) {
+            PendingOrder first = queue.poll();
+            if (first == null) {
+                if (!running) {
+                    // Producers check the flag after enqueueing, so either they or this drain sees each order
+                    writerStopped = true;
+                    rejectQueued();
+                    return;
+                }
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+
+            batch.add(first);
+            long deadline = System.nanoTime() + maxBatchDelayNanos;
+            while (batch.size() < maxBatchSize) {
+                PendingOrder next = queue.poll();
+                if (next != null) {
+                    batch.add(next);
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !running) {
+                    break;
+                }
+                // Producers unpark the writer as soon as they enqueue
+                LockSupport.parkNanos(this, remaining);
+            }
+
+            try {
+                writeBatch(batch);
+            } catch (RuntimeException | Error ex) {
+                log.error("Order intake writer failed on a batch of {}", batch.size(), ex);
+                batch.forEach(pending -> pending.result().completeExceptionally(ex));
+            }
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<PendingOrder> batch) {
+        batchSizes.record(batch.size());
+        batchTimer.record(() -> {
+            List<Outcome> outcomes;
+            try {
+                outcomes = transactionTemplate.execute(status -> persistBatch(batch));
+            } catch (RuntimeException ex) {
+                log.warn("Order batch of {} failed ({}), writing orders one by one", batch.size(), ex.getMessage());
+                writeIndividually(batch);
+                return;
+            }
+
+            // Completed only after commit, so callers never see an order that may roll back
+            for (Outcome outcome : outcomes) {
+                if (outcome.error() != null) {
+                    outcome.pending().result().completeExceptionally(outcome.error());
+                } else {
+                    outcome.pending().result().complete(outcome.order());
+                }
+            }
+        });
+    }
+
+    private List<Outcome> persistBatch(List<PendingOrder> batch) {
+        Set<Long> restaurantIds = new HashSet<>();
+        Set<Long> menuItemIds = new HashSet<>();
+        for (PendingOrder pending : batch) {
+            restaurantIds.add(pending.request().getRestaurantId());
+            for (OrderItemRequest item : pending.request().getItems()) {
+                menuItemIds.add(item.getMenuItemId());
+            }
+        }
+
+        Map<Long, Restaurant> restaurants = new HashMap<>();
+        restaurantRepository.findAllById(restaurantIds).forEach(restaurant -> restaurants.put(restaurant.getId(), restaurant));
+        Map<Long, MenuItem> menuItems = new HashMap<>();
+        Map<Long, Integer> remainingStock = new HashMap<>();
+        for (MenuItem menuItem : menuItemRepository.findAllForUpdateByIdIn(menuItemIds)) {
+            menuItems.put(menuItem.getId(), menuItem);
+            remainingStock.put(menuItem.getId(), menuItem.getStockQuantity() != null ? menuItem.getStockQuantity() : 0);
+        }
+
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+        List<Order> accepted = new ArrayList<>(batch.size());
+        for (PendingOrder pending : batch) {
+            try {
+                Order order = buildAndReserve(pending.request(), restaurants, menuItems, remainingStock);
+                accepted.add(order);
+                outcomes.add(new Outcome(pending, order, null));
+            } catch (RuntimeException ex) {
+                outcomes.add(new Outcome(pending, null, ex));
+            }
+        }
+
+        // Managed entities: one UPDATE per touched menu item at flush
+        remainingStock.forEach((menuItemId, stock) -> {
+            MenuItem menuItem = menuItems.get(menuItemId);
+            if (!stock.equals(menuItem.getStockQuantity())) {
+                menuItem.setStockQuantity(stock);
+                menuItemCache.evict(menuItemId);
+            }
+        });
+
+        for (Order order : orderRepository.saveAll(accepted)) {
+            eventPublisher.publishEvent(new OrderCreatedEvent(OrderSnapshot.from(order)));
+        }
+        // A failing hook fails the batch, which is then written order by order
+        for (Outcome outcome : outcomes) {
+            if (outcome.order() != null) {
+                outcome.pending().inTransaction().accept(outcome.order());
+            }
+        }
+        log.debug("Order batch written: {} accepted, {} rejected", accepted.size(), batch.size() - accepted.size());
+        return outcomes;
+    }
+
+    private Order buildAndReserve(CreateOrderRequest request, Map<Long, Restaurant> restaurants,
+            Map<Long, MenuItem> menuItems, Map<Long, Integer> remainingStock) {
+        Restaurant restaurant = restaurants.get(request.getRestaurantId());
+        if (restaurant == null) {
+            throw new ResourceNotFoundException("Restaurant not found with id: " + request.getRestaurantId());
+        }
+
+        Order order = orderService.buildOrder(request, restaurant, id -> {
+            MenuItem menuItem = menuItems.get(id);
+            if (menuItem == null) {
+                throw new ResourceNotFoundException("Menu item not found with id: " + id);
+            }
+            return menuItem;
+        });
+
+        // All lines of an order must fit before any stock is taken
+        Map<Long, Integer> needed = new HashMap<>();
+        for (OrderItem item : order.getOrderItems()) {
+            needed.merge(item.getMenuItem().getId(), item.getQuantity(), Integer::sum);
+        }
+        needed.forEach((menuItemId, quantity) -> {
+            if (remainingStock.get(menuItemId) < quantity) {
+                throw new InsufficientStockException("Insufficient stock for menu item: " + menuItemId);
+            }
+        });
+        needed.forEach((menuItemId, quantity) -> remainingStock.merge(menuItemId, -quantity, Integer::sum));
+
+        return order;
+    }
+
+    private void writeIndividually(List<PendingOrder> batch) {
+        for (PendingOrder pending : batch) {
+            try {
+                pending.result().complete(orderService.createOrder(pending.request(), pending.inTransaction()));
+            } catch (RuntimeException ex) {
+                pending.result().completeExceptionally(ex);
+            }
+        }
+    }
+
+    private record PendingOrder(CreateOrderRequest request, Consumer<Order> inTransaction,
+            CompletableFuture<Order> result) {
+    }
+
+    private record Outcome(PendingOrder pending, Order order, RuntimeException error) {
+    }
+}
@@ -1,17 +1,37 @@
 package com.delivery.order_management.service;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.delivery.order_management.event.OrderCreatedEvent;
+import com.delivery.order_management.event.OrderSnapshot;
+import com.delivery.order_management.event.OrderStatusChangedEvent;
+import com.delivery.order_management.exception.InvalidOrderException;
 import com.delivery.order_management.exception.ResourceNotFoundException;
+import com.delivery.order_management.exception.RestaurantClosedException;
+import com.delivery.order_management.model.dto.CreateOrderRequest;
+import com.delivery.order_management.model.dto.OrderItemRequest;
+import com.delivery.order_management.model.entity.MenuItem;
 import com.delivery.order_management.model.entity.Order;
+import com.delivery.order_management.model.entity.OrderItem;
 import com.delivery.order_management.model.entity.OrderStatus;
+import com.delivery.order_management.model.entity.Restaurant;
 import com.delivery.order_management.repository.OrderRepository;
+import com.delivery.order_management.service.ordernumber.OrderNumberGenerator;
+import com.delivery.order_management.service.pricing.OrderPricer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +45,8 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final RestaurantService restaurantService;
     private final MenuItemService menuItemService;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all orders with pagination
@@ -43,6 +65,14 @@ public class OrderService {
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + id));
     }
 
+    /**
+     * Get orders by IDs with their items in one query; unknown IDs are skipped
+     */
+    public List<Order> getOrdersByIds(Collection<Long> ids) {
+        log.info("Fetching {} orders by id", ids.size());
+        return orderRepository.findWithItemsByIdIn(ids);
+    }
+
     /**
      * Get order by order number
      */
@@ -52,6 +82,14 @@ public class OrderService {
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found with order number: " + orderNumber));
     }
 
+    /**
+     * Find a live order by order number; archived orders are not searched
+     */
+    public Optional<Order> findOrderByOrderNumber(String orderNumber) {
+        log.info("Looking up order with order number: {}", orderNumber);
+        return orderRepository.findByOrderNumber(orderNumber);
+    }
+
     /**
      * Get orders by status
      */
@@ -69,20 +107,88 @@ public class OrderService {
     }
 
     /**
-     * Generate unique order number
+     * Create order: validate restaurant and items, reserve stock and persist
      */
-    private String generateOrderNumber() {
-        return "ORD-" + System.currentTimeMillis() + "-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    @Transactional
+    public Order createOrder(CreateOrderRequest request) {
+        return createOrder(request, order -> {
+        });
     }
 
     /**
-     * Create order (will implement in Day 3)
+     * Create order and pass the saved order to inTransaction before commit, so
+     * writes that must commit or roll back with the order share its transaction
      */
     @Transactional
-    public Order createOrder(Order order) {
-        log.info("Creating new order");
-        // TODO: Implement in Day 3
-        return null;
+    public Order createOrder(CreateOrderRequest request, Consumer<Order> inTransaction) {
+        log.info("Creating new order for restaurant: {}", request.getRestaurantId());
+
+        Restaurant restaurant = restaurantService.getRestaurantById(request.getRestaurantId());
+        Map<Long, MenuItem> menuItems = menuItemService.getMenuItemsForPricing(request.getItems().stream()
+                .map(OrderItemRequest::getMenuItemId)
+                .collect(Collectors.toSet()));
+        Order order = buildOrder(request, restaurant, id -> {
+            MenuItem menuItem = menuItems.get(id);
+            if (menuItem == null) {
+                throw new ResourceNotFoundException("Menu item not found with id: " + id);
+            }
+            return menuItem;
+        });
+
+        for (OrderItem item : inLockOrder(order.getOrderItems())) {
+            menuItemService.decreaseStock(item.getMenuItem().getId(), item.getQuantity());
+        }
+
+        Order saved = orderRepository.save(order);
+        inTransaction.accept(saved);
+        eventPublisher.publishEvent(new OrderCreatedEvent(OrderSnapshot.from(saved)));
+
+        return saved;
+    }
+
+    /**
+     * Validate a request against loaded restaurant and menu items and build the
+     * unsaved order with its lines and total; stock is left to the caller
+     */
+    Order buildOrder(CreateOrderRequest request, Restaurant restaurant, Function<Long, MenuItem> menuItems) {
+        if (!restaurantService.isOpen(restaurant)) {
+            throw new RestaurantClosedException("Restaurant is closed: " + restaurant.getId());
+        }
+
+        Order order = Order.builder()
+                .orderNumber(orderNumberGenerator.nextOrderNumber())
+                .restaurant(restaurant)
+                .customerName(request.getCustomerName())
+                .customerPhone(request.getCustomerPhone())
+                .deliveryAddress(request.getDeliveryAddress())
+                .deliveryLatitude(request.getDeliveryLatitude())
+                .deliveryLongitude(request.getDeliveryLongitude())
+                .status(OrderStatus.PENDING)
+                .notes(request.getNotes())
+                .build();
+
+        for (OrderItemRequest itemRequest : request.getItems()) {
+            MenuItem menuItem = menuItems.apply(itemRequest.getMenuItemId());
+
+            if (!menuItem.getRestaurant().getId().equals(restaurant.getId())) {
+                throw new InvalidOrderException(
+                        "Menu item " + menuItem.getId() + " does not belong to restaurant " + restaurant.getId());
+            }
+            if (!Boolean.TRUE.equals(menuItem.getIsAvailable())) {
+                throw new InvalidOrderException("Menu item is not available: " + menuItem.getId());
+            }
+
+            order.getOrderItems().add(OrderItem.builder()
+                    .order(order)
+                    .menuItem(menuItem)
+                    .quantity(itemRequest.getQuantity())
+                    .priceAtOrder(menuItem.getPrice())
+                    .notes(itemRequest.getNotes())
+                    .build());
+        }
+        order.setTotalAmount(OrderPricer.price(order.getOrderItems()));
+
+        return order;
     }
 
     /**
@@ -93,9 +199,38 @@ public class OrderService {
         log.info("Updating order {} to status: {}", orderId, newStatus);
 
         Order order = getOrderById(orderId);
+        OrderStatus previousStatus = order.getStatus();
+        if (previousStatus == newStatus) {
+            return order;
+        }
         order.setStatus(newStatus);
 
-        return orderRepository.save(order);
+        // Flushed so updated_at is stamped before the snapshot; listeners order changes by it
+        Order saved = orderRepository.saveAndFlush(order);
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(OrderSnapshot.from(saved), previousStatus));
+
+        return saved;
+    }
+
+    /**
+     * Move the given orders that are still ready for pickup out for delivery
+     * with one locking read and one UPDATE, and publish a status change for
+     * each; orders that moved on meanwhile are left alone
+     */
+    @Transactional
+    public List<Order> dispatchOrders(Collection<Long> orderIds) {
+        List<Long> ready = orderRepository.lockIdsByIdInAndStatus(orderIds, OrderStatus.READY_FOR_PICKUP.name());
+        if (ready.isEmpty()) {
+            return List.of();
+        }
+        orderRepository.updateStatusByIdIn(ready, OrderStatus.OUT_FOR_DELIVERY, LocalDateTime.now());
+
+        List<Order> dispatched = orderRepository.findWithItemsByIdIn(ready);
+        for (Order order : dispatched) {
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(OrderSnapshot.from(order), OrderStatus.READY_FOR_PICKUP));
+        }
+        log.info("Dispatched {} of {} orders", dispatched.size(), orderIds.size());
+        return dispatched;
     }
 
     /**
@@ -104,6 +239,27 @@ public class OrderService {
     @Transactional
     public Order cancelOrder(Long orderId) {
         log.info("Cancelling order: {}", orderId);
+
+        Order order = getOrderById(orderId);
+        if (order.getStatus() == OrderStatus.CANCELLED || order.getStatus() == OrderStatus.DELIVERED) {
+            throw new InvalidOrderException("Order cannot be cancelled in status: " + order.getStatus());
+        }
+
+        // Return reserved stock
+        for (OrderItem item : inLockOrder(order.getOrderItems())) {
+            menuItemService.increaseStock(item.getMenuItem().getId(), item.getQuantity());
+        }
+
         return updateOrderStatus(orderId, OrderStatus.CANCELLED);
     }
+
+    /**
+     * Lines sorted by menu item id, so concurrent orders lock stock rows in
+     * the same order as the batched intake and cannot deadlock each other
+     */
+    private static List<OrderItem> inLockOrder(Collection<OrderItem> items) {
+        return items.stream()
+                .sorted(Comparator.comparing(item -> item.getMenuItem().getId()))
+                .toList();
+    }
 }
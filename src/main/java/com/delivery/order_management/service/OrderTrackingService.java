@@ -0,0 +1,99 @@
+package com.delivery.order_management.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.delivery.order_management.event.OrderCreatedEvent;
+import com.delivery.order_management.event.OrderSnapshot;
+import com.delivery.order_management.event.OrderStatusChangedEvent;
+import com.delivery.order_management.model.dto.OrderTrackingEvent;
+import com.delivery.order_management.model.entity.Order;
+import com.delivery.order_management.model.entity.OrderStatus;
+import com.delivery.order_management.repository.OrderRepository;
+import com.delivery.order_management.service.tracking.OrderTrackingHub;
+import com.delivery.order_management.service.tracking.OrderTrackingRelay;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Push channel for order status changes, replacing client polling.
+ *
+ * Subscribers first receive the current state read once from the database,
+ * then every committed change for their order or restaurant. The hub
+ * registers them before that read, so no change falls in between.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class OrderTrackingService {
+
+    private final OrderService orderService;
+    private final RestaurantService restaurantService;
+    private final OrderRepository orderRepository;
+    private final OrderTrackingHub hub;
+    private final OrderTrackingRelay relay;
+
+    /**
+     * Subscribe to status changes of one order
+     */
+    public SseEmitter subscribeToOrder(String orderNumber) {
+        log.info("Subscribing to order tracking for order number: {}", orderNumber);
+
+        return hub.subscribeOrder(orderNumber, () -> toEvent(orderService.getOrderByOrderNumber(orderNumber)));
+    }
+
+    /**
+     * Subscribe to the active order board of a restaurant
+     */
+    public SseEmitter subscribeToRestaurant(Long restaurantId) {
+        log.info("Subscribing to order tracking for restaurant: {}", restaurantId);
+
+        // Validate restaurant exists
+        restaurantService.getRestaurantById(restaurantId);
+
+        return hub.subscribeRestaurant(restaurantId, () -> orderRepository
+                .findByRestaurantIdAndStatusIn(restaurantId, OrderStatus.ACTIVE_STATUSES).stream()
+                .map(this::toEvent)
+                .toList());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        relay.publish(toEvent(event.order(), null));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        relay.publish(toEvent(event.order(), event.previousStatus()));
+    }
+
+    private OrderTrackingEvent toEvent(OrderSnapshot order, OrderStatus previousStatus) {
+        return OrderTrackingEvent.builder()
+                .orderId(order.id())
+                .orderNumber(order.orderNumber())
+                .restaurantId(order.restaurantId())
+                .status(order.status())
+                .previousStatus(previousStatus)
+                .occurredAt(LocalDateTime.now())
+                .updatedAt(order.updatedAt())
+                .build();
+    }
+
+    private OrderTrackingEvent toEvent(Order order) {
+        return OrderTrackingEvent.builder()
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .restaurantId(order.getRestaurant().getId())
+                .status(order.getStatus())
+                .occurredAt(order.getUpdatedAt())
+                .updatedAt(order.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,206 @@
+package com.delivery.order_management.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.delivery.order_management.event.OrderCreatedEvent;
+import com.delivery.order_management.event.OrderLineSnapshot;
+import com.delivery.order_management.event.OrderSnapshot;
+import com.delivery.order_management.event.OrderStatusChangedEvent;
+import com.delivery.order_management.event.RemoteOrderChangedEvent;
+import com.delivery.order_management.model.dto.PopularItemResponse;
+import com.delivery.order_management.model.entity.MenuItem;
+import com.delivery.order_management.model.entity.OrderStatus;
+import com.delivery.order_management.repository.MenuItemRepository;
+import com.delivery.order_management.repository.OrderItemRepository;
+import com.delivery.order_management.service.analytics.PopularityWindow;
+import com.delivery.order_management.service.analytics.SlidingTopK;
+import com.delivery.order_management.service.analytics.SpaceSaving;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Popular menu items over the last hour, day and week, globally and per
+ * restaurant, kept in bounded memory from the order line stream.
+ *
+ * The global ranking uses Space-Saving summaries backed by Count-Min Sketches;
+ * restaurant rankings use Space-Saving only since a menu rarely exceeds the
+ * summary capacity. Rankings are approximate and report an error bound.
+ *
+ * Cancelled orders do not count: a cancellation retracts the order's lines,
+ * as the warm-up query leaves cancelled orders out. Lines are counted at the
+ * order's creation time on both paths, so they land in the same slots.
+ * Orders of other nodes arrive through the tracking relay, as for the order
+ * analytics rollups.
+ */
+@Service
+@Slf4j
+public class PopularItemsService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final OrderItemRepository orderItemRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final int restaurantCapacity;
+
+    private final Map<PopularityWindow, SlidingTopK> globalWindows = new EnumMap<>(PopularityWindow.class);
+    private final Map<Long, Map<PopularityWindow, SlidingTopK>> restaurantWindows = new ConcurrentHashMap<>();
+    private final Map<Long, ItemLabel> itemLabels = new ConcurrentHashMap<>();
+
+    public PopularItemsService(OrderItemRepository orderItemRepository,
+            MenuItemRepository menuItemRepository,
+            @Value("${order.popular-items.global-capacity:1024}") int globalCapacity,
+            @Value("${order.popular-items.restaurant-capacity:64}") int restaurantCapacity,
+            @Value("${order.popular-items.sketch-width:2048}") int sketchWidth,
+            @Value("${order.popular-items.sketch-depth:4}") int sketchDepth) {
+        this.orderItemRepository = orderItemRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.restaurantCapacity = restaurantCapacity;
+
+        for (PopularityWindow window : PopularityWindow.values()) {
+            globalWindows.put(window, new SlidingTopK(window, globalCapacity, sketchWidth, sketchDepth));
+        }
+    }
+
+    /**
+     * Seed the windows from the hourly order line aggregates of the last week
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDateTime since = LocalDateTime.now().minus(PopularityWindow.LAST_WEEK.length());
+        int rows = 0;
+        for (Object[] row : orderItemRepository.aggregateByRestaurantHourAndMenuItem(since)) {
+            Long restaurantId = ((Number) row[0]).longValue();
+            LocalDateTime bucket = row[1] instanceof Timestamp timestamp
+                    ? timestamp.toLocalDateTime()
+                    : (LocalDateTime) row[1];
+            long menuItemId = ((Number) row[2]).longValue();
+            long quantity = ((Number) row[3]).longValue();
+
+            record(restaurantId, menuItemId, quantity, toEpochMillis(bucket));
+            rows++;
+        }
+        log.info("Popular items warmed up from {} hourly aggregates", rows);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        addOrder(event.order());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        moveOrder(event.order(), event.previousStatus());
+    }
+
+    @EventListener
+    public void onRemoteOrderChanged(RemoteOrderChangedEvent event) {
+        if (event.previousStatus() == null) {
+            addOrder(event.order());
+        } else {
+            moveOrder(event.order(), event.previousStatus());
+        }
+    }
+
+    /**
+     * Top items in a window, for one restaurant or all restaurants when restaurantId is null
+     */
+    public List<PopularItemResponse> getPopularItems(Long restaurantId, PopularityWindow window, int limit) {
+        log.info("Fetching popular items for restaurant: {} in window: {}", restaurantId, window);
+
+        SlidingTopK topK = restaurantId == null
+                ? globalWindows.get(window)
+                : restaurantWindows.getOrDefault(restaurantId, Map.of()).get(window);
+        if (topK == null) {
+            return List.of();
+        }
+
+        List<SpaceSaving.Entry> ranked = topK.top(Math.min(Math.max(limit, 1), MAX_LIMIT), System.currentTimeMillis());
+        resolveMissingLabels(ranked);
+
+        List<PopularItemResponse> response = new ArrayList<>(ranked.size());
+        for (SpaceSaving.Entry entry : ranked) {
+            ItemLabel label = itemLabels.get(entry.key());
+            response.add(PopularItemResponse.builder()
+                    .menuItemId(entry.key())
+                    .menuItemName(label != null ? label.name() : null)
+                    .restaurantId(label != null ? label.restaurantId() : restaurantId)
+                    .quantity(entry.count())
+                    .maxError(entry.error())
+                    .build());
+        }
+        return response;
+    }
+
+    private void addOrder(OrderSnapshot order) {
+        for (OrderLineSnapshot line : order.lines()) {
+            itemLabels.put(line.menuItemId(), new ItemLabel(line.menuItemName(), order.restaurantId()));
+        }
+        if (order.status() != OrderStatus.CANCELLED) {
+            recordLines(order, 1);
+        }
+    }
+
+    private void moveOrder(OrderSnapshot order, OrderStatus previousStatus) {
+        if (order.status() == OrderStatus.CANCELLED) {
+            recordLines(order, -1);
+        } else if (previousStatus == OrderStatus.CANCELLED) {
+            recordLines(order, 1);
+        }
+    }
+
+    private void recordLines(OrderSnapshot order, int sign) {
+        long createdAt = toEpochMillis(order.createdAt());
+        for (OrderLineSnapshot line : order.lines()) {
+            record(order.restaurantId(), line.menuItemId(), (long) sign * line.quantity(), createdAt);
+        }
+    }
+
+    private void record(Long restaurantId, long menuItemId, long quantity, long timestamp) {
+        Map<PopularityWindow, SlidingTopK> windows = restaurantWindows.computeIfAbsent(restaurantId, id -> {
+            Map<PopularityWindow, SlidingTopK> perWindow = new EnumMap<>(PopularityWindow.class);
+            for (PopularityWindow window : PopularityWindow.values()) {
+                perWindow.put(window, new SlidingTopK(window, restaurantCapacity, 0, 0));
+            }
+            return perWindow;
+        });
+
+        for (PopularityWindow window : PopularityWindow.values()) {
+            globalWindows.get(window).add(menuItemId, quantity, timestamp);
+            windows.get(window).add(menuItemId, quantity, timestamp);
+        }
+    }
+
+    // Items only seen during warm-up have no label yet; fetch them in one query
+    private void resolveMissingLabels(List<SpaceSaving.Entry> ranked) {
+        List<Long> missing = ranked.stream()
+                .map(SpaceSaving.Entry::key)
+                .filter(id -> !itemLabels.containsKey(id))
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        for (MenuItem menuItem : menuItemRepository.findAllById(missing)) {
+            itemLabels.put(menuItem.getId(), new ItemLabel(menuItem.getName(), menuItem.getRestaurant().getId()));
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record ItemLabel(String name, Long restaurantId) {
+    }
+}
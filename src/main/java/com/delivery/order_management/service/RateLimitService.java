@@ -0,0 +1,92 @@
+package com.delivery.order_management.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.delivery.order_management.exception.RateLimitExceededException;
+import com.delivery.order_management.service.admission.RateLimit;
+import com.delivery.order_management.service.admission.RateLimitStore;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Token bucket limits per API client on every request, and per restaurant
+ * and per customer phone on order placement, so one integration partner or
+ * one runaway script cannot take the connection pool from everyone else.
+ *
+ * Checks against the local store take one CAS and allocate nothing when the
+ * request is allowed.
+ */
+@Service
+public class RateLimitService {
+
+    private final RateLimitStore store;
+    private final boolean enabled;
+    private final Limiter client;
+    private final Limiter restaurantOrders;
+    private final Limiter customerOrders;
+
+    public RateLimitService(RateLimitStore store,
+            MeterRegistry meterRegistry,
+            @Value("${order.rate-limit.enabled:true}") boolean enabled,
+            @Value("${order.rate-limit.slots:65536}") int slots,
+            @Value("${order.rate-limit.client.rate:100}") double clientRate,
+            @Value("${order.rate-limit.client.burst:200}") int clientBurst,
+            @Value("${order.rate-limit.restaurant-orders.rate:20}") double restaurantRate,
+            @Value("${order.rate-limit.restaurant-orders.burst:40}") int restaurantBurst,
+            @Value("${order.rate-limit.customer-orders.rate:0.1}") double customerRate,
+            @Value("${order.rate-limit.customer-orders.burst:5}") int customerBurst) {
+        this.store = store;
+        this.enabled = enabled;
+        this.client = new Limiter(new RateLimit("client", clientRate, clientBurst, slots), meterRegistry);
+        this.restaurantOrders = new Limiter(
+                new RateLimit("restaurant-orders", restaurantRate, restaurantBurst, slots), meterRegistry);
+        this.customerOrders = new Limiter(
+                new RateLimit("customer-orders", customerRate, customerBurst, slots), meterRegistry);
+    }
+
+    /**
+     * Every API request, keyed by the caller's client id or address
+     */
+    public void checkClient(String clientKey) {
+        if (enabled) {
+            reject(client, store.tryAcquire(client.limit(), clientKey), "Too many requests from this client");
+        }
+    }
+
+    /**
+     * Order placement, keyed by restaurant and by customer phone
+     */
+    public void checkOrder(long restaurantId, String customerPhone) {
+        if (!enabled) {
+            return;
+        }
+        reject(restaurantOrders, store.tryAcquire(restaurantOrders.limit(), restaurantId),
+                "Too many orders for this restaurant");
+        if (customerPhone != null) {
+            reject(customerOrders, store.tryAcquire(customerOrders.limit(), customerPhone),
+                    "Too many orders from this customer");
+        }
+    }
+
+    private static void reject(Limiter limiter, long waitNanos, String message) {
+        if (waitNanos > 0) {
+            limiter.rejected().increment();
+            throw new RateLimitExceededException(message,
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+        }
+    }
+
+    private record Limiter(RateLimit limit, Counter rejected) {
+
+        Limiter(RateLimit limit, MeterRegistry meterRegistry) {
+            this(limit, Counter.builder("order.rate_limit.rejected")
+                    .description("Requests refused by a rate limit")
+                    .tag("limit", limit.name())
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -2,12 +2,17 @@ package com.delivery.order_management.service;
 
 import java.util.List;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.delivery.order_management.config.CacheNames;
 import com.delivery.order_management.exception.ResourceNotFoundException;
 import com.delivery.order_management.model.entity.Restaurant;
 import com.delivery.order_management.repository.RestaurantRepository;
+import com.delivery.order_management.service.concurrency.OptimisticLockRetry;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +24,8 @@ import lombok.extern.slf4j.Slf4j;
 public class RestaurantService {
 
     private final RestaurantRepository restaurantRepository;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final NearbyRestaurantService nearbyRestaurantService;
 
     /**
      * Get all restaurants
@@ -64,49 +71,78 @@ public class RestaurantService {
         if (restaurantRepository.existsByNameIgnoreCase(restaurant.getName())) {
             throw new IllegalArgumentException("Restaurant with name already exists: " + restaurant.getName());
         }
+        restaurant.setVersion(null);
 
-        return restaurantRepository.save(restaurant);
+        Restaurant saved = restaurantRepository.save(restaurant);
+        nearbyRestaurantService.markStale();
+        return saved;
     }
 
     /**
-     * Update restaurant
+     * Update restaurant, rejecting a stale client version and retrying
+     * version conflicts with concurrent writers
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.RESTAURANTS, key = "#id"),
+            @CacheEvict(cacheNames = CacheNames.RESTAURANT_MENUS, key = "#id"),
+            // Menu item responses carry the restaurant name
+            @CacheEvict(cacheNames = CacheNames.MENU_ITEMS, allEntries = true) })
     public Restaurant updateRestaurant(Long id, Restaurant restaurantDetails) {
         log.info("Updating restaurant with id: {}", id);
 
-        Restaurant restaurant = getRestaurantById(id);
-
-        // Update fields
-        restaurant.setName(restaurantDetails.getName());
-        restaurant.setDescription(restaurantDetails.getDescription());
-        restaurant.setAddress(restaurantDetails.getAddress());
-        restaurant.setPhone(restaurantDetails.getPhone());
-        restaurant.setOpeningTime(restaurantDetails.getOpeningTime());
-        restaurant.setClosingTime(restaurantDetails.getClosingTime());
-        restaurant.setIsActive(restaurantDetails.getIsActive());
-
-        return restaurantRepository.save(restaurant);
+        Restaurant updated = optimisticLockRetry.execute("restaurant", id, () -> {
+            Restaurant restaurant = getRestaurantById(id);
+            OptimisticLockRetry.checkVersion("Restaurant", id, restaurantDetails.getVersion(), restaurant.getVersion());
+
+            // Update fields
+            restaurant.setName(restaurantDetails.getName());
+            restaurant.setDescription(restaurantDetails.getDescription());
+            restaurant.setAddress(restaurantDetails.getAddress());
+            restaurant.setPhone(restaurantDetails.getPhone());
+            restaurant.setOpeningTime(restaurantDetails.getOpeningTime());
+            restaurant.setClosingTime(restaurantDetails.getClosingTime());
+            restaurant.setIsActive(restaurantDetails.getIsActive());
+            restaurant.setLatitude(restaurantDetails.getLatitude());
+            restaurant.setLongitude(restaurantDetails.getLongitude());
+
+            return restaurantRepository.saveAndFlush(restaurant);
+        });
+        nearbyRestaurantService.markStale();
+        return updated;
     }
 
     /**
      * Delete restaurant (soft delete by setting inactive)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.RESTAURANTS, key = "#id"),
+            @CacheEvict(cacheNames = CacheNames.RESTAURANT_MENUS, key = "#id"),
+            // Menu item responses carry the restaurant name
+            @CacheEvict(cacheNames = CacheNames.MENU_ITEMS, allEntries = true) })
     public void deleteRestaurant(Long id) {
         log.info("Deleting restaurant with id: {}", id);
 
-        Restaurant restaurant = getRestaurantById(id);
-        restaurant.setIsActive(false);
-        restaurantRepository.save(restaurant);
+        optimisticLockRetry.execute("restaurant", id, () -> {
+            Restaurant restaurant = getRestaurantById(id);
+            restaurant.setIsActive(false);
+            return restaurantRepository.saveAndFlush(restaurant);
+        });
+        nearbyRestaurantService.markStale();
     }
 
     /**
      * Check if restaurant is open at current time
      */
     public boolean isRestaurantOpen(Long id) {
-        Restaurant restaurant = getRestaurantById(id);
+        return isOpen(getRestaurantById(id));
+    }
 
+    /**
+     * Check if an already loaded restaurant is open at current time
+     */
+    public boolean isOpen(Restaurant restaurant) {
         if (!restaurant.getIsActive()) {
             return false;
         }
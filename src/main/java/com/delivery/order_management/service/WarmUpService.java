@@ -0,0 +1,333 @@
+package com.delivery.order_management.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.delivery.order_management.model.dto.PopularItemResponse;
+import com.delivery.order_management.model.entity.Order;
+import com.delivery.order_management.model.entity.Restaurant;
+import com.delivery.order_management.repository.OrderRepository;
+import com.delivery.order_management.repository.RestaurantRepository;
+import com.delivery.order_management.service.analytics.PopularityWindow;
+import com.delivery.order_management.service.warmup.LatencySettling;
+import com.delivery.order_management.service.warmup.WarmUpPhase;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Brings a freshly started instance up to speed before it takes traffic.
+ *
+ * Once the application is ready a background thread opens the pool's
+ * connections, loads the hottest restaurants and menus into the caches and
+ * then replays a read-only request mix against the local server in rounds
+ * until round p99 latency stops moving, so the JIT, Hibernate's query plan
+ * cache and the driver's prepared statements are warm. The warmUp health
+ * indicator keeps readiness OUT_OF_SERVICE until this finishes or
+ * max-duration runs out.
+ */
+@Service
+@Slf4j
+public class WarmUpService {
+
+    private final DataSource dataSource;
+    private final RestaurantRepository restaurantRepository;
+    private final OrderRepository orderRepository;
+    private final PopularItemsService popularItemsService;
+    private final CatalogLookupService catalogLookupService;
+
+    private final boolean enabled;
+    private final Duration maxDuration;
+    private final int connections;
+    private final int restaurants;
+    private final int roundSize;
+    private final int concurrency;
+    private final double settleTolerance;
+    private final int settleRounds;
+    private final int maxRounds;
+    private final String contextPath;
+
+    private final Map<String, Long> phaseMillis = new LinkedHashMap<>();
+    private volatile WarmUpPhase phase = WarmUpPhase.PENDING;
+    private volatile int port;
+    private volatile long deadline;
+    private volatile Thread worker;
+
+    public WarmUpService(DataSource dataSource,
+            RestaurantRepository restaurantRepository,
+            OrderRepository orderRepository,
+            PopularItemsService popularItemsService,
+            CatalogLookupService catalogLookupService,
+            @Value("${order.warm-up.enabled:true}") boolean enabled,
+            @Value("${order.warm-up.max-duration:2m}") Duration maxDuration,
+            @Value("${order.warm-up.connections:10}") int connections,
+            @Value("${order.warm-up.restaurants:100}") int restaurants,
+            @Value("${order.warm-up.round-size:200}") int roundSize,
+            @Value("${order.warm-up.concurrency:4}") int concurrency,
+            @Value("${order.warm-up.settle-tolerance:0.1}") double settleTolerance,
+            @Value("${order.warm-up.settle-rounds:3}") int settleRounds,
+            @Value("${order.warm-up.max-rounds:50}") int maxRounds,
+            @Value("${server.servlet.context-path:}") String contextPath) {
+        this.dataSource = dataSource;
+        this.restaurantRepository = restaurantRepository;
+        this.orderRepository = orderRepository;
+        this.popularItemsService = popularItemsService;
+        this.catalogLookupService = catalogLookupService;
+        this.enabled = enabled;
+        this.maxDuration = maxDuration;
+        this.connections = connections;
+        this.restaurants = restaurants;
+        this.roundSize = roundSize;
+        this.concurrency = concurrency;
+        this.settleTolerance = settleTolerance;
+        this.settleRounds = settleRounds;
+        this.maxRounds = maxRounds;
+        this.contextPath = contextPath;
+    }
+
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        // Management may run on its own port; the request mix needs the application one
+        if (event.getApplicationContext().getServerNamespace() == null) {
+            port = event.getWebServer().getPort();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            phase = WarmUpPhase.COMPLETE;
+            return;
+        }
+        deadline = System.nanoTime() + maxDuration.toNanos();
+        worker = Thread.ofPlatform().name("warm-up").daemon(true).start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    public boolean isComplete() {
+        return phase == WarmUpPhase.COMPLETE;
+    }
+
+    public WarmUpPhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Time spent in each finished phase, for the health details
+     */
+    public Map<String, Object> getPhaseMillis() {
+        synchronized (phaseMillis) {
+            return new LinkedHashMap<>(phaseMillis);
+        }
+    }
+
+    private void run() {
+        long started = System.nanoTime();
+        try {
+            timed(WarmUpPhase.CONNECTIONS, this::openConnections);
+            List<Long> restaurantIds = hotRestaurantIds();
+            timed(WarmUpPhase.CACHES, () -> preloadCaches(restaurantIds));
+            timed(WarmUpPhase.REQUESTS, () -> replayRequests(restaurantIds));
+        } catch (DeadlineExceededException ex) {
+            log.warn("Warm-up did not finish within {} (stopped in {}), marking the instance ready anyway",
+                    maxDuration, phase);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RuntimeException ex) {
+            log.warn("Warm-up failed in {}, marking the instance ready anyway", phase, ex);
+        }
+        phase = WarmUpPhase.COMPLETE;
+        log.info("Warm-up finished in {} ms: {}", (System.nanoTime() - started) / 1_000_000, getPhaseMillis());
+    }
+
+    private void openConnections() {
+        // Hold them all at once so the pool has to create each one now, not on the first requests
+        List<Connection> borrowed = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                Connection connection = dataSource.getConnection();
+                borrowed.add(connection);
+                connection.isValid(1);
+            }
+        } catch (SQLException ex) {
+            log.warn("Opened {} of {} warm-up connections: {}", borrowed.size(), connections, ex.getMessage());
+        } finally {
+            for (Connection connection : borrowed) {
+                try {
+                    connection.close();
+                } catch (SQLException ex) {
+                    log.debug("Could not return warm-up connection", ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Restaurants behind the most popular items of the last day, topped up with active ones
+     */
+    private List<Long> hotRestaurantIds() {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (PopularItemResponse item : popularItemsService.getPopularItems(null, PopularityWindow.LAST_DAY, 100)) {
+            if (ids.size() >= restaurants) {
+                break;
+            }
+            ids.add(item.getRestaurantId());
+        }
+        for (Restaurant restaurant : restaurantRepository.findByIsActiveTrue()) {
+            if (ids.size() >= restaurants) {
+                break;
+            }
+            ids.add(restaurant.getId());
+        }
+        return new ArrayList<>(ids);
+    }
+
+    private void preloadCaches(List<Long> restaurantIds) {
+        for (Long restaurantId : restaurantIds) {
+            checkDeadline();
+            try {
+                catalogLookupService.getRestaurant(restaurantId);
+                catalogLookupService.getMenu(restaurantId, true);
+                catalogLookupService.getMenu(restaurantId, false);
+            } catch (RuntimeException ex) {
+                log.debug("Skipping restaurant {} during warm-up: {}", restaurantId, ex.getMessage());
+            }
+        }
+    }
+
+    private void replayRequests(List<Long> restaurantIds) throws InterruptedException {
+        if (port <= 0) {
+            log.info("No local web server to warm up against, skipping the request mix");
+            return;
+        }
+        List<URI> mix = requestMix(restaurantIds);
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        LatencySettling settling = new LatencySettling(settleTolerance, settleRounds);
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency,
+                Thread.ofPlatform().name("warm-up-request-", 0).daemon(true).factory());
+        try {
+            int next = 0;
+            for (int round = 1; round <= maxRounds && !settling.isSettled(); round++) {
+                checkDeadline();
+                List<Future<Long>> pending = new ArrayList<>(roundSize);
+                for (int i = 0; i < roundSize; i++) {
+                    URI uri = mix.get(next++ % mix.size());
+                    pending.add(executor.submit(() -> timeRequest(client, uri)));
+                }
+                long[] latencies = new long[roundSize];
+                for (int i = 0; i < roundSize; i++) {
+                    latencies[i] = pending.get(i).get();
+                }
+                long p99 = settling.addRound(latencies);
+                log.debug("Warm-up round {}: p99 {} us", round, p99 / 1_000);
+            }
+            if (!settling.isSettled()) {
+                log.info("Warm-up latency did not settle within {} rounds", maxRounds);
+            }
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Warm-up request failed", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long timeRequest(HttpClient client, URI uri) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).GET().build();
+        long start = System.nanoTime();
+        try {
+            // Status does not matter here; a 404 still exercises the same code path
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException ex) {
+            log.debug("Warm-up request {} failed: {}", uri, ex.getMessage());
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Read-only requests covering the catalog, order and kitchen lookups
+     */
+    private List<URI> requestMix(List<Long> restaurantIds) {
+        String base = "http://localhost:" + port + contextPath;
+        List<Long> orderIds = orderRepository.findRecentOrders(PageRequest.of(0, 20)).stream()
+                .map(Order::getId)
+                .toList();
+
+        List<String> paths = new ArrayList<>();
+        for (Long restaurantId : restaurantIds) {
+            paths.add("/restaurants/" + restaurantId);
+            paths.add("/menu-items/restaurant/" + restaurantId);
+            paths.add("/menu-items/restaurant/" + restaurantId + "?availableOnly=true");
+            paths.add("/kitchen/restaurants/" + restaurantId + "/board");
+        }
+        if (!restaurantIds.isEmpty()) {
+            String ids = restaurantIds.stream().limit(20).map(String::valueOf).collect(Collectors.joining(","));
+            paths.add("/restaurants?ids=" + ids);
+        }
+        for (Long orderId : orderIds) {
+            paths.add("/orders/" + orderId);
+        }
+        paths.add("/restaurants?activeOnly=true");
+        paths.add("/analytics/orders");
+        paths.add("/analytics/popular-items");
+
+        return paths.stream().map(path -> URI.create(base + path)).toList();
+    }
+
+    private void timed(WarmUpPhase next, Step step) throws InterruptedException {
+        phase = next;
+        long start = System.nanoTime();
+        step.run();
+        synchronized (phaseMillis) {
+            phaseMillis.put(next.name().toLowerCase(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private void checkDeadline() {
+        if (System.nanoTime() - deadline > 0) {
+            throw new DeadlineExceededException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        void run() throws InterruptedException;
+    }
+
+    private static class DeadlineExceededException extends RuntimeException {
+    }
+}
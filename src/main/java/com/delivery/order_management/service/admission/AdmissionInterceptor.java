@@ -0,0 +1,82 @@
+package com.delivery.order_management.service.admission;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.delivery.order_management.service.RateLimitService;
+import com.delivery.order_management.service.WarmUpService;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Applies the per-client rate limit and load shedding before a handler
+ * runs. Only the first dispatch of a request is checked. Async requests
+ * (tracking streams, exports) give their in-flight slot back as soon as the
+ * request thread is released, so long-lived subscriptions do not count
+ * against the limit.
+ *
+ * The rate limit key is the remote address, which Tomcat takes from
+ * X-Forwarded-For only when the request came through one of
+ * server.tomcat.remoteip.internal-proxies. The client header is a free-form
+ * value any caller can set, so it is used only when trust-client-header says
+ * a gateway in front of the service authenticates callers and overwrites it.
+ */
+@Component
+public class AdmissionInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ADMITTED = AdmissionInterceptor.class.getName() + ".admitted";
+
+    private final RateLimitService rateLimitService;
+    private final LoadShedder loadShedder;
+    private final WarmUpService warmUpService;
+    private final String clientHeader;
+    private final boolean trustClientHeader;
+
+    public AdmissionInterceptor(RateLimitService rateLimitService,
+            LoadShedder loadShedder,
+            WarmUpService warmUpService,
+            @Value("${order.rate-limit.client-header:X-Api-Client}") String clientHeader,
+            @Value("${order.rate-limit.trust-client-header:false}") boolean trustClientHeader) {
+        this.rateLimitService = rateLimitService;
+        this.loadShedder = loadShedder;
+        this.warmUpService = warmUpService;
+        this.clientHeader = clientHeader;
+        this.trustClientHeader = trustClientHeader;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Warm-up replays run before the instance is ready for traffic and must not be limited
+        if (request.getDispatcherType() != DispatcherType.REQUEST || !warmUpService.isComplete()) {
+            return true;
+        }
+
+        String client = trustClientHeader ? request.getHeader(clientHeader) : null;
+        rateLimitService.checkClient(client != null ? client : request.getRemoteAddr());
+        loadShedder.admit(!"GET".equals(request.getMethod()));
+        request.setAttribute(ADMITTED, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        release(request);
+    }
+
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(ADMITTED) != null) {
+            request.removeAttribute(ADMITTED);
+            loadShedder.release();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.delivery.order_management.service.admission;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.delivery.order_management.exception.ServiceOverloadedException;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Admission control in front of the connection pool.
+ *
+ * A request is refused with 503 when too many are already in flight, or
+ * when the pool is backing up: the mean connection acquire time over the
+ * last sample interval, or the number of threads waiting for a connection,
+ * is over its limit. Reads are shed at the limit and writes only at twice
+ * the limit, so order placement degrades last. Pool signals are sampled on
+ * a schedule; the admission check itself reads two volatiles and one atomic.
+ */
+@Component
+@Slf4j
+public class LoadShedder {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final HikariDataSource pool;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final int maxInFlight;
+    private final long maxPoolWaitNanos;
+    private final int maxPendingConnections;
+    private final long retryAfterSeconds;
+
+    private final Counter shedInFlight;
+    private final Counter shedPool;
+
+    private volatile long poolWaitNanos;
+    private volatile int pendingConnections;
+    private long lastAcquireCount;
+    private double lastAcquireNanos;
+
+    public LoadShedder(DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${order.admission.enabled:true}") boolean enabled,
+            @Value("${order.admission.max-in-flight:200}") int maxInFlight,
+            @Value("${order.admission.max-pool-wait:100ms}") Duration maxPoolWait,
+            @Value("${order.admission.max-pending-connections:20}") int maxPendingConnections,
+            @Value("${order.admission.retry-after:1s}") Duration retryAfter) throws SQLException {
+        this.pool = dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxInFlight = maxInFlight;
+        this.maxPoolWaitNanos = maxPoolWait.toNanos();
+        this.maxPendingConnections = maxPendingConnections;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+
+        this.shedInFlight = shedCounter(meterRegistry, "in_flight");
+        this.shedPool = shedCounter(meterRegistry, "pool");
+        Gauge.builder("order.admission.in_flight", inFlight, AtomicInteger::get)
+                .description("Requests admitted and not yet completed")
+                .register(meterRegistry);
+        Gauge.builder("order.admission.pool_wait", this, shedder -> shedder.poolWaitNanos / 1e6)
+                .description("Mean connection acquire time over the last sample, in milliseconds")
+                .register(meterRegistry);
+        if (pool == null) {
+            log.info("Data source is not a Hikari pool, load shedding uses the in-flight limit only");
+        }
+    }
+
+    /**
+     * Admit a request or throw; every admitted request must be released
+     */
+    public void admit(boolean write) {
+        int current = inFlight.incrementAndGet();
+        if (!enabled) {
+            return;
+        }
+        if (current > maxInFlight) {
+            inFlight.decrementAndGet();
+            shedInFlight.increment();
+            throw new ServiceOverloadedException("Server is at capacity, please retry shortly", retryAfterSeconds);
+        }
+
+        int factor = write ? 2 : 1;
+        if (poolWaitNanos > maxPoolWaitNanos * factor || pendingConnections > maxPendingConnections * factor) {
+            inFlight.decrementAndGet();
+            shedPool.increment();
+            throw new ServiceOverloadedException("Database is overloaded, please retry shortly", retryAfterSeconds);
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${order.admission.sample-interval:PT0.25S}")
+    public void sample() {
+        if (pool == null || pool.getHikariPoolMXBean() == null) {
+            return;
+        }
+        HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+        pendingConnections = bean.getThreadsAwaitingConnection();
+
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool.getPoolName()).timer();
+        if (acquire == null) {
+            return;
+        }
+        long count = acquire.count();
+        double total = acquire.totalTime(TimeUnit.NANOSECONDS);
+        long acquired = count - lastAcquireCount;
+        // No acquisitions in the interval: waiting threads are covered by pendingConnections
+        poolWaitNanos = acquired > 0 ? (long) ((total - lastAcquireNanos) / acquired) : 0;
+        lastAcquireCount = count;
+        lastAcquireNanos = total;
+    }
+
+    private static Counter shedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("order.admission.shed")
+                .description("Requests refused by load shedding")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,22 @@
+package com.delivery.order_management.service.admission;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-node buckets: each instance enforces the full limit on its own
+ */
+@Component
+@ConditionalOnProperty(name = "order.rate-limit.store", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitStore implements RateLimitStore {
+
+    @Override
+    public long tryAcquire(RateLimit limit, String key) {
+        return limit.localBuckets().tryAcquire(key.hashCode());
+    }
+
+    @Override
+    public long tryAcquire(RateLimit limit, long key) {
+        return limit.localBuckets().tryAcquire(Long.hashCode(key));
+    }
+}
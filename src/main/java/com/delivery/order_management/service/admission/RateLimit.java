@@ -0,0 +1,36 @@
+package com.delivery.order_management.service.admission;
+
+/**
+ * A named limit: ratePerSecond sustained with bursts of up to burst
+ * requests per key. Holds the node-local buckets for the limit.
+ */
+public final class RateLimit {
+
+    private final String name;
+    private final double ratePerSecond;
+    private final int burst;
+    private final TokenBucketTable localBuckets;
+
+    public RateLimit(String name, double ratePerSecond, int burst, int slots) {
+        this.name = name;
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.localBuckets = new TokenBucketTable(slots, ratePerSecond, burst);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public double ratePerSecond() {
+        return ratePerSecond;
+    }
+
+    public int burst() {
+        return burst;
+    }
+
+    public TokenBucketTable localBuckets() {
+        return localBuckets;
+    }
+}
@@ -0,0 +1,12 @@
+package com.delivery.order_management.service.admission;
+
+/**
+ * Where rate limit buckets live. Both methods take one token and return 0
+ * when it was granted, otherwise the nanoseconds until one is available.
+ */
+public interface RateLimitStore {
+
+    long tryAcquire(RateLimit limit, String key);
+
+    long tryAcquire(RateLimit limit, long key);
+}
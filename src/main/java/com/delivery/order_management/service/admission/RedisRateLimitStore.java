@@ -0,0 +1,62 @@
+package com.delivery.order_management.service.admission;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.delivery.order_management.service.resilience.DependencyGuard;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Buckets shared by every node through Redis, so a limit holds for the
+ * whole cluster. The same GCRA step as {@link TokenBucketTable} runs in a
+ * Lua script against Redis' clock. This costs a round trip per check; when
+ * Redis is slow or unavailable checks fall back to the node-local buckets.
+ */
+@Component
+@ConditionalOnProperty(name = "order.rate-limit.store", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisRateLimitStore implements RateLimitStore {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    // KEYS[1] bucket; ARGV[1] emission interval, ARGV[2] burst tolerance, both in microseconds
+    private static final RedisScript<Long> ACQUIRE = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local arrival = tonumber(redis.call('GET', KEYS[1]) or now)
+            local next = math.max(arrival, now) + tonumber(ARGV[1])
+            local wait = next - now - tonumber(ARGV[2])
+            if wait > 0 then
+                return wait
+            end
+            redis.call('SET', KEYS[1], next, 'PX', math.ceil((next - now) / 1000) + 1)
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final DependencyGuard redisGuard;
+
+    @Override
+    public long tryAcquire(RateLimit limit, String key) {
+        return acquire(limit, key, key.hashCode());
+    }
+
+    @Override
+    public long tryAcquire(RateLimit limit, long key) {
+        return acquire(limit, Long.toString(key), Long.hashCode(key));
+    }
+
+    private long acquire(RateLimit limit, String key, int hash) {
+        long intervalMicros = (long) (1_000_000 / limit.ratePerSecond());
+        return redisGuard.call(() -> {
+            Long waitMicros = redisTemplate.execute(ACQUIRE, List.of(KEY_PREFIX + limit.name() + ":" + key),
+                    Long.toString(intervalMicros), Long.toString(intervalMicros * limit.burst()));
+            return waitMicros != null ? waitMicros * 1000 : 0;
+        }, () -> limit.localBuckets().tryAcquire(hash));
+    }
+}
@@ -0,0 +1,64 @@
+package com.delivery.order_management.service.admission;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size table of token buckets, one long per slot.
+ *
+ * Each slot holds the bucket's theoretical arrival time (GCRA): the instant
+ * at which the bucket would be full again. Taking a token moves it forward by
+ * one emission interval; the request is refused while that would put it more
+ * than burst intervals ahead of now. This behaves exactly like a token bucket
+ * refilled at rate with capacity burst, but needs a single CAS and no
+ * allocation, so checks stay lock-free on the request path.
+ *
+ * Keys are hashed into the slots rather than stored. Two keys that share a
+ * slot share a bucket; with the table a few times larger than the number of
+ * active keys that is rare, and errs on the side of limiting.
+ */
+public final class TokenBucketTable {
+
+    private final AtomicLongArray arrivals;
+    private final int shift;
+    private final long interval;
+    private final long tolerance;
+    private final long origin = System.nanoTime();
+
+    public TokenBucketTable(int slots, double ratePerSecond, int burst) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate must be positive and burst at least 1");
+        }
+        int size = Integer.highestOneBit(Math.max(2, slots - 1)) << 1;
+        this.arrivals = new AtomicLongArray(size);
+        this.shift = 32 - Integer.numberOfTrailingZeros(size);
+        this.interval = (long) (1_000_000_000L / ratePerSecond);
+        this.tolerance = interval * burst;
+    }
+
+    /**
+     * Take one token for the key hash; 0 when granted, otherwise the
+     * nanoseconds until a token will be available
+     */
+    public long tryAcquire(int hash) {
+        return tryAcquire(hash, System.nanoTime() - origin);
+    }
+
+    long tryAcquire(int hash, long now) {
+        int slot = (hash * 0x9E3779B9) >>> shift;
+        while (true) {
+            long arrival = arrivals.get(slot);
+            long next = Math.max(arrival, now) + interval;
+            long wait = next - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrivals.compareAndSet(slot, arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    int slots() {
+        return arrivals.length();
+    }
+}
@@ -0,0 +1,58 @@
+package com.delivery.order_management.service.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min Sketch over long keys. Estimates never undercount; with width w
+ * and depth d the overcount is at most 2N/w with probability 1 - 2^-d, where N
+ * is the total added. Not thread-safe, callers guard it.
+ */
+public class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final long[] counts;
+    private final long[] seeds;
+
+    public CountMinSketch(int width, int depth) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Sketch width must be a power of two: " + width);
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counts = new long[width * depth];
+        this.seeds = new long[depth];
+        for (int row = 0; row < depth; row++) {
+            seeds[row] = mix(0x9E3779B97F4A7C15L * (row + 1));
+        }
+    }
+
+    public void add(long key, long count) {
+        for (int row = 0; row < depth; row++) {
+            counts[index(row, key)] += count;
+        }
+    }
+
+    public long estimate(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts[index(row, key)]);
+        }
+        return estimate;
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+    }
+
+    private int index(int row, long key) {
+        return row * width + (int) (mix(key ^ seeds[row]) & (width - 1));
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
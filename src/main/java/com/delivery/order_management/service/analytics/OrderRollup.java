@@ -0,0 +1,94 @@
+package com.delivery.order_management.service.analytics;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.delivery.order_management.model.entity.OrderStatus;
+
+/**
+ * Incrementally maintained order counters for one scope (a restaurant or
+ * everything), split into time buckets keyed by bucket number.
+ *
+ * Orders are counted in the bucket of their creation time under their current
+ * status, so a status change moves one order between two counters of the same
+ * bucket. Amounts are kept in minor units (satang/cents).
+ */
+public class OrderRollup {
+
+    private static final int STATUS_COUNT = OrderStatus.values().length;
+
+    private final ConcurrentSkipListMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
+
+    public Bucket bucket(long bucketId) {
+        return buckets.computeIfAbsent(bucketId, id -> new Bucket());
+    }
+
+    public Bucket existingBucket(long bucketId) {
+        return buckets.get(bucketId);
+    }
+
+    public NavigableMap<Long, Bucket> range(long fromBucket, long toBucket) {
+        return buckets.subMap(fromBucket, true, toBucket, true);
+    }
+
+    public void evictBefore(long bucketId) {
+        buckets.headMap(bucketId).clear();
+    }
+
+    public static class Bucket {
+
+        private final AtomicLongArray orderCounts = new AtomicLongArray(STATUS_COUNT);
+        private final AtomicLongArray amounts = new AtomicLongArray(STATUS_COUNT);
+        private final Map<Long, ItemCounters> items = new ConcurrentHashMap<>();
+
+        public void addOrders(OrderStatus status, long count, long amount) {
+            orderCounts.addAndGet(status.ordinal(), count);
+            amounts.addAndGet(status.ordinal(), amount);
+        }
+
+        public void moveOrder(OrderStatus from, OrderStatus to, long amount) {
+            addOrders(from, -1, -amount);
+            addOrders(to, 1, amount);
+        }
+
+        public void addItem(Long menuItemId, long quantity, long amount) {
+            ItemCounters counters = items.computeIfAbsent(menuItemId, id -> new ItemCounters());
+            counters.quantity.add(quantity);
+            counters.amount.add(amount);
+        }
+
+        public long orderCount(OrderStatus status) {
+            return orderCounts.get(status.ordinal());
+        }
+
+        public long amount(OrderStatus status) {
+            return amounts.get(status.ordinal());
+        }
+
+        public ItemCounters item(Long menuItemId) {
+            return items.get(menuItemId);
+        }
+
+        public Map<Long, ItemCounters> items() {
+            return items;
+        }
+    }
+
+    public static class ItemCounters {
+
+        private final LongAdder quantity = new LongAdder();
+        private final LongAdder amount = new LongAdder();
+
+        public long quantity() {
+            return quantity.sum();
+        }
+
+        public long amount() {
+            return amount.sum();
+        }
+    }
+}
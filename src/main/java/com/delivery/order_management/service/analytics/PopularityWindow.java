@@ -0,0 +1,32 @@
+package com.delivery.order_management.service.analytics;
+
+import java.time.Duration;
+
+/**
+ * Sliding windows for popular item rankings, each split into rotating slots
+ */
+public enum PopularityWindow {
+    LAST_HOUR(Duration.ofHours(1), 12),
+    LAST_DAY(Duration.ofDays(1), 24),
+    LAST_WEEK(Duration.ofDays(7), 28);
+
+    private final Duration length;
+    private final int slots;
+
+    PopularityWindow(Duration length, int slots) {
+        this.length = length;
+        this.slots = slots;
+    }
+
+    public Duration length() {
+        return length;
+    }
+
+    public int slots() {
+        return slots;
+    }
+
+    public long slotMillis() {
+        return length.toMillis() / slots;
+    }
+}
@@ -0,0 +1,135 @@
+package com.delivery.order_management.service.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Approximate top-K over a sliding time window.
+ *
+ * The window is split into rotating slots, each with its own Space-Saving
+ * summary and, optionally, a Count-Min Sketch that tightens the estimate for
+ * keys a slot did not track. A slot is reset the first time it is written in a
+ * new period, so memory stays fixed and the window edge moves one slot at a
+ * time. Reported counts are upper bounds; count - error is a lower bound.
+ * A negative count retracts an earlier add with the same timestamp.
+ */
+public class SlidingTopK {
+
+    private final long slotMillis;
+    private final Slot[] slots;
+
+    public SlidingTopK(PopularityWindow window, int summaryCapacity, int sketchWidth, int sketchDepth) {
+        this.slotMillis = window.slotMillis();
+        this.slots = new Slot[window.slots()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Slot(summaryCapacity, sketchWidth, sketchDepth);
+        }
+    }
+
+    public void add(long key, long count, long nowMillis) {
+        long period = nowMillis / slotMillis;
+        Slot slot = slots[(int) Math.floorMod(period, (long) slots.length)];
+        synchronized (slot) {
+            if (period < slot.period) {
+                // Already rotated past this period; the data is outside the window
+                return;
+            }
+            if (period > slot.period) {
+                slot.reset(period);
+            }
+            slot.summary().offer(key, count);
+            if (slot.sketch() != null) {
+                slot.sketch().add(key, count);
+            }
+        }
+    }
+
+    public List<SpaceSaving.Entry> top(int limit, long nowMillis) {
+        long current = nowMillis / slotMillis;
+        long oldest = current - slots.length + 1;
+
+        // Pass 1: every key tracked by any live slot is a candidate
+        Map<Long, long[]> candidates = new HashMap<>();
+        for (Slot slot : slots) {
+            synchronized (slot) {
+                if (slot.isLive(oldest, current)) {
+                    for (SpaceSaving.Entry entry : slot.summary().entries()) {
+                        candidates.putIfAbsent(entry.key(), new long[2]);
+                    }
+                }
+            }
+        }
+
+        // Pass 2: sum per-slot bounds for each candidate
+        for (Slot slot : slots) {
+            synchronized (slot) {
+                if (!slot.isLive(oldest, current)) {
+                    continue;
+                }
+                for (Map.Entry<Long, long[]> candidate : candidates.entrySet()) {
+                    long key = candidate.getKey();
+                    SpaceSaving.Entry tracked = slot.summary().get(key);
+                    long upper = tracked != null ? tracked.count() : slot.summary().untrackedBound();
+                    long lower = tracked != null ? tracked.count() - tracked.error() : 0;
+                    if (slot.sketch() != null) {
+                        upper = Math.min(upper, slot.sketch().estimate(key));
+                    }
+                    candidate.getValue()[0] += upper;
+                    candidate.getValue()[1] += upper - Math.min(lower, upper);
+                }
+            }
+        }
+
+        List<SpaceSaving.Entry> ranked = new ArrayList<>(candidates.size());
+        candidates.forEach((key, bounds) -> ranked.add(new SpaceSaving.Entry(key, bounds[0], bounds[1])));
+        ranked.sort(Comparator.comparingLong(SpaceSaving.Entry::count).reversed());
+        return ranked.size() > limit ? new ArrayList<>(ranked.subList(0, limit)) : ranked;
+    }
+
+    private static final class Slot {
+        private final int summaryCapacity;
+        private final int sketchWidth;
+        private final int sketchDepth;
+        private long period = Long.MIN_VALUE;
+        private SpaceSaving summary;
+        private CountMinSketch sketch;
+
+        private Slot(int summaryCapacity, int sketchWidth, int sketchDepth) {
+            this.summaryCapacity = summaryCapacity;
+            this.sketchWidth = sketchWidth;
+            this.sketchDepth = sketchDepth;
+        }
+
+        // Summaries and sketches are allocated on first use so idle scopes stay small
+        private SpaceSaving summary() {
+            if (summary == null) {
+                summary = new SpaceSaving(summaryCapacity);
+            }
+            return summary;
+        }
+
+        private CountMinSketch sketch() {
+            if (sketch == null && sketchWidth > 0) {
+                sketch = new CountMinSketch(sketchWidth, sketchDepth);
+            }
+            return sketch;
+        }
+
+        private boolean isLive(long oldest, long current) {
+            return summary != null && period >= oldest && period <= current;
+        }
+
+        private void reset(long newPeriod) {
+            period = newPeriod;
+            if (summary != null) {
+                summary.clear();
+            }
+            if (sketch != null) {
+                sketch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.delivery.order_management.service.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy hitters summary with a fixed number of counters.
+ *
+ * When full, a new key takes over the smallest counter and inherits its count
+ * as error, so counts are overestimates by at most error. Every key with a
+ * true count above N/capacity is guaranteed to be tracked. Counters live in a
+ * min-heap so offer is O(log capacity). A negative increment retracts an
+ * earlier offer; it only applies to a key that is still tracked, since an
+ * untracked key's bound already covers it. Not thread-safe, callers guard it.
+ */
+public class SpaceSaving {
+
+    private final int capacity;
+    private final Map<Long, Counter> counters;
+    private final Counter[] heap;
+    private int size;
+
+    public SpaceSaving(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+        this.heap = new Counter[capacity];
+    }
+
+    public void offer(long key, long increment) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count += increment;
+            if (increment < 0) {
+                siftUp(counter.index);
+            } else {
+                siftDown(counter.index);
+            }
+            return;
+        }
+        if (increment < 0) {
+            return;
+        }
+
+        if (size < capacity) {
+            counter = new Counter(key, increment, size);
+            heap[size++] = counter;
+            counters.put(key, counter);
+            siftUp(counter.index);
+            return;
+        }
+
+        Counter smallest = heap[0];
+        counters.remove(smallest.key);
+        smallest.key = key;
+        smallest.error = smallest.count;
+        smallest.count += increment;
+        counters.put(key, smallest);
+        siftDown(0);
+    }
+
+    /**
+     * Tracked count for key, or null when the key is not tracked
+     */
+    public Entry get(long key) {
+        Counter counter = counters.get(key);
+        return counter == null ? null : new Entry(counter.key, counter.count, counter.error);
+    }
+
+    /**
+     * Upper bound for the count of any key that is not tracked
+     */
+    public long untrackedBound() {
+        return size < capacity ? 0 : heap[0].count;
+    }
+
+    public List<Entry> entries() {
+        List<Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(new Entry(heap[i].key, heap[i].count, heap[i].error));
+        }
+        return entries;
+    }
+
+    public List<Entry> top(int limit) {
+        List<Entry> entries = entries();
+        entries.sort(Comparator.comparingLong(Entry::count).reversed());
+        return entries.size() > limit ? entries.subList(0, limit) : entries;
+    }
+
+    public void clear() {
+        counters.clear();
+        for (int i = 0; i < size; i++) {
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int index) {
+        Counter counter = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent].count <= counter.count) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(counter, index);
+    }
+
+    private void siftDown(int index) {
+        Counter counter = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && heap[right].count < heap[child].count) {
+                child = right;
+            }
+            if (counter.count <= heap[child].count) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(counter, index);
+    }
+
+    private void place(Counter counter, int index) {
+        heap[index] = counter;
+        counter.index = index;
+    }
+
+    public record Entry(long key, long count, long error) {
+    }
+
+    private static final class Counter {
+        private long key;
+        private long count;
+        private long error;
+        private int index;
+
+        private Counter(long key, long count, int index) {
+            this.key = key;
+            this.count = count;
+            this.index = index;
+        }
+    }
+}
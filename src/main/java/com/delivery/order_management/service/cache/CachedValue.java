@@ -0,0 +1,16 @@
+package com.delivery.order_management.service.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cached DTO together with the time after which a read should refresh it
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedValue {
+    private Object value;
+    private long refreshAt;
+}
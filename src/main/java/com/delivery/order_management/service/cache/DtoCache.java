@@ -0,0 +1,182 @@
+package com.delivery.order_management.service.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.delivery.order_management.service.resilience.DependencyGuard;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read-through view of one Redis cache of response DTOs keyed by id.
+ *
+ * Misses for the same id are loaded once per node. Every entry carries a
+ * refresh time picked at random in the last part of its TTL; the first read
+ * after it reloads the entry in the background and still returns the cached
+ * value, so hot keys are refreshed before they expire and never in lockstep.
+ * Many ids are read with a single MGET on the keys RedisCacheManager writes
+ * ("name::id"). Redis failures read as misses.
+ */
+@Slf4j
+public class DtoCache<T> {
+
+    private final String name;
+    private final Cache cache;
+    // The guarded cache behind the decorator, whose pending evictions the MGET path must honour
+    private final GuardedCache guarded;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final DependencyGuard redisGuard;
+    private final Executor refreshExecutor;
+    private final long ttlMillis;
+    private final double earlyRefresh;
+
+    private final SingleFlight<Long, T> loads = new SingleFlight<>();
+    private final Set<Long> refreshing = ConcurrentHashMap.newKeySet();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter refreshes;
+
+    DtoCache(String name, Cache cache, RedisTemplate<String, Object> redisTemplate, DependencyGuard redisGuard,
+            Executor refreshExecutor, Duration ttl, double earlyRefresh, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.cache = cache;
+        Cache target = cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache;
+        this.guarded = target instanceof GuardedCache guardedCache ? guardedCache : null;
+        this.redisTemplate = redisTemplate;
+        this.redisGuard = redisGuard;
+        this.refreshExecutor = refreshExecutor;
+        this.ttlMillis = ttl.toMillis();
+        this.earlyRefresh = earlyRefresh;
+
+        this.hits = Counter.builder("order.cache.requests").tag("cache", name).tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("order.cache.requests").tag("cache", name).tag("result", "miss")
+                .register(meterRegistry);
+        this.refreshes = Counter.builder("order.cache.refreshes").tag("cache", name)
+                .description("Entries reloaded ahead of expiry")
+                .register(meterRegistry);
+        FunctionCounter.builder("order.cache.loads", loads, SingleFlight::loadCount).tag("cache", name)
+                .description("Database loads after a miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("order.cache.loads.coalesced", loads, SingleFlight::coalescedCount).tag("cache", name)
+                .description("Misses served by another request's in-flight load")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cached value for id, loading it once on a miss; null when the loader finds nothing
+     */
+    public T get(Long id, Function<Long, T> loader) {
+        CachedValue cached = read(id);
+        if (cached != null) {
+            hits.increment();
+            if (System.currentTimeMillis() >= cached.getRefreshAt()) {
+                refreshInBackground(id, loader);
+            }
+            return cast(cached);
+        }
+
+        misses.increment();
+        return loads.load(id, () -> loadAndPut(id, loader));
+    }
+
+    /**
+     * Cached values for the ids that are present; missing ids are left to the caller
+     */
+    public Map<Long, T> getAll(Collection<Long> ids) {
+        List<Long> keys = new ArrayList<>(ids);
+        Map<Long, T> found = new HashMap<>();
+        if (keys.isEmpty()) {
+            return found;
+        }
+
+        List<Object> values = redisGuard.call(() -> redisTemplate.opsForValue()
+                .multiGet(keys.stream().map(id -> name + "::" + id).toList()), () -> null);
+        for (int i = 0; values != null && i < values.size(); i++) {
+            if (values.get(i) instanceof CachedValue cached
+                    && (guarded == null || !guarded.isInvalidationPending(keys.get(i)))) {
+                found.put(keys.get(i), cast(cached));
+            }
+        }
+        hits.increment(found.size());
+        misses.increment(keys.size() - found.size());
+        return found;
+    }
+
+    public void put(Long id, T value) {
+        // Refresh somewhere in the last earlyRefresh fraction of the TTL
+        long refreshIn = (long) (ttlMillis * (1 - earlyRefresh * ThreadLocalRandom.current().nextDouble()));
+        try {
+            cache.put(id, new CachedValue(value, System.currentTimeMillis() + refreshIn));
+        } catch (RuntimeException ex) {
+            log.warn("Cache {} write failed for {}: {}", name, id, ex.getMessage());
+        }
+    }
+
+    public void evict(Long id) {
+        cache.evict(id);
+    }
+
+    private CachedValue read(Long id) {
+        try {
+            return cache.get(id, CachedValue.class);
+        } catch (RuntimeException ex) {
+            log.warn("Cache {} read failed for {}: {}", name, id, ex.getMessage());
+            return null;
+        }
+    }
+
+    private T loadAndPut(Long id, Function<Long, T> loader) {
+        T loaded = loader.apply(id);
+        if (loaded != null) {
+            put(id, loaded);
+        }
+        return loaded;
+    }
+
+    private void refreshInBackground(Long id, Function<Long, T> loader) {
+        if (!refreshing.add(id)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refreshes.increment();
+                    T loaded = loads.load(id, () -> loadAndPut(id, loader));
+                    if (loaded == null) {
+                        evict(id);
+                    }
+                } catch (RuntimeException ex) {
+                    log.warn("Cache {} refresh failed for {}: {}", name, id, ex.getMessage());
+                } finally {
+                    refreshing.remove(id);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            // Saturated; a later read will try again
+            refreshing.remove(id);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T cast(CachedValue cached) {
+        return (T) cached.getValue();
+    }
+}
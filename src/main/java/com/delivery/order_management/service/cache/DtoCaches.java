@@ -0,0 +1,58 @@
+package com.delivery.order_management.service.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.delivery.order_management.service.resilience.DependencyGuard;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Creates DtoCache views and owns the executor their early refreshes run on
+ */
+@Component
+public class DtoCaches {
+
+    private final CacheManager cacheManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final DependencyGuard redisGuard;
+    private final MeterRegistry meterRegistry;
+    private final double earlyRefresh;
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public DtoCaches(CacheManager cacheManager,
+            RedisTemplate<String, Object> redisTemplate,
+            DependencyGuard redisGuard,
+            MeterRegistry meterRegistry,
+            @Value("${order.cache.early-refresh:0.2}") double earlyRefresh,
+            @Value("${order.cache.refresh-threads:2}") int refreshThreads) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.redisGuard = redisGuard;
+        this.meterRegistry = meterRegistry;
+        this.earlyRefresh = earlyRefresh;
+        this.refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1024), Thread.ofPlatform().name("cache-refresh-", 0).daemon(true).factory());
+    }
+
+    /**
+     * View of a cache whose entries live for ttl, which must match its RedisCacheManager TTL
+     */
+    public <T> DtoCache<T> create(String name, Duration ttl) {
+        return new DtoCache<>(name, cacheManager.getCache(name), redisTemplate, redisGuard, refreshExecutor,
+                ttl, earlyRefresh, meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,179 @@
+package com.delivery.order_management.service.cache;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+
+import com.delivery.order_management.service.resilience.DependencyGuard;
+
+/**
+ * Cache whose every operation goes through the dependency guard. When Redis
+ * is slow or down, reads are misses, so callers load from the database, and
+ * writes are dropped.
+ *
+ * Evictions and clears that fail are kept and replayed once the breaker
+ * lets calls through again; until then the affected keys read as misses, so
+ * this node never serves an entry it was told to drop. Past
+ * MAX_PENDING_EVICTIONS keys the whole cache is cleared instead. Pending
+ * invalidations live in memory: after a restart, and on other nodes until
+ * the replay, stale entries last at most their TTL.
+ */
+public class GuardedCache implements Cache {
+
+    static final int MAX_PENDING_EVICTIONS = 10_000;
+
+    private final Cache delegate;
+    private final DependencyGuard guard;
+    private final Set<Object> pendingEvictions = ConcurrentHashMap.newKeySet();
+    private volatile boolean pendingClear;
+
+    public GuardedCache(Cache delegate, DependencyGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        if (isInvalidationPending(key)) {
+            return null;
+        }
+        return guard.call(() -> delegate.get(key), () -> null);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        if (isInvalidationPending(key)) {
+            return null;
+        }
+        return guard.call(() -> delegate.get(key, type), () -> null);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            @SuppressWarnings("unchecked")
+            T value = (T) cached.get();
+            return value;
+        }
+
+        // The load runs on the caller's thread, never under the guard's timeout
+        T loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, loaded);
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        guard.run(() -> delegate.put(key, value), () -> {
+        });
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        // The present entry may be one that should have been evicted; the replay drops this one too
+        if (isInvalidationPending(key)) {
+            put(key, value);
+            return null;
+        }
+        return guard.call(() -> delegate.putIfAbsent(key, value), () -> null);
+    }
+
+    @Override
+    public void evict(Object key) {
+        guard.run(() -> delegate.evict(key), () -> deferEviction(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return guard.call(() -> delegate.evictIfPresent(key), () -> {
+            deferEviction(key);
+            return false;
+        });
+    }
+
+    @Override
+    public void clear() {
+        guard.run(delegate::clear, () -> pendingClear = true);
+    }
+
+    @Override
+    public boolean invalidate() {
+        return guard.call(delegate::invalidate, () -> {
+            pendingClear = true;
+            return false;
+        });
+    }
+
+    /**
+     * Whether an eviction of the key, or a clear, failed and has not been replayed yet
+     */
+    public boolean isInvalidationPending(Object key) {
+        return pendingClear || (!pendingEvictions.isEmpty() && pendingEvictions.contains(key));
+    }
+
+    public int pendingInvalidations() {
+        return pendingEvictions.size() + (pendingClear ? 1 : 0);
+    }
+
+    /**
+     * Replay failed clears and evictions while the guard lets calls through;
+     * stops at the first failure and leaves the rest for the next attempt.
+     * Returns the number replayed.
+     */
+    public int replayPendingInvalidations() {
+        if (!guard.isAvailable()) {
+            return 0;
+        }
+        int replayed = 0;
+        // A key is forgotten only after its eviction went through, so it never reads stale in between
+        if (pendingClear) {
+            if (!guard.call(() -> {
+                delegate.clear();
+                return true;
+            }, () -> false)) {
+                return replayed;
+            }
+            pendingClear = false;
+            replayed++;
+        }
+        for (Object key : pendingEvictions) {
+            if (!guard.call(() -> {
+                delegate.evict(key);
+                return true;
+            }, () -> false)) {
+                return replayed;
+            }
+            pendingEvictions.remove(key);
+            replayed++;
+        }
+        return replayed;
+    }
+
+    private void deferEviction(Object key) {
+        if (pendingEvictions.size() < MAX_PENDING_EVICTIONS) {
+            pendingEvictions.add(key);
+        } else {
+            // Set before dropping the keys so they keep reading as misses
+            pendingClear = true;
+            pendingEvictions.clear();
+        }
+    }
+}
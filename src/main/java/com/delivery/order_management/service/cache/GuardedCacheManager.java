@@ -0,0 +1,75 @@
+package com.delivery.order_management.service.cache;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.delivery.order_management.service.resilience.DependencyGuard;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Wraps every cache of the delegate in a {@link GuardedCache}, then in a
+ * transaction-aware decorator. The guard runs calls on its own threads, so it
+ * must sit inside the decorator: puts and evictions are deferred to commit on
+ * the request thread, where the transaction is bound.
+ *
+ * Also replays the evictions the guarded caches could not deliver.
+ */
+@Slf4j
+public class GuardedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final DependencyGuard guard;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, GuardedCache> guardedCaches = new ConcurrentHashMap<>();
+
+    public GuardedCacheManager(CacheManager delegate, DependencyGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> {
+            GuardedCache guarded = new GuardedCache(target, guard);
+            guardedCaches.put(key, guarded);
+            return new TransactionAwareCacheDecorator(guarded);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    @Scheduled(fixedDelayString = "${order.cache.invalidation-replay-interval:PT5S}")
+    public void replayPendingInvalidations() {
+        if (!guard.isAvailable()) {
+            return;
+        }
+        for (GuardedCache cache : guardedCaches.values()) {
+            if (cache.pendingInvalidations() == 0) {
+                continue;
+            }
+            int replayed = cache.replayPendingInvalidations();
+            if (replayed > 0) {
+                log.info("Replayed {} cache invalidations for {}, {} left", replayed, cache.getName(),
+                        cache.pendingInvalidations());
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.delivery.order_management.service.concurrency;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.delivery.order_management.exception.ConcurrentUpdateException;
+import com.delivery.order_management.model.dto.LockContentionResponse;
+import com.delivery.order_management.service.analytics.SpaceSaving;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs an idempotent read-modify-write in its own transaction and retries it
+ * when the version check fails at flush or commit.
+ *
+ * Each attempt re-reads the row, so only operations that fully replace state
+ * (not ones that apply a delta) should go through here. Backoff is exponential
+ * with full jitter so retrying writers do not collide again in lockstep.
+ * Conflicts are counted per entity, and the ids that conflict most are kept in
+ * a bounded Space-Saving summary instead of a metric tag per id.
+ */
+@Component
+@Slf4j
+public class OptimisticLockRetry {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final int hotCapacity;
+
+    private final Map<String, SpaceSaving> hotIds = new ConcurrentHashMap<>();
+
+    public OptimisticLockRetry(PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${order.optimistic-lock.max-attempts:4}") int maxAttempts,
+            @Value("${order.optimistic-lock.initial-backoff:5ms}") Duration initialBackoff,
+            @Value("${order.optimistic-lock.max-backoff:100ms}") Duration maxBackoff,
+            @Value("${order.optimistic-lock.hot-capacity:256}") int hotCapacity) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.hotCapacity = hotCapacity;
+    }
+
+    public <T> T execute(String entity, Long id, Supplier<T> attempt) {
+        for (int attemptNumber = 1;; attemptNumber++) {
+            try {
+                return transactionTemplate.execute(status -> attempt.get());
+            } catch (OptimisticLockingFailureException ex) {
+                recordConflict(entity, id);
+                if (attemptNumber >= maxAttempts) {
+                    conflicts(entity, "exhausted").increment();
+                    log.warn("Giving up on {} {} after {} optimistic lock conflicts", entity, id, attemptNumber);
+                    throw ex;
+                }
+                conflicts(entity, "retried").increment();
+                log.debug("Optimistic lock conflict on {} {}, attempt {}", entity, id, attemptNumber);
+                backoff(attemptNumber);
+            }
+        }
+    }
+
+    /**
+     * Reject an update made against a version the client no longer holds.
+     * Not retried: the client has to re-read and decide again.
+     */
+    public static void checkVersion(String entity, Long id, Long expected, Long current) {
+        if (expected != null && !expected.equals(current)) {
+            throw new ConcurrentUpdateException(entity + " " + id + " was modified concurrently: expected version "
+                    + expected + " but found " + current);
+        }
+    }
+
+    /**
+     * Ids with the most optimistic lock conflicts since startup, per entity
+     */
+    public List<LockContentionResponse> getHotIds(int limit) {
+        int bounded = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        List<LockContentionResponse> response = new ArrayList<>();
+        hotIds.forEach((entity, summary) -> {
+            List<SpaceSaving.Entry> top;
+            synchronized (summary) {
+                top = new ArrayList<>(summary.top(bounded));
+            }
+            for (SpaceSaving.Entry entry : top) {
+                response.add(LockContentionResponse.builder()
+                        .entity(entity)
+                        .id(entry.key())
+                        .conflicts(entry.count())
+                        .maxError(entry.error())
+                        .build());
+            }
+        });
+        return response;
+    }
+
+    private void recordConflict(String entity, Long id) {
+        SpaceSaving summary = hotIds.computeIfAbsent(entity, name -> new SpaceSaving(hotCapacity));
+        synchronized (summary) {
+            summary.offer(id, 1);
+        }
+    }
+
+    private Counter conflicts(String entity, String outcome) {
+        return Counter.builder("order.optimistic_lock.conflicts")
+                .description("Optimistic lock conflicts on read-modify-write updates")
+                .tag("entity", entity)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private void backoff(int attemptNumber) {
+        long ceiling = Math.min(maxBackoffNanos, initialBackoffNanos << Math.min(attemptNumber - 1, 20));
+        long sleepNanos = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            TimeUnit.NANOSECONDS.sleep(sleepNanos);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off after an optimistic lock conflict", ex);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.delivery.order_management.service.dispatch;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import com.delivery.order_management.service.geo.GeoGrid;
+
+/**
+ * Groups orders that are ready for pickup into courier runs as they arrive.
+ *
+ * An order joins the open run whose orders are all picked up within
+ * pickupRadiusKm and dropped off within dropOffRadiusKm of its own, picking
+ * the run with the smallest mean pickup plus drop-off distance; otherwise it
+ * opens a run of its own. A run is due once it is full or its first order
+ * has waited maxHold, so no order waits longer than that for partners. Open
+ * runs are indexed by the grid cell of their first pickup, so placing an
+ * order only looks at the runs in the cells around it, whatever the number
+ * of pending orders.
+ *
+ * Not thread-safe; owned by the dispatcher thread.
+ */
+public final class DeliveryBatcher {
+
+    private static final double KM_PER_DEGREE = Math.PI * GeoGrid.EARTH_RADIUS_KM / 180;
+
+    public record Settings(int maxRunSize, double pickupRadiusKm, double dropOffRadiusKm, long maxHoldMillis) {
+    }
+
+    /**
+     * An order ready for pickup; coordinates are NaN when unknown. Orders
+     * without a drop-off go alone and at once; orders whose restaurant has
+     * no location only share runs with that restaurant.
+     */
+    public record ReadyOrder(long orderId, long restaurantId, double pickupLatitude, double pickupLongitude,
+            double dropOffLatitude, double dropOffLongitude, long readyAtMillis) {
+
+        boolean hasPickup() {
+            return !Double.isNaN(pickupLatitude) && !Double.isNaN(pickupLongitude);
+        }
+
+        boolean hasDropOff() {
+            return !Double.isNaN(dropOffLatitude) && !Double.isNaN(dropOffLongitude);
+        }
+    }
+
+    public static final class Run {
+
+        private final List<ReadyOrder> orders = new ArrayList<>(4);
+        private final long dueAtMillis;
+        private long cellKey;
+        private State state = State.OPEN;
+
+        private Run(long dueAtMillis) {
+            this.dueAtMillis = dueAtMillis;
+        }
+
+        public List<ReadyOrder> orders() {
+            return orders;
+        }
+
+        public long dueAtMillis() {
+            return dueAtMillis;
+        }
+    }
+
+    private enum State {
+        OPEN, FULL, TAKEN
+    }
+
+    private final Settings settings;
+    private final double cellDegrees;
+    private final int columns;
+
+    private final Map<Long, Run> runsByOrder = new HashMap<>();
+    private final Map<Long, List<Run>> openRunsByCell = new HashMap<>();
+    // Runs leave lazily: taken or emptied runs are skipped when they reach the head
+    private final PriorityQueue<Run> byDueTime = new PriorityQueue<>(Comparator.comparingLong(Run::dueAtMillis));
+    private final ArrayDeque<Run> fullRuns = new ArrayDeque<>();
+
+    public DeliveryBatcher(Settings settings) {
+        if (settings.maxRunSize() < 1 || settings.pickupRadiusKm() <= 0 || settings.dropOffRadiusKm() <= 0) {
+            throw new IllegalArgumentException("Run size and radii must be positive: " + settings);
+        }
+        this.settings = settings;
+        // A cell is at least one pickup radius high, so candidates are in the neighbouring rows
+        this.cellDegrees = Math.min(10, Math.max(0.001, settings.pickupRadiusKm() / KM_PER_DEGREE));
+        this.columns = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    /**
+     * Place an order in a run; false when it is already pending
+     */
+    public boolean add(ReadyOrder order) {
+        if (runsByOrder.containsKey(order.orderId())) {
+            return false;
+        }
+        if (!order.hasDropOff()) {
+            Run solo = new Run(order.readyAtMillis());
+            solo.orders.add(order);
+            solo.state = State.FULL;
+            runsByOrder.put(order.orderId(), solo);
+            fullRuns.add(solo);
+            return true;
+        }
+
+        Run best = bestRun(order);
+        if (best == null) {
+            best = new Run(order.readyAtMillis() + settings.maxHoldMillis());
+            best.cellKey = cellKey(order);
+            openRunsByCell.computeIfAbsent(best.cellKey, key -> new ArrayList<>(2)).add(best);
+            byDueTime.add(best);
+        }
+        best.orders.add(order);
+        runsByOrder.put(order.orderId(), best);
+        if (best.orders.size() >= settings.maxRunSize()) {
+            unindex(best);
+            best.state = State.FULL;
+            fullRuns.add(best);
+        }
+        return true;
+    }
+
+    /**
+     * Drop an order that is no longer ready for pickup; false when it is not pending
+     */
+    public boolean remove(long orderId) {
+        Run run = runsByOrder.remove(orderId);
+        if (run == null) {
+            return false;
+        }
+        boolean wasFirst = run.orders.get(0).orderId() == orderId;
+        run.orders.removeIf(order -> order.orderId() == orderId);
+        if (run.state == State.OPEN && (run.orders.isEmpty() || wasFirst)) {
+            unindex(run);
+            if (!run.orders.isEmpty()) {
+                run.cellKey = cellKey(run.orders.get(0));
+                openRunsByCell.computeIfAbsent(run.cellKey, key -> new ArrayList<>(2)).add(run);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Remove and return the runs that are full or due at nowMillis
+     */
+    public List<Run> takeDue(long nowMillis) {
+        List<Run> due = new ArrayList<>();
+        Run run;
+        while ((run = fullRuns.poll()) != null) {
+            take(run, due);
+        }
+        while ((run = byDueTime.peek()) != null && run.dueAtMillis <= nowMillis) {
+            byDueTime.poll();
+            if (run.state == State.OPEN) {
+                unindex(run);
+                take(run, due);
+            }
+        }
+        return due;
+    }
+
+    public int pendingOrders() {
+        return runsByOrder.size();
+    }
+
+    private void take(Run run, List<Run> due) {
+        run.state = State.TAKEN;
+        if (run.orders.isEmpty()) {
+            return;
+        }
+        for (ReadyOrder order : run.orders) {
+            runsByOrder.remove(order.orderId());
+        }
+        due.add(run);
+    }
+
+    private Run bestRun(ReadyOrder order) {
+        if (!order.hasPickup()) {
+            return bestIn(openRunsByCell.get(cellKey(order)), order, null);
+        }
+
+        int row = row(order.pickupLatitude());
+        int column = column(order.pickupLongitude());
+        // Cells narrow towards the poles, so more columns cover the same radius
+        double farthest = Math.min(89.0, Math.abs(order.pickupLatitude()) + cellDegrees);
+        int span = Math.min(columns / 2, (int) Math.ceil(1 / Math.cos(Math.toRadians(farthest))));
+
+        Run best = null;
+        for (int dr = -1; dr <= 1; dr++) {
+            for (int dc = -span; dc <= span; dc++) {
+                best = bestIn(openRunsByCell.get(key(row + dr, Math.floorMod(column + dc, columns))), order, best);
+            }
+        }
+        return best;
+    }
+
+    private Run bestIn(List<Run> runs, ReadyOrder order, Run best) {
+        if (runs == null) {
+            return best;
+        }
+        double bestCost = best != null ? joinCost(best, order) : Double.POSITIVE_INFINITY;
+        for (Run run : runs) {
+            double cost = joinCost(run, order);
+            if (cost < bestCost || (cost == bestCost && best != null && run.dueAtMillis < best.dueAtMillis)) {
+                best = run;
+                bestCost = cost;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Mean pickup plus drop-off distance to the run's orders, infinite when
+     * any of them is out of range
+     */
+    private double joinCost(Run run, ReadyOrder order) {
+        double total = 0;
+        for (ReadyOrder other : run.orders) {
+            double pickup;
+            if (other.restaurantId() == order.restaurantId()) {
+                pickup = 0;
+            } else if (order.hasPickup() && other.hasPickup()) {
+                pickup = GeoGrid.distanceKm(order.pickupLatitude(), order.pickupLongitude(),
+                        other.pickupLatitude(), other.pickupLongitude());
+                if (pickup > settings.pickupRadiusKm()) {
+                    return Double.POSITIVE_INFINITY;
+                }
+            } else {
+                return Double.POSITIVE_INFINITY;
+            }
+            double dropOff = GeoGrid.distanceKm(order.dropOffLatitude(), order.dropOffLongitude(),
+                    other.dropOffLatitude(), other.dropOffLongitude());
+            if (dropOff > settings.dropOffRadiusKm()) {
+                return Double.POSITIVE_INFINITY;
+            }
+            total += pickup + dropOff;
+        }
+        return total / run.orders.size();
+    }
+
+    private void unindex(Run run) {
+        List<Run> runs = openRunsByCell.get(run.cellKey);
+        if (runs != null) {
+            runs.remove(run);
+            if (runs.isEmpty()) {
+                openRunsByCell.remove(run.cellKey);
+            }
+        }
+    }
+
+    // Restaurants without a location get a key of their own below the cell keys
+    private long cellKey(ReadyOrder order) {
+        return order.hasPickup()
+                ? key(row(order.pickupLatitude()), column(order.pickupLongitude()))
+                : -order.restaurantId() - 1;
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor((Math.max(-90, Math.min(90, latitude)) + 90) / cellDegrees);
+    }
+
+    private int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), columns);
+    }
+
+    private long key(int row, int column) {
+        return (long) row * columns + column;
+    }
+}
@@ -0,0 +1,105 @@
+package com.delivery.order_management.service.dispatch;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Session-level PostgreSQL advisory lock that makes one node the dispatcher.
+ *
+ * The lock is taken on a dedicated connection opened outside the pool, so
+ * holding it takes nothing from request handling or the warm-up; a node
+ * that does not lead keeps the connection open and retries on it. When that
+ * connection breaks or the node stops, PostgreSQL releases the lock and
+ * another node takes it on its next try. Around such a handover two nodes
+ * may both dispatch for a moment; moving orders out locks them and
+ * rechecks their status, so an order still leaves only once. Session locks
+ * need a direct connection or a session-mode PgBouncer.
+ */
+@Slf4j
+public class DispatchLease {
+
+    private final DataSource connections;
+    private final long lockKey;
+    private Connection connection;
+    private boolean locked;
+
+    /**
+     * @param connections source of unpooled connections; closing one ends its session
+     */
+    public DispatchLease(DataSource connections, long lockKey) {
+        this.connections = connections;
+        this.lockKey = lockKey;
+    }
+
+    /**
+     * Whether this node holds the lock, trying to take it when it does not
+     */
+    public synchronized boolean hold() {
+        if (connection != null && !isValid(connection)) {
+            if (locked) {
+                log.warn("Lost the dispatcher lock connection; dispatching stops until the lock is taken again");
+            }
+            closeConnection();
+        }
+        if (locked) {
+            return true;
+        }
+
+        try {
+            if (connection == null) {
+                connection = connections.getConnection();
+            }
+            if (tryLock(connection)) {
+                log.info("Took the dispatcher lock; this node dispatches");
+                locked = true;
+            }
+        } catch (SQLException ex) {
+            log.warn("Failed to take the dispatcher lock: {}", ex.getMessage());
+            closeConnection();
+        }
+        return locked;
+    }
+
+    /**
+     * Give up the lock; closing the session releases it
+     */
+    public synchronized void release() {
+        closeConnection();
+    }
+
+    private boolean tryLock(Connection candidate) throws SQLException {
+        try (PreparedStatement statement = candidate.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, lockKey);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+
+    private static boolean isValid(Connection connection) {
+        try {
+            return connection.isValid(1);
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    private void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            log.debug("Failed to close the dispatcher lock connection: {}", ex.getMessage());
+        }
+        connection = null;
+        locked = false;
+    }
+}
@@ -0,0 +1,135 @@
+package com.delivery.order_management.service.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.TimeStampMicroVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+/**
+ * Writes rows to an Arrow IPC file one record batch at a time.
+ *
+ * Values go straight into the column vectors; when a batch is full it is
+ * written out and the vectors are reallocated, so memory is bounded by one
+ * batch regardless of how many rows the file ends up with. Not thread-safe.
+ */
+public abstract class ArrowBatchWriter implements Closeable {
+
+    // Amounts are numeric(10, 2) in the database
+    static final int AMOUNT_PRECISION = 10;
+    static final int AMOUNT_SCALE = 2;
+
+    protected final VectorSchemaRoot root;
+    private final ArrowFileWriter writer;
+    private final int batchSize;
+    private int rows;
+    private long rowsWritten;
+
+    protected ArrowBatchWriter(Schema schema, BufferAllocator allocator, Path file, int batchSize) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        this.root = VectorSchemaRoot.create(schema, allocator);
+        this.writer = new ArrowFileWriter(root, null, channel);
+        this.batchSize = batchSize;
+        writer.start();
+        root.allocateNew();
+    }
+
+    public long rowsWritten() {
+        return rowsWritten + rows;
+    }
+
+    /**
+     * Index of the next row in the current batch, writing the batch out first when it is full
+     */
+    protected final int nextRow() throws IOException {
+        if (rows == batchSize) {
+            flush();
+        }
+        return rows++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (rows > 0) {
+                flush();
+            }
+            writer.end();
+        } finally {
+            writer.close();
+            root.close();
+        }
+    }
+
+    private void flush() throws IOException {
+        root.setRowCount(rows);
+        writer.writeBatch();
+        rowsWritten += rows;
+        rows = 0;
+        root.allocateNew();
+    }
+
+    protected static Field bigInt(String name) {
+        return new Field(name, FieldType.notNullable(new ArrowType.Int(64, true)), null);
+    }
+
+    protected static Field int32(String name) {
+        return new Field(name, FieldType.notNullable(new ArrowType.Int(32, true)), null);
+    }
+
+    protected static Field utf8(String name, boolean nullable) {
+        return new Field(name, new FieldType(nullable, ArrowType.Utf8.INSTANCE, null), null);
+    }
+
+    protected static Field amount(String name) {
+        return new Field(name, FieldType.notNullable(new ArrowType.Decimal(AMOUNT_PRECISION, AMOUNT_SCALE, 128)), null);
+    }
+
+    // Local wall-clock time, as stored, without a zone
+    protected static Field timestamp(String name) {
+        return new Field(name, FieldType.nullable(new ArrowType.Timestamp(TimeUnit.MICROSECOND, null)), null);
+    }
+
+    protected static void set(BigIntVector vector, int row, long value) {
+        vector.setSafe(row, value);
+    }
+
+    protected static void set(VarCharVector vector, int row, String value) {
+        if (value == null) {
+            vector.setNull(row);
+        } else {
+            vector.setSafe(row, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    protected static void set(DecimalVector vector, int row, BigDecimal value) {
+        vector.setSafe(row, value.setScale(AMOUNT_SCALE, RoundingMode.UNNECESSARY));
+    }
+
+    protected static void set(TimeStampMicroVector vector, int row, LocalDateTime value) {
+        if (value == null) {
+            vector.setNull(row);
+        } else {
+            vector.setSafe(row, value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1_000);
+        }
+    }
+}
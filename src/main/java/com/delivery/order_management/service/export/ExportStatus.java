@@ -0,0 +1,8 @@
+package com.delivery.order_management.service.export;
+
+public enum ExportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,60 @@
+package com.delivery.order_management.service.export;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.TimeStampMicroVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+/**
+ * One row per order
+ */
+public class OrderArrowWriter extends ArrowBatchWriter {
+
+    static final Schema SCHEMA = new Schema(List.of(
+            bigInt("id"),
+            utf8("order_number", false),
+            bigInt("restaurant_id"),
+            utf8("status", false),
+            amount("total_amount"),
+            timestamp("created_at"),
+            timestamp("updated_at")));
+
+    private final BigIntVector id;
+    private final VarCharVector orderNumber;
+    private final BigIntVector restaurantId;
+    private final VarCharVector status;
+    private final DecimalVector totalAmount;
+    private final TimeStampMicroVector createdAt;
+    private final TimeStampMicroVector updatedAt;
+
+    public OrderArrowWriter(BufferAllocator allocator, Path file, int batchSize) throws IOException {
+        super(SCHEMA, allocator, file, batchSize);
+        this.id = (BigIntVector) root.getVector("id");
+        this.orderNumber = (VarCharVector) root.getVector("order_number");
+        this.restaurantId = (BigIntVector) root.getVector("restaurant_id");
+        this.status = (VarCharVector) root.getVector("status");
+        this.totalAmount = (DecimalVector) root.getVector("total_amount");
+        this.createdAt = (TimeStampMicroVector) root.getVector("created_at");
+        this.updatedAt = (TimeStampMicroVector) root.getVector("updated_at");
+    }
+
+    public void write(long orderId, String number, long restaurant, String orderStatus, BigDecimal total,
+            LocalDateTime created, LocalDateTime updated) throws IOException {
+        int row = nextRow();
+        set(id, row, orderId);
+        set(orderNumber, row, number);
+        set(restaurantId, row, restaurant);
+        set(status, row, orderStatus);
+        set(totalAmount, row, total);
+        set(createdAt, row, created);
+        set(updatedAt, row, updated);
+    }
+}
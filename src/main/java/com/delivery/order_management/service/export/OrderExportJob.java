@@ -0,0 +1,45 @@
+package com.delivery.order_management.service.export;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+/**
+ * State of one export, updated by the export thread and read by status
+ * requests; mirrored to the order_exports table for other nodes
+ */
+@Getter
+@RequiredArgsConstructor
+public class OrderExportJob {
+
+    private final String id;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final Path directory;
+    private final LocalDateTime createdAt;
+
+    private final AtomicLong ordersWritten = new AtomicLong();
+    private final AtomicLong linesWritten = new AtomicLong();
+
+    @Setter
+    private volatile ExportStatus status = ExportStatus.QUEUED;
+    @Setter
+    private volatile long totalOrders = -1;
+    @Setter
+    private volatile List<String> files = List.of();
+    @Setter
+    private volatile String error;
+    @Setter
+    private volatile LocalDateTime startedAt;
+    @Setter
+    private volatile LocalDateTime finishedAt;
+
+    public boolean isFinished() {
+        return status == ExportStatus.COMPLETED || status == ExportStatus.FAILED;
+    }
+}
@@ -0,0 +1,54 @@
+package com.delivery.order_management.service.export;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+/**
+ * One row per order line, joined to orders by order_id
+ */
+public class OrderLineArrowWriter extends ArrowBatchWriter {
+
+    static final Schema SCHEMA = new Schema(List.of(
+            bigInt("id"),
+            bigInt("order_id"),
+            bigInt("menu_item_id"),
+            int32("quantity"),
+            amount("price_at_order"),
+            amount("subtotal")));
+
+    private final BigIntVector id;
+    private final BigIntVector orderId;
+    private final BigIntVector menuItemId;
+    private final IntVector quantity;
+    private final DecimalVector priceAtOrder;
+    private final DecimalVector subtotal;
+
+    public OrderLineArrowWriter(BufferAllocator allocator, Path file, int batchSize) throws IOException {
+        super(SCHEMA, allocator, file, batchSize);
+        this.id = (BigIntVector) root.getVector("id");
+        this.orderId = (BigIntVector) root.getVector("order_id");
+        this.menuItemId = (BigIntVector) root.getVector("menu_item_id");
+        this.quantity = (IntVector) root.getVector("quantity");
+        this.priceAtOrder = (DecimalVector) root.getVector("price_at_order");
+        this.subtotal = (DecimalVector) root.getVector("subtotal");
+    }
+
+    public void write(long lineId, long order, long menuItem, int lineQuantity, BigDecimal price,
+            BigDecimal lineSubtotal) throws IOException {
+        int row = nextRow();
+        set(id, row, lineId);
+        set(orderId, row, order);
+        set(menuItemId, row, menuItem);
+        quantity.setSafe(row, lineQuantity);
+        set(priceAtOrder, row, price);
+        set(subtotal, row, lineSubtotal);
+    }
+}
@@ -0,0 +1,208 @@
+package com.delivery.order_management.service.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable in-memory grid of restaurant locations for nearest-first search.
+ *
+ * The world is cut into square cells of cellDegrees. Locations are sorted by
+ * cell into flat primitive arrays, with a sorted array of occupied cell keys
+ * pointing into them, so the grid for 200k restaurants is a few MB with no
+ * per-entry objects. A query scans rings of cells outward from the query
+ * point, keeping the best limit hits in a bounded heap, and stops once the
+ * next ring cannot be closer than the worst hit kept or the radius.
+ */
+public final class GeoGrid {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    /**
+     * Opening hours as seconds of day, -1 when not set
+     */
+    public record Location(long id, double latitude, double longitude, int opensAt, int closesAt, boolean active,
+            boolean hasAvailableItems) {
+    }
+
+    public record Hit(long id, double distanceKm) {
+    }
+
+    private final double cellDegrees;
+    private final int rows;
+    private final int columns;
+
+    private final long[] cellKeys;
+    private final int[] cellStarts;
+    private final long[] ids;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final int[] opensAt;
+    private final int[] closesAt;
+    private final boolean[] active;
+    private final boolean[] hasAvailableItems;
+
+    private GeoGrid(double cellDegrees, List<Location> locations) {
+        this.cellDegrees = cellDegrees;
+        this.rows = (int) Math.ceil(180 / cellDegrees);
+        this.columns = (int) Math.ceil(360 / cellDegrees);
+
+        int n = locations.size();
+        long[] keys = new long[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            Location location = locations.get(i);
+            keys[i] = key(row(location.latitude()), column(location.longitude()));
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> keys[i]));
+
+        ids = new long[n];
+        latitudes = new double[n];
+        longitudes = new double[n];
+        opensAt = new int[n];
+        closesAt = new int[n];
+        active = new boolean[n];
+        hasAvailableItems = new boolean[n];
+        long[] distinctKeys = new long[n];
+        int[] starts = new int[n + 1];
+        int cells = 0;
+        for (int i = 0; i < n; i++) {
+            Location location = locations.get(order[i]);
+            ids[i] = location.id();
+            latitudes[i] = location.latitude();
+            longitudes[i] = location.longitude();
+            opensAt[i] = location.opensAt();
+            closesAt[i] = location.closesAt();
+            active[i] = location.active();
+            hasAvailableItems[i] = location.hasAvailableItems();
+            long key = keys[order[i]];
+            if (cells == 0 || distinctKeys[cells - 1] != key) {
+                distinctKeys[cells] = key;
+                starts[cells++] = i;
+            }
+        }
+        starts[cells] = n;
+        this.cellKeys = Arrays.copyOf(distinctKeys, cells);
+        this.cellStarts = Arrays.copyOf(starts, cells + 1);
+    }
+
+    public static GeoGrid build(List<Location> locations, double cellDegrees) {
+        if (cellDegrees <= 0 || cellDegrees > 10) {
+            throw new IllegalArgumentException("Cell size must be in (0, 10] degrees: " + cellDegrees);
+        }
+        return new GeoGrid(cellDegrees, locations);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Up to limit active locations within radiusKm, nearest first.
+     * secondOfDay keeps only those open at that time (-1 for any);
+     * availableOnly keeps only those with an available menu item.
+     */
+    public List<Hit> nearest(double latitude, double longitude, double radiusKm, int limit, int secondOfDay,
+            boolean availableOnly) {
+        // Max-heap on distance: the head is the worst hit kept
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1,
+                Comparator.comparingDouble(Hit::distanceKm).reversed());
+        int centerRow = row(latitude);
+        int centerColumn = column(longitude);
+        int maxRing = Math.max(rows, columns) / 2;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            if (ring > 0) {
+                // Anything outside rings 0..ring-1 is at least this far away
+                double bound = (ring - 1) * cellKilometres(latitude, ring);
+                if (bound > radiusKm || (best.size() == limit && best.peek().distanceKm() <= bound)) {
+                    break;
+                }
+            }
+            for (int dr = -ring; dr <= ring; dr++) {
+                int row = centerRow + dr;
+                if (row < 0 || row >= rows) {
+                    continue;
+                }
+                // Full rows at the ring's top and bottom edge, only the two side cells in between
+                int step = Math.abs(dr) == ring ? 1 : Math.max(1, 2 * ring);
+                for (int dc = -ring; dc <= ring; dc += step) {
+                    int column = Math.floorMod(centerColumn + dc, columns);
+                    scanCell(key(row, column), latitude, longitude, radiusKm, limit, secondOfDay, availableOnly, best);
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits;
+    }
+
+    private void scanCell(long key, double latitude, double longitude, double radiusKm, int limit, int secondOfDay,
+            boolean availableOnly, PriorityQueue<Hit> best) {
+        int cell = Arrays.binarySearch(cellKeys, key);
+        if (cell < 0) {
+            return;
+        }
+        for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+            if (!active[i] || (availableOnly && !hasAvailableItems[i])) {
+                continue;
+            }
+            if (secondOfDay >= 0 && !isOpen(i, secondOfDay)) {
+                continue;
+            }
+            double distance = distanceKm(latitude, longitude, latitudes[i], longitudes[i]);
+            if (distance > radiusKm) {
+                continue;
+            }
+            if (best.size() < limit) {
+                best.add(new Hit(ids[i], distance));
+            } else if (distance < best.peek().distanceKm()) {
+                best.poll();
+                best.add(new Hit(ids[i], distance));
+            }
+        }
+    }
+
+    // Same rule as RestaurantService.isOpen: opening <= now <= closing
+    private boolean isOpen(int i, int secondOfDay) {
+        return opensAt[i] >= 0 && closesAt[i] >= 0
+                && secondOfDay >= opensAt[i] && secondOfDay <= closesAt[i];
+    }
+
+    /**
+     * Smallest side of a cell within ring cells of the latitude; cells narrow
+     * towards the poles
+     */
+    private double cellKilometres(double latitude, int ring) {
+        double farthest = Math.min(89.0, Math.abs(latitude) + (ring + 1) * cellDegrees);
+        return cellDegrees * KM_PER_DEGREE * Math.cos(Math.toRadians(farthest));
+    }
+
+    private int row(double latitude) {
+        return Math.min(rows - 1, (int) Math.floor((latitude + 90) / cellDegrees));
+    }
+
+    private int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), columns);
+    }
+
+    private long key(int row, int column) {
+        return (long) row * columns + column;
+    }
+
+    /**
+     * Great-circle distance (haversine)
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
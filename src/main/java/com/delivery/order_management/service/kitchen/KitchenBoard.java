@@ -0,0 +1,144 @@
+package com.delivery.order_management.service.kitchen;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import com.delivery.order_management.model.dto.KitchenTicketResponse;
+import com.delivery.order_management.model.entity.OrderStatus;
+
+/**
+ * Active tickets of one restaurant, oldest first.
+ *
+ * Writers are serialized and publish a new immutable sorted list on every
+ * change, so readers only do a volatile read. Boards hold tens of tickets, so
+ * re-sorting on write is cheaper than keeping a concurrent sorted structure.
+ *
+ * Every change carries the order's updated_at. Changes older than what the
+ * board already holds for the order are dropped, so events delivered out of
+ * order cannot move a ticket backwards. Removed orders are remembered for a
+ * while so a late event cannot bring them back.
+ */
+public class KitchenBoard {
+
+    static final Duration REMOVED_RETENTION = Duration.ofMinutes(5);
+
+    private static final Comparator<KitchenTicketResponse> BY_AGE = Comparator
+            .comparing(KitchenTicketResponse::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(KitchenTicketResponse::getOrderId);
+
+    private final Map<Long, Ticket> tickets = new HashMap<>();
+    // Recently removed orders in removal order, so expired entries are at the head
+    private final LinkedHashMap<Long, Removal> removed = new LinkedHashMap<>();
+    private final LongSupplier clock;
+    private volatile View view = new View(List.of(), LocalDateTime.now());
+
+    public KitchenBoard() {
+        this(System::nanoTime);
+    }
+
+    KitchenBoard(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Add or replace a ticket unless the board already saw a newer change of the order
+     */
+    public synchronized void put(KitchenTicketResponse ticket, LocalDateTime updatedAt) {
+        if (isStale(ticket.getOrderId(), updatedAt)) {
+            return;
+        }
+        removed.remove(ticket.getOrderId());
+        tickets.put(ticket.getOrderId(), new Ticket(ticket, updatedAt));
+        publish();
+    }
+
+    /**
+     * Change the status of a ticket on the board; false when the board does not
+     * hold the order and the caller has to supply the whole ticket
+     */
+    public synchronized boolean updateStatus(Long orderId, OrderStatus status, LocalDateTime updatedAt) {
+        if (isStale(orderId, updatedAt)) {
+            return true;
+        }
+        Ticket current = tickets.get(orderId);
+        if (current == null) {
+            return false;
+        }
+        KitchenTicketResponse ticket = current.ticket().toBuilder().status(status).build();
+        tickets.put(orderId, new Ticket(ticket, updatedAt));
+        publish();
+        return true;
+    }
+
+    /**
+     * Remove a ticket unless the board already saw a newer change of the order
+     */
+    public synchronized void remove(Long orderId, LocalDateTime updatedAt) {
+        if (isStale(orderId, updatedAt)) {
+            return;
+        }
+        expireRemoved();
+        removed.remove(orderId);
+        removed.put(orderId, new Removal(updatedAt, clock.getAsLong()));
+        if (tickets.remove(orderId) != null) {
+            publish();
+        }
+    }
+
+    public View view() {
+        return view;
+    }
+
+    private boolean isStale(Long orderId, LocalDateTime updatedAt) {
+        Ticket current = tickets.get(orderId);
+        if (current != null) {
+            return isBefore(updatedAt, current.updatedAt());
+        }
+        Removal removal = removed.get(orderId);
+        // Nothing moves an order out of a terminal status, so only an equal or newer removal is current
+        return removal != null && !isAfter(updatedAt, removal.updatedAt());
+    }
+
+    private void expireRemoved() {
+        long cutoff = clock.getAsLong() - REMOVED_RETENTION.toNanos();
+        Iterator<Removal> iterator = removed.values().iterator();
+        while (iterator.hasNext() && iterator.next().removedAtNanos() - cutoff < 0) {
+            iterator.remove();
+        }
+    }
+
+    // Changes without a timestamp are never considered stale
+    private static boolean isBefore(LocalDateTime updatedAt, LocalDateTime known) {
+        return updatedAt != null && known != null && updatedAt.isBefore(known);
+    }
+
+    private static boolean isAfter(LocalDateTime updatedAt, LocalDateTime known) {
+        return updatedAt == null || known == null || updatedAt.isAfter(known);
+    }
+
+    private void publish() {
+        List<KitchenTicketResponse> sorted = new ArrayList<>(tickets.size());
+        for (Ticket ticket : tickets.values()) {
+            sorted.add(ticket.ticket());
+        }
+        sorted.sort(BY_AGE);
+        view = new View(List.copyOf(sorted), LocalDateTime.now());
+    }
+
+    public record View(List<KitchenTicketResponse> tickets, LocalDateTime updatedAt) {
+    }
+
+    private record Ticket(KitchenTicketResponse ticket, LocalDateTime updatedAt) {
+    }
+
+    private record Removal(LocalDateTime updatedAt, long removedAtNanos) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.delivery.order_management.service.ordernumber;
+
+/**
+ * Produces the unique, human-facing order number stored in orders.order_number
+ */
+public interface OrderNumberGenerator {
+
+    String PREFIX = "ORD-";
+
+    String nextOrderNumber();
+}
@@ -0,0 +1,114 @@
+package com.delivery.order_management.service.ordernumber;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Time-ordered order numbers in the form ORD-XXXXXXXXXXXXX.
+ *
+ * The 64-bit id packs 41 bits of milliseconds since 2024-01-01, a 10-bit node
+ * id and a 12-bit per-millisecond sequence, and is written as 13 Crockford
+ * base32 characters. Fixed width keeps string order equal to numeric order, so
+ * new rows land at the right edge of the order_number index.
+ *
+ * Ids are unique across instances as long as every instance runs with a
+ * distinct order.number.node-id. When none is configured the node id is
+ * derived from host name and pid, which only makes collisions unlikely, so
+ * order.number.require-node-id (set by the prod profile) refuses to start
+ * without one.
+ */
+@Component
+@ConditionalOnProperty(name = "order.number.generator", havingValue = "snowflake", matchIfMissing = true)
+@Slf4j
+public class SnowflakeOrderNumberGenerator implements OrderNumberGenerator {
+
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int ENCODED_LENGTH = 13;
+    private static final char[] CROCKFORD_ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+
+    // Last issued (millis << SEQUENCE_BITS | sequence); only ever moves forward
+    private final AtomicLong lastState = new AtomicLong();
+
+    @Autowired
+    public SnowflakeOrderNumberGenerator(@Value("${order.number.node-id:-1}") int nodeId,
+            @Value("${order.number.require-node-id:false}") boolean requireNodeId) {
+        this(nodeId < 0 ? deriveNodeId(requireNodeId) : nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeOrderNumberGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+        log.info("Order number generator using node id: {}", nodeId);
+    }
+
+    @Override
+    public String nextOrderNumber() {
+        return encode(nextId());
+    }
+
+    /**
+     * Next raw id. If the clock stalls or steps back, or the sequence for the
+     * current millisecond is exhausted, the logical clock runs ahead of the
+     * wall clock instead of blocking.
+     */
+    long nextId() {
+        long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long state;
+        long next;
+        do {
+            state = lastState.get();
+            next = Math.max(state + 1, now);
+        } while (!lastState.compareAndSet(state, next));
+
+        long millis = next >>> SEQUENCE_BITS;
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+    }
+
+    static String encode(long id) {
+        char[] chars = new char[PREFIX.length() + ENCODED_LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        for (int i = chars.length - 1; i >= PREFIX.length(); i--) {
+            chars[i] = CROCKFORD_ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    private static int deriveNodeId(boolean requireNodeId) {
+        if (requireNodeId) {
+            throw new IllegalStateException(
+                    "order.number.node-id must be set to a value unique per instance (0-" + MAX_NODE_ID + ")");
+        }
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException ex) {
+            host = "unknown";
+        }
+        int nodeId = ((host + ":" + ProcessHandle.current().pid()).hashCode() & 0x7fffffff) % (MAX_NODE_ID + 1);
+        log.warn("order.number.node-id not set, derived node id {} from host {}; configure a unique id per instance",
+                nodeId, host);
+        return nodeId;
+    }
+}
@@ -0,0 +1,19 @@
+package com.delivery.order_management.service.ordernumber;
+
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Original ORD-&lt;millis&gt;-&lt;uuid8&gt; scheme, kept for comparison and rollback
+ */
+@Component
+@ConditionalOnProperty(name = "order.number.generator", havingValue = "uuid")
+public class UuidOrderNumberGenerator implements OrderNumberGenerator {
+
+    @Override
+    public String nextOrderNumber() {
+        return PREFIX + System.currentTimeMillis() + "-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+}
@@ -0,0 +1,29 @@
+package com.delivery.order_management.service.pricing;
+
+import java.util.List;
+
+import com.delivery.order_management.model.entity.OrderItem;
+import com.delivery.order_management.model.money.Money;
+
+/**
+ * Prices order lines in minor units. Each line costs one multiply and one add
+ * on longs instead of two BigDecimal operations, and overflow throws.
+ */
+public final class OrderPricer {
+
+    private OrderPricer() {
+    }
+
+    /**
+     * Set each line's subtotal to price at order times quantity and return the order total
+     */
+    public static Money price(List<OrderItem> lines) {
+        long total = 0;
+        for (OrderItem line : lines) {
+            long subtotal = Math.multiplyExact(line.getPriceAtOrder().minorUnits(), line.getQuantity().longValue());
+            line.setSubtotal(Money.ofMinor(subtotal));
+            total = Math.addExact(total, subtotal);
+        }
+        return Money.ofMinor(total);
+    }
+}
@@ -0,0 +1,52 @@
+package com.delivery.order_management.service.resilience;
+
+/**
+ * Call timeout that follows the dependency's observed latency, the way TCP
+ * derives its retransmission timeout: smoothed latency plus four times its
+ * mean deviation, clamped to [min, max]. A healthy Redis answering in a
+ * millisecond gets a timeout of a few milliseconds rather than seconds.
+ */
+public class AdaptiveTimeout {
+
+    private final long minNanos;
+    private final long maxNanos;
+
+    private double smoothed;
+    private double deviation;
+    private volatile long timeoutNanos;
+
+    public AdaptiveTimeout(long initialNanos, long minNanos, long maxNanos) {
+        this.minNanos = minNanos;
+        this.maxNanos = maxNanos;
+        this.smoothed = initialNanos;
+        this.deviation = initialNanos / 4.0;
+        this.timeoutNanos = clamp(initialNanos);
+    }
+
+    public long timeoutNanos() {
+        return timeoutNanos;
+    }
+
+    /**
+     * Latency of a call that completed in time
+     */
+    public synchronized void record(long latencyNanos) {
+        double error = latencyNanos - smoothed;
+        smoothed += error / 8;
+        deviation += (Math.abs(error) - deviation) / 4;
+        timeoutNanos = clamp((long) (smoothed + 4 * deviation));
+    }
+
+    /**
+     * A call ran into the timeout: back off so a slow but working
+     * dependency is not cut off on every call
+     */
+    public synchronized void onTimeout() {
+        timeoutNanos = clamp(timeoutNanos * 2);
+        smoothed = Math.max(smoothed, timeoutNanos / 2.0);
+    }
+
+    private long clamp(long nanos) {
+        return Math.max(minNanos, Math.min(maxNanos, nanos));
+    }
+}
@@ -0,0 +1,120 @@
+package com.delivery.order_management.service.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker.
+ *
+ * Closed, outcomes are counted in tumbling windows of windowSize calls; a
+ * window whose failure rate reaches the threshold opens the breaker. Open,
+ * every call is refused until openDuration has passed; then up to
+ * halfOpenCalls trial calls go through. Their success closes the breaker,
+ * any failure opens it again.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final double failureThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger trials = new AtomicInteger();
+    private final AtomicInteger trialSuccesses = new AtomicInteger();
+
+    public CircuitBreaker(int windowSize, double failureThreshold, long openNanos, int halfOpenCalls) {
+        this(windowSize, failureThreshold, openNanos, halfOpenCalls, System::nanoTime);
+    }
+
+    CircuitBreaker(int windowSize, double failureThreshold, long openNanos, int halfOpenCalls, LongSupplier clock) {
+        this.windowSize = windowSize;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openNanos;
+        this.halfOpenCalls = halfOpenCalls;
+        this.clock = clock;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Whether a call may go to the dependency; every permitted call must be
+     * followed by onSuccess or onFailure
+     */
+    public boolean tryPermit() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openNanos) {
+                return false;
+            }
+            halfOpen();
+        }
+        return trials.incrementAndGet() <= halfOpenCalls;
+    }
+
+    public void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (trialSuccesses.incrementAndGet() >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+    }
+
+    private void record(boolean failed) {
+        if (failed) {
+            failures.incrementAndGet();
+        }
+        int count = calls.incrementAndGet();
+        // Whoever completes the window evaluates and resets it
+        if (count >= windowSize && calls.compareAndSet(count, 0)) {
+            int failedInWindow = failures.getAndSet(0);
+            if (failedInWindow >= failureThreshold * count) {
+                open();
+            }
+        }
+    }
+
+    private synchronized void open() {
+        openedAt = clock.getAsLong();
+        state = State.OPEN;
+    }
+
+    private synchronized void halfOpen() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openNanos) {
+            trials.set(0);
+            trialSuccesses.set(0);
+            state = State.HALF_OPEN;
+        }
+    }
+
+    private synchronized void close() {
+        if (state == State.HALF_OPEN) {
+            calls.set(0);
+            failures.set(0);
+            state = State.CLOSED;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.delivery.order_management.service.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Calls to one external dependency behind a circuit breaker, a bulkhead and
+ * an adaptive timeout, so a slow or dead dependency costs the caller at most
+ * one short timeout and then nothing while the breaker is open.
+ *
+ * Each call runs on a virtual thread while the caller waits up to the
+ * current timeout. The bulkhead caps calls in progress, including ones the
+ * caller already gave up on, so a hung dependency cannot pile up threads.
+ * Whenever the call is refused, times out or fails, the caller gets the
+ * fallback instead of an exception.
+ */
+@Slf4j
+public class DependencyGuard {
+
+    private final String name;
+    private final CircuitBreaker breaker;
+    private final Semaphore bulkhead;
+    private final AdaptiveTimeout timeout;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("guard-", 0).factory());
+
+    private final Counter openFallbacks;
+    private final Counter bulkheadFallbacks;
+    private final Counter timeoutFallbacks;
+    private final Counter errorFallbacks;
+
+    public DependencyGuard(String name, GuardSettings settings, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.breaker = new CircuitBreaker(settings.windowSize(), settings.failureThreshold(),
+                settings.openDuration().toNanos(), settings.halfOpenCalls());
+        this.bulkhead = new Semaphore(settings.maxConcurrentCalls());
+        this.timeout = new AdaptiveTimeout(settings.initialTimeout().toNanos(), settings.minTimeout().toNanos(),
+                settings.maxTimeout().toNanos());
+
+        this.openFallbacks = fallbackCounter(meterRegistry, "open");
+        this.bulkheadFallbacks = fallbackCounter(meterRegistry, "bulkhead");
+        this.timeoutFallbacks = fallbackCounter(meterRegistry, "timeout");
+        this.errorFallbacks = fallbackCounter(meterRegistry, "error");
+        Gauge.builder("order.resilience.state", breaker, b -> b.getState().ordinal())
+                .description("Circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .tag("dependency", name)
+                .register(meterRegistry);
+        Gauge.builder("order.resilience.timeout", timeout, t -> t.timeoutNanos() / 1e6)
+                .description("Current call timeout in milliseconds")
+                .tag("dependency", name)
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Whether calls currently go through; a half-open breaker admits trial calls
+     */
+    public boolean isAvailable() {
+        return breaker.getState() != CircuitBreaker.State.OPEN;
+    }
+
+    public <T> T call(Supplier<T> action, Supplier<T> fallback) {
+        if (!breaker.tryPermit()) {
+            openFallbacks.increment();
+            return fallback.get();
+        }
+        if (!bulkhead.tryAcquire()) {
+            // Not the dependency's verdict; the trial or window slot is simply not used
+            breaker.onSuccess();
+            bulkheadFallbacks.increment();
+            return fallback.get();
+        }
+
+        long started = System.nanoTime();
+        long limit = timeout.timeoutNanos();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                try {
+                    return action.get();
+                } finally {
+                    bulkhead.release();
+                }
+            });
+        } catch (RuntimeException ex) {
+            bulkhead.release();
+            throw ex;
+        }
+
+        try {
+            T result = future.get(limit, TimeUnit.NANOSECONDS);
+            timeout.record(System.nanoTime() - started);
+            breaker.onSuccess();
+            return result;
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            timeout.onTimeout();
+            fail(timeoutFallbacks, "timed out after " + Duration.ofNanos(limit).toMillis() + " ms");
+        } catch (ExecutionException ex) {
+            fail(errorFallbacks, String.valueOf(ex.getCause().getMessage()));
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            breaker.onSuccess();
+        }
+        return fallback.get();
+    }
+
+    public void run(Runnable action, Runnable fallback) {
+        call(() -> {
+            action.run();
+            return null;
+        }, () -> {
+            fallback.run();
+            return null;
+        });
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void fail(Counter counter, String reason) {
+        counter.increment();
+        boolean wasAvailable = isAvailable();
+        breaker.onFailure();
+        if (wasAvailable && !isAvailable()) {
+            log.warn("Circuit for {} opened ({}); using fallbacks", name, reason);
+        } else {
+            log.debug("Call to {} failed: {}", name, reason);
+        }
+    }
+
+    private Counter fallbackCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("order.resilience.fallbacks")
+                .description("Calls answered by the fallback instead of the dependency")
+                .tag("dependency", name)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
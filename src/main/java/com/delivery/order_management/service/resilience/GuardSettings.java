@@ -0,0 +1,17 @@
+package com.delivery.order_management.service.resilience;
+
+import java.time.Duration;
+
+/**
+ * Breaker, bulkhead and timeout settings of one dependency
+ */
+public record GuardSettings(
+        int windowSize,
+        double failureThreshold,
+        Duration openDuration,
+        int halfOpenCalls,
+        int maxConcurrentCalls,
+        Duration initialTimeout,
+        Duration minTimeout,
+        Duration maxTimeout) {
+}
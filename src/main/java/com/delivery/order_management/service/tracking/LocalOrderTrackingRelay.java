@@ -0,0 +1,24 @@
+package com.delivery.order_management.service.tracking;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.delivery.order_management.model.dto.OrderTrackingEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Single-node relay: events go straight to the local hub
+ */
+@Component
+@ConditionalOnProperty(name = "order.tracking.relay", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalOrderTrackingRelay implements OrderTrackingRelay {
+
+    private final OrderTrackingHub hub;
+
+    @Override
+    public void publish(OrderTrackingEvent event) {
+        hub.dispatch(event);
+    }
+}
@@ -0,0 +1,270 @@
+package com.delivery.order_management.service.tracking;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.delivery.order_management.model.dto.OrderTrackingEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local fan-out of order tracking events to SSE subscribers.
+ *
+ * Producers never write to a connection: they put the event into the
+ * subscriber's pending set, where a newer event for the same order replaces
+ * the older one, and a small shared pool drains it. A subscriber whose
+ * pending set grows beyond the limit is closed; the client reconnects and
+ * receives a fresh snapshot.
+ *
+ * A subscriber is registered before its snapshot is read, so no change
+ * committed in between is missed. Events arriving before the snapshot is
+ * sent are held back, and those not newer than the snapshot's state of
+ * their order are dropped.
+ */
+@Component
+@Slf4j
+public class OrderTrackingHub {
+
+    static final String EVENT_NAME = "order-status";
+
+    private final Map<String, Set<Subscriber>> orderSubscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> restaurantSubscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final ExecutorService deliveryExecutor;
+    private final ScheduledExecutorService heartbeatExecutor;
+    private final long emitterTimeoutMillis;
+    private final int maxPendingEvents;
+
+    public OrderTrackingHub(MeterRegistry meterRegistry,
+            @Value("${order.tracking.delivery-threads:8}") int deliveryThreads,
+            @Value("${order.tracking.emitter-timeout:30m}") Duration emitterTimeout,
+            @Value("${order.tracking.heartbeat-interval:20s}") Duration heartbeatInterval,
+            @Value("${order.tracking.max-pending-events:256}") int maxPendingEvents) {
+        this.deliveryExecutor = Executors.newFixedThreadPool(deliveryThreads, Thread.ofPlatform()
+                .name("order-tracking-", 0).daemon(true).factory());
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("order-tracking-heartbeat").daemon(true).factory());
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        this.maxPendingEvents = maxPendingEvents;
+
+        heartbeatExecutor.scheduleAtFixedRate(this::sendHeartbeats,
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        Gauge.builder("order.tracking.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open order tracking SSE connections")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribeOrder(String orderNumber, Supplier<OrderTrackingEvent> current) {
+        return subscribe(orderSubscribers, orderNumber, () -> List.of(current.get()));
+    }
+
+    public SseEmitter subscribeRestaurant(Long restaurantId, Supplier<List<OrderTrackingEvent>> current) {
+        return subscribe(restaurantSubscribers, restaurantId, current);
+    }
+
+    /**
+     * Deliver an event to subscribers of its order and of its restaurant on this node
+     */
+    public void dispatch(OrderTrackingEvent event) {
+        offerAll(orderSubscribers.get(event.getOrderNumber()), event);
+        offerAll(restaurantSubscribers.get(event.getRestaurantId()), event);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+        orderSubscribers.values().forEach(subscribers -> subscribers.forEach(Subscriber::close));
+        restaurantSubscribers.values().forEach(subscribers -> subscribers.forEach(Subscriber::close));
+        deliveryExecutor.shutdown();
+    }
+
+    /**
+     * Register the subscriber, then read and send the snapshot
+     */
+    private <K> SseEmitter subscribe(Map<K, Set<Subscriber>> registry, K key,
+            Supplier<List<OrderTrackingEvent>> snapshot) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+
+        Runnable unregister = () -> {
+            if (subscriber.markClosed()) {
+                subscriberCount.decrementAndGet();
+                registry.computeIfPresent(key, (k, subscribers) -> {
+                    subscribers.remove(subscriber);
+                    return subscribers.isEmpty() ? null : subscribers;
+                });
+            }
+        };
+        emitter.onCompletion(unregister);
+        emitter.onTimeout(unregister);
+        emitter.onError(ex -> unregister.run());
+
+        registry.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+
+        List<OrderTrackingEvent> current;
+        try {
+            current = snapshot.get();
+        } catch (RuntimeException ex) {
+            unregister.run();
+            throw ex;
+        }
+        subscriber.start(current);
+        return emitter;
+    }
+
+    private void offerAll(Set<Subscriber> subscribers, OrderTrackingEvent event) {
+        if (subscribers != null) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    // Without timestamps the later arrival wins
+    private static boolean isNewer(OrderTrackingEvent event, OrderTrackingEvent than) {
+        return event.getUpdatedAt() == null || than.getUpdatedAt() == null
+                || event.getUpdatedAt().isAfter(than.getUpdatedAt());
+    }
+
+    private void sendHeartbeats() {
+        orderSubscribers.values().forEach(subscribers -> subscribers.forEach(Subscriber::heartbeat));
+        restaurantSubscribers.values().forEach(subscribers -> subscribers.forEach(Subscriber::heartbeat));
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final LinkedHashMap<String, OrderTrackingEvent> pending = new LinkedHashMap<>();
+        private boolean started;
+        private boolean draining;
+        private boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(OrderTrackingEvent event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                // Conflate: only the latest state of each order is worth sending
+                pending.remove(event.getOrderNumber());
+                pending.put(event.getOrderNumber(), event);
+                if (pending.size() > maxPendingEvents) {
+                    log.warn("Closing slow order tracking subscriber with {} pending events", pending.size());
+                    pending.clear();
+                    emitter.complete();
+                    return;
+                }
+                if (!started || draining) {
+                    return;
+                }
+                draining = true;
+            }
+            deliveryExecutor.execute(this::drain);
+        }
+
+        /**
+         * Send the snapshot, followed by the held-back events that are newer
+         */
+        void start(List<OrderTrackingEvent> snapshot) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                List<OrderTrackingEvent> heldBack = new ArrayList<>(pending.values());
+                pending.clear();
+                for (OrderTrackingEvent event : snapshot) {
+                    pending.put(event.getOrderNumber(), event);
+                }
+                for (OrderTrackingEvent event : heldBack) {
+                    OrderTrackingEvent current = pending.get(event.getOrderNumber());
+                    if (current == null || isNewer(event, current)) {
+                        pending.remove(event.getOrderNumber());
+                        pending.put(event.getOrderNumber(), event);
+                    }
+                }
+                started = true;
+                if (pending.isEmpty() || draining) {
+                    return;
+                }
+                draining = true;
+            }
+            deliveryExecutor.execute(this::drain);
+        }
+
+        void heartbeat() {
+            deliveryExecutor.execute(() -> {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException ex) {
+                    emitter.completeWithError(ex);
+                }
+            });
+        }
+
+        void close() {
+            emitter.complete();
+        }
+
+        synchronized boolean markClosed() {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            pending.clear();
+            return true;
+        }
+
+        private void drain() {
+            while (true) {
+                List<OrderTrackingEvent> batch;
+                synchronized (this) {
+                    if (closed || pending.isEmpty()) {
+                        draining = false;
+                        return;
+                    }
+                    batch = new ArrayList<>(pending.values());
+                    pending.clear();
+                }
+
+                for (OrderTrackingEvent event : batch) {
+                    try {
+                        emitter.send(SseEmitter.event()
+                                .name(EVENT_NAME)
+                                .id(event.getOrderNumber() + ":" + event.getStatus())
+                                .data(event));
+                    } catch (IOException | IllegalStateException ex) {
+                        emitter.completeWithError(ex);
+                        synchronized (this) {
+                            draining = false;
+                        }
+                        return;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.delivery.order_management.service.tracking;
+
+import com.delivery.order_management.model.dto.OrderTrackingEvent;
+
+/**
+ * Carries tracking events to the hubs of every node that may hold subscribers
+ */
+public interface OrderTrackingRelay {
+
+    void publish(OrderTrackingEvent event);
+}
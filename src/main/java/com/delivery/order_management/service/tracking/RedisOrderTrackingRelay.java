@@ -0,0 +1,135 @@
+package com.delivery.order_management.service.tracking;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.delivery.order_management.event.RemoteOrderTrackingEvent;
+import com.delivery.order_management.model.dto.OrderTrackingEvent;
+import com.delivery.order_management.service.resilience.DependencyGuard;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Multi-node relay over Redis pub/sub.
+ *
+ * Events are dispatched to the local hub immediately and published for the
+ * other nodes; each node ignores its own messages. If Redis is slow or
+ * unavailable, local subscribers are still served and the event goes to a
+ * spill file, which is replayed to the other nodes once Redis answers again.
+ * While the spill file holds events, new ones are appended behind them so
+ * every order's events still arrive in order.
+ *
+ * Events from other nodes are also published locally as
+ * RemoteOrderTrackingEvent, so in-memory projections such as the kitchen
+ * boards follow changes made anywhere.
+ */
+@Component
+@ConditionalOnProperty(name = "order.tracking.relay", havingValue = "redis")
+@Slf4j
+public class RedisOrderTrackingRelay implements OrderTrackingRelay, MessageListener {
+
+    static final ChannelTopic CHANNEL = new ChannelTopic("order-tracking");
+
+    private final OrderTrackingHub hub;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final DependencyGuard redisGuard;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TrackingEventSpill spill;
+    private final RedisMessageListenerContainer container;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisOrderTrackingRelay(OrderTrackingHub hub,
+            RedisTemplate<String, Object> redisTemplate,
+            RedisConnectionFactory connectionFactory,
+            DependencyGuard redisGuard,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            @Value("${order.tracking.spill-file:data/tracking-spill-${server.port:8080}.ndjson}") Path spillFile,
+            @Value("${order.tracking.spill-max-size:64MB}") DataSize spillMaxSize,
+            @Value("${order.tracking.spill-sync-interval:100ms}") Duration spillSyncInterval) {
+        this.hub = hub;
+        this.redisTemplate = redisTemplate;
+        this.redisGuard = redisGuard;
+        this.eventPublisher = eventPublisher;
+        this.spill = new TrackingEventSpill(spillFile, spillMaxSize.toBytes(), spillSyncInterval, objectMapper);
+        this.container = new RedisMessageListenerContainer();
+        this.container.setConnectionFactory(connectionFactory);
+        this.container.addMessageListener(this, CHANNEL);
+        this.container.afterPropertiesSet();
+        this.container.start();
+    }
+
+    @Override
+    public void publish(OrderTrackingEvent event) {
+        hub.dispatch(event);
+        if (!spill.isEmpty() || !relay(event)) {
+            spill.append(event);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.tracking.spill-replay-interval:PT5S}")
+    public void replaySpilled() {
+        if (spill.isEmpty() || !redisGuard.isAvailable()) {
+            return;
+        }
+        try {
+            int replayed = spill.replay(this::relay);
+            if (replayed > 0) {
+                log.info("Replayed {} spilled tracking events, {} bytes left", replayed, spill.size());
+            }
+        } catch (IOException ex) {
+            log.warn("Failed to replay tracking spill file: {}", ex.getMessage());
+        }
+    }
+
+    private boolean relay(OrderTrackingEvent event) {
+        RelayedEvent relayed = new RelayedEvent(nodeId, event);
+        return redisGuard.call(() -> {
+            redisTemplate.convertAndSend(CHANNEL.getTopic(), relayed);
+            return true;
+        }, () -> false);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (body instanceof RelayedEvent relayed && !nodeId.equals(relayed.getNodeId())) {
+            hub.dispatch(relayed.getEvent());
+            eventPublisher.publishEvent(new RemoteOrderTrackingEvent(relayed.getEvent()));
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        container.destroy();
+        spill.close();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RelayedEvent {
+        private String nodeId;
+        private OrderTrackingEvent event;
+    }
+}
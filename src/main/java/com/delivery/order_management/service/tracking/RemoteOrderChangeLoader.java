@@ -0,0 +1,55 @@
+package com.delivery.order_management.service.tracking;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.delivery.order_management.event.OrderSnapshot;
+import com.delivery.order_management.event.RemoteOrderChangedEvent;
+import com.delivery.order_management.event.RemoteOrderTrackingEvent;
+import com.delivery.order_management.model.dto.OrderTrackingEvent;
+import com.delivery.order_management.model.entity.Order;
+import com.delivery.order_management.repository.OrderRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Turns relayed tracking events, which carry only the status, into
+ * RemoteOrderChangedEvent with the full order, so rollups fed by order
+ * events also count changes made on other nodes. The order is read once per
+ * relayed event and carries the relayed status, as it may have moved on
+ * since.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RemoteOrderChangeLoader {
+
+    private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener
+    public void onRemoteOrderChanged(RemoteOrderTrackingEvent remote) {
+        OrderTrackingEvent event = remote.event();
+        List<Order> orders;
+        try {
+            orders = orderRepository.findWithItemsByIdIn(List.of(event.getOrderId()));
+        } catch (DataAccessException ex) {
+            log.warn("Failed to load remotely changed order {}: {}", event.getOrderId(), ex.getMessage());
+            return;
+        }
+        // Archived orders are terminal and older than any change still being relayed
+        for (Order order : orders) {
+            OrderSnapshot current = OrderSnapshot.from(order);
+            OrderSnapshot changed = new OrderSnapshot(current.id(), current.orderNumber(), current.restaurantId(),
+                    current.customerName(), current.deliveryLatitude(), current.deliveryLongitude(),
+                    event.getStatus(), current.totalAmount(), current.notes(), current.createdAt(),
+                    event.getUpdatedAt(), current.lines());
+            eventPublisher.publishEvent(new RemoteOrderChangedEvent(changed, event.getPreviousStatus()));
+        }
+    }
+}
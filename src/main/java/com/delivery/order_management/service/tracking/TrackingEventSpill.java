@@ -0,0 +1,173 @@
+package com.delivery.order_management.service.tracking;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import com.delivery.order_management.model.dto.OrderTrackingEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only file of tracking events that could not be relayed, one JSON
+ * document per line, so they survive a restart. Appends only write to the
+ * page cache, which already outlives a crash of the process; a background
+ * thread forces them to disk every syncInterval, one fsync for all events
+ * appended since, so the publishing thread never waits for the disk. Only
+ * an OS crash or power loss can lose the last syncInterval of events.
+ * Replay hands the events back oldest first and keeps whatever could not be
+ * published yet. Beyond maxBytes new events are dropped.
+ */
+@Slf4j
+public class TrackingEventSpill {
+
+    private final Path file;
+    private final long maxBytes;
+    private final ObjectMapper objectMapper;
+
+    private final ScheduledExecutorService syncer;
+
+    private FileChannel channel;
+    private volatile long size;
+    private long dropped;
+    // Written since the last fsync
+    private boolean dirty;
+
+    public TrackingEventSpill(Path file, long maxBytes, Duration syncInterval, ObjectMapper objectMapper) {
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.objectMapper = objectMapper;
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            open();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot open tracking spill file " + file, ex);
+        }
+        if (size > 0) {
+            log.info("Tracking spill file {} holds {} bytes of events to replay", file, size);
+        }
+        this.syncer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("order-tracking-spill-sync").daemon(true).factory());
+        syncer.scheduleWithFixedDelay(this::sync, syncInterval.toMillis(), syncInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public synchronized void append(OrderTrackingEvent event) {
+        try {
+            byte[] line = (objectMapper.writeValueAsString(event) + "\n").getBytes(StandardCharsets.UTF_8);
+            if (size + line.length > maxBytes) {
+                if (dropped++ % 1000 == 0) {
+                    log.warn("Tracking spill file {} is full, {} events dropped so far", file, dropped);
+                }
+                return;
+            }
+            channel.write(ByteBuffer.wrap(line));
+            size += line.length;
+            dirty = true;
+        } catch (IOException ex) {
+            log.warn("Failed to spill tracking event for order {}: {}", event.getOrderNumber(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Offer spilled events to publisher in order until it returns false;
+     * returns the number published
+     */
+    public synchronized int replay(Predicate<OrderTrackingEvent> publisher) throws IOException {
+        if (size == 0) {
+            return 0;
+        }
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        int published = 0;
+        while (published < lines.size()) {
+            OrderTrackingEvent event;
+            try {
+                event = objectMapper.readValue(lines.get(published), OrderTrackingEvent.class);
+            } catch (JsonProcessingException ex) {
+                // A torn last line from a crash mid-append; nothing after it to keep
+                log.warn("Skipping unreadable tracking spill entry: {}", ex.getMessage());
+                published++;
+                continue;
+            }
+            if (!publisher.test(event)) {
+                break;
+            }
+            published++;
+        }
+
+        channel.close();
+        if (published == lines.size()) {
+            Files.delete(file);
+        } else {
+            Path rest = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(rest, lines.subList(published, lines.size()), StandardCharsets.UTF_8);
+            Files.move(rest, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        open();
+        // The rewritten rest is not on disk yet either
+        dirty = size > 0;
+        return published;
+    }
+
+    public void close() throws IOException {
+        syncer.shutdownNow();
+        sync();
+        synchronized (this) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Force everything appended since the last sync to disk, outside the
+     * append lock so appends continue meanwhile
+     */
+    private void sync() {
+        FileChannel current;
+        synchronized (this) {
+            if (!dirty) {
+                return;
+            }
+            dirty = false;
+            current = channel;
+        }
+        try {
+            current.force(false);
+        } catch (ClosedChannelException ex) {
+            // Reopened by a replay, which marks the new channel dirty itself
+        } catch (IOException ex) {
+            log.warn("Failed to sync tracking spill file {}: {}", file, ex.getMessage());
+            synchronized (this) {
+                dirty = true;
+            }
+        }
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        size = channel.size();
+    }
+}
@@ -0,0 +1,52 @@
+package com.delivery.order_management.service.warmup;
+
+import java.util.Arrays;
+
+/**
+ * Decides when request latency has stopped improving during warm-up.
+ *
+ * Each round of requests is reduced to its p99. Latency counts as settled once
+ * the p99 of the given number of consecutive rounds stays within the tolerance
+ * of the previous round, i.e. the JIT and caches no longer make a difference.
+ * Not thread-safe; one warm-up thread feeds it.
+ */
+public class LatencySettling {
+
+    private final double tolerance;
+    private final int requiredStableRounds;
+    private long previousP99 = -1;
+    private int stableRounds;
+
+    public LatencySettling(double tolerance, int requiredStableRounds) {
+        this.tolerance = tolerance;
+        this.requiredStableRounds = requiredStableRounds;
+    }
+
+    /**
+     * Record a round and return its p99
+     */
+    public long addRound(long[] latencies) {
+        long p99 = percentile(latencies, 0.99);
+        if (previousP99 >= 0 && Math.abs(p99 - previousP99) <= previousP99 * tolerance) {
+            stableRounds++;
+        } else {
+            stableRounds = 0;
+        }
+        previousP99 = p99;
+        return p99;
+    }
+
+    public boolean isSettled() {
+        return stableRounds >= requiredStableRounds;
+    }
+
+    static long percentile(long[] values, double quantile) {
+        if (values.length == 0) {
+            return 0;
+        }
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,29 @@
+package com.delivery.order_management.service.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import com.delivery.order_management.service.WarmUpService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Out of service until warm-up has finished. Part of the readiness group, so
+ * the readiness probe only passes once the instance has warmed up.
+ */
+@Component("warmUp")
+@RequiredArgsConstructor
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final WarmUpService warmUpService;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = warmUpService.isComplete() ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("phase", warmUpService.getPhase())
+                .withDetails(warmUpService.getPhaseMillis())
+                .build();
+    }
+}
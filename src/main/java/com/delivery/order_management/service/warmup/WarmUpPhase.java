@@ -0,0 +1,12 @@
+package com.delivery.order_management.service.warmup;
+
+/**
+ * Stages of the start-up warm-up, in the order they run
+ */
+public enum WarmUpPhase {
+    PENDING,
+    CONNECTIONS,
+    CACHES,
+    REQUESTS,
+    COMPLETE
+}
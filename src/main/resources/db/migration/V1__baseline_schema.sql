@@ -0,0 +1,84 @@
+-- Schema as of the entities in model/entity; the same tables ddl-auto: update creates.
+-- Databases that were created by ddl-auto are adopted at this version (baselineOnMigrate).
+
+CREATE TABLE restaurants (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name         VARCHAR(255) NOT NULL,
+    description  VARCHAR(255),
+    address      VARCHAR(255),
+    phone        VARCHAR(255),
+    is_active    BOOLEAN,
+    opening_time TIME(6),
+    closing_time TIME(6),
+    latitude     FLOAT(53),
+    longitude    FLOAT(53),
+    version      BIGINT DEFAULT 0 NOT NULL,
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6)
+);
+
+CREATE TABLE menu_items (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    restaurant_id  BIGINT NOT NULL REFERENCES restaurants (id),
+    name           VARCHAR(255) NOT NULL,
+    description    VARCHAR(255),
+    price          NUMERIC(10, 2) NOT NULL,
+    category       VARCHAR(255),
+    is_available   BOOLEAN,
+    stock_quantity INTEGER,
+    version        BIGINT DEFAULT 0 NOT NULL,
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6)
+);
+
+CREATE TABLE orders (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_number       VARCHAR(255) NOT NULL UNIQUE,
+    restaurant_id      BIGINT NOT NULL REFERENCES restaurants (id),
+    customer_name      VARCHAR(255) NOT NULL,
+    customer_phone     VARCHAR(255) NOT NULL,
+    delivery_address   VARCHAR(255) NOT NULL,
+    delivery_latitude  FLOAT(53),
+    delivery_longitude FLOAT(53),
+    total_amount       NUMERIC(10, 2) NOT NULL,
+    status             VARCHAR(255) NOT NULL CHECK (status IN ('PENDING', 'CONFIRMED', 'PREPARING',
+                           'READY_FOR_PICKUP', 'OUT_FOR_DELIVERY', 'DELIVERED', 'CANCELLED')),
+    notes              VARCHAR(255),
+    created_at         TIMESTAMP(6),
+    updated_at         TIMESTAMP(6)
+);
+
+-- Archival scans terminal orders by age
+CREATE INDEX idx_orders_status_updated_at ON orders (status, updated_at);
+
+CREATE TABLE order_items (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_id       BIGINT NOT NULL REFERENCES orders (id),
+    menu_item_id   BIGINT NOT NULL REFERENCES menu_items (id),
+    quantity       INTEGER NOT NULL,
+    price_at_order NUMERIC(10, 2) NOT NULL,
+    subtotal       NUMERIC(10, 2) NOT NULL,
+    notes          VARCHAR(255)
+);
+
+CREATE TABLE archived_orders (
+    id             BIGINT PRIMARY KEY,
+    order_number   VARCHAR(255) NOT NULL UNIQUE,
+    restaurant_id  BIGINT NOT NULL,
+    customer_phone VARCHAR(255) NOT NULL,
+    status         VARCHAR(255) NOT NULL CHECK (status IN ('PENDING', 'CONFIRMED', 'PREPARING',
+                       'READY_FOR_PICKUP', 'OUT_FOR_DELIVERY', 'DELIVERED', 'CANCELLED')),
+    total_amount   NUMERIC(10, 2) NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    archived_at    TIMESTAMP(6) NOT NULL,
+    payload        BYTEA NOT NULL
+);
+
+CREATE INDEX idx_archived_orders_customer_phone ON archived_orders (customer_phone);
+
+CREATE TABLE idempotency_records (
+    idempotency_key VARCHAR(128) PRIMARY KEY,
+    request_hash    VARCHAR(255) NOT NULL,
+    response_body   TEXT NOT NULL,
+    created_at      TIMESTAMP(6)
+);
@@ -0,0 +1,6 @@
+-- The nearby index reads restaurants and menu items changed since its last refresh
+CREATE INDEX idx_restaurants_updated_at ON restaurants (updated_at);
+CREATE INDEX idx_menu_items_updated_at ON menu_items (updated_at);
+
+-- Menus and the availability check of changed restaurants look up items by restaurant
+CREATE INDEX idx_menu_items_restaurant_id ON menu_items (restaurant_id);
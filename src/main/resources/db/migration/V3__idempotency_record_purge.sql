@@ -0,0 +1,2 @@
+-- The purge job deletes expired idempotency records by age
+CREATE INDEX idx_idempotency_records_created_at ON idempotency_records (created_at);
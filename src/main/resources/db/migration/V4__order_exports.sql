@@ -0,0 +1,15 @@
+-- Export jobs, shared so that any node can report progress and serve the files
+CREATE TABLE order_exports (
+    id             VARCHAR(36) PRIMARY KEY,
+    range_from     TIMESTAMP(6) NOT NULL,
+    range_to       TIMESTAMP(6) NOT NULL,
+    status         VARCHAR(255) NOT NULL CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED')),
+    total_orders   BIGINT NOT NULL,
+    orders_written BIGINT NOT NULL,
+    lines_written  BIGINT NOT NULL,
+    error          TEXT,
+    created_at     TIMESTAMP(6) NOT NULL,
+    started_at     TIMESTAMP(6),
+    finished_at    TIMESTAMP(6),
+    heartbeat_at   TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,59 @@
+package com.delivery.order_management.reactive;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.delivery.order_management.model.dto.MenuItemResponse;
+import com.delivery.order_management.model.dto.RestaurantResponse;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Restaurant and menu reads, same paths and payloads as the servlet controllers
+ */
+@RestController
+@Profile(ReactiveReadApiApplication.PROFILE)
+@RequiredArgsConstructor
+public class ReactiveCatalogController {
+
+    private final ReactiveReadRepository readRepository;
+    private final ReactiveReadCache readCache;
+
+    @GetMapping("/restaurants")
+    public Flux<RestaurantResponse> getAllRestaurants(
+            @RequestParam(required = false, defaultValue = "false") boolean activeOnly) {
+        return readRepository.findRestaurants(activeOnly);
+    }
+
+    @GetMapping("/restaurants/{id}")
+    public Mono<ResponseEntity<RestaurantResponse>> getRestaurantById(@PathVariable Long id) {
+        return readCache.getOrLoad("restaurant:" + id, () -> readRepository.findRestaurant(id))
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/menu-items/{id}")
+    public Mono<ResponseEntity<MenuItemResponse>> getMenuItemById(@PathVariable Long id) {
+        return readRepository.findMenuItem(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/menu-items/restaurant/{restaurantId}")
+    public Mono<List<MenuItemResponse>> getMenuItemsByRestaurant(
+            @PathVariable Long restaurantId,
+            @RequestParam(required = false, defaultValue = "false") boolean availableOnly) {
+        String key = "menu:" + restaurantId + (availableOnly ? ":available" : ":all");
+        return readCache.<List<MenuItemResponse>>getOrLoad(key,
+                        () -> readRepository.findMenuItems(restaurantId, availableOnly).collectList())
+                .defaultIfEmpty(List.of());
+    }
+}
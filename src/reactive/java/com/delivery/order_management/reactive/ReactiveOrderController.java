@@ -0,0 +1,39 @@
+package com.delivery.order_management.reactive;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.delivery.order_management.model.dto.OrderResponse;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Order lookup; not cached since status changes are written by the servlet application
+ */
+@RestController
+@RequestMapping("/orders")
+@Profile(ReactiveReadApiApplication.PROFILE)
+@RequiredArgsConstructor
+public class ReactiveOrderController {
+
+    private final ReactiveReadRepository readRepository;
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<OrderResponse>> getOrderById(@PathVariable Long id) {
+        return readRepository.findOrder(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/number/{orderNumber}")
+    public Mono<ResponseEntity<OrderResponse>> getOrderByOrderNumber(@PathVariable String orderNumber) {
+        return readRepository.findOrderByNumber(orderNumber)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,50 @@
+package com.delivery.order_management.reactive;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cache-aside over reactive Redis for catalog reads.
+ *
+ * Writes go through the servlet application, so entries are bounded by a
+ * short TTL rather than evicted. A Redis failure falls through to the loader.
+ */
+@Component
+@Profile(ReactiveReadApiApplication.PROFILE)
+@Slf4j
+public class ReactiveReadCache {
+
+    private static final String KEY_PREFIX = "read:";
+
+    private final ReactiveRedisTemplate<String, Object> redisTemplate;
+    private final Duration ttl;
+
+    public ReactiveReadCache(ReactiveRedisTemplate<String, Object> reactiveReadCacheTemplate,
+            @Value("${order.read-api.cache-ttl:60s}") Duration ttl) {
+        this.redisTemplate = reactiveReadCacheTemplate;
+        this.ttl = ttl;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> getOrLoad(String key, Supplier<Mono<T>> loader) {
+        String redisKey = KEY_PREFIX + key;
+        return redisTemplate.opsForValue().get(redisKey)
+                .map(value -> (T) value)
+                .onErrorResume(ex -> {
+                    log.warn("Read cache lookup failed for {}: {}", redisKey, ex.getMessage());
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.defer(() -> loader.get()
+                        .flatMap(value -> redisTemplate.opsForValue().set(redisKey, value, ttl)
+                                .onErrorResume(ex -> Mono.just(false))
+                                .thenReturn(value))));
+    }
+}
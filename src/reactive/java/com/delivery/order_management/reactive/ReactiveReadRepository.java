@@ -0,0 +1,173 @@
+package com.delivery.order_management.reactive;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.delivery.order_management.model.dto.MenuItemResponse;
+import com.delivery.order_management.model.dto.OrderItemResponse;
+import com.delivery.order_management.model.dto.OrderResponse;
+import com.delivery.order_management.model.dto.RestaurantResponse;
+import com.delivery.order_management.model.entity.OrderStatus;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC queries mapping rows straight to the response DTOs
+ */
+@Repository
+@Profile(ReactiveReadApiApplication.PROFILE)
+@RequiredArgsConstructor
+public class ReactiveReadRepository {
+
+    private static final String RESTAURANT_COLUMNS = "r.id, r.name, r.description, r.address, r.phone, "
+            + "r.is_active, r.opening_time, r.closing_time, r.latitude, r.longitude, r.version, r.created_at, r.updated_at";
+
+    private static final String MENU_ITEM_COLUMNS = "m.id, m.restaurant_id, r.name AS restaurant_name, m.name, "
+            + "m.description, m.price, m.category, m.is_available, m.stock_quantity, m.version, m.created_at, m.updated_at";
+
+    private static final String ORDER_COLUMNS = "o.id, o.order_number, o.restaurant_id, r.name AS restaurant_name, "
+            + "o.customer_name, o.customer_phone, o.delivery_address, o.delivery_latitude, o.delivery_longitude, "
+            + "o.total_amount, o.status, o.notes, o.created_at, o.updated_at";
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<RestaurantResponse> findRestaurants(boolean activeOnly) {
+        String sql = "SELECT " + RESTAURANT_COLUMNS + " FROM restaurants r"
+                + (activeOnly ? " WHERE r.is_active = true" : "") + " ORDER BY r.id";
+        return databaseClient.sql(sql)
+                .map(this::toRestaurant)
+                .all();
+    }
+
+    public Mono<RestaurantResponse> findRestaurant(Long id) {
+        return databaseClient.sql("SELECT " + RESTAURANT_COLUMNS + " FROM restaurants r WHERE r.id = :id")
+                .bind("id", id)
+                .map(this::toRestaurant)
+                .one();
+    }
+
+    public Flux<MenuItemResponse> findMenuItems(Long restaurantId, boolean availableOnly) {
+        String sql = "SELECT " + MENU_ITEM_COLUMNS + " FROM menu_items m JOIN restaurants r ON r.id = m.restaurant_id "
+                + "WHERE m.restaurant_id = :restaurantId"
+                + (availableOnly ? " AND m.is_available = true" : "")
+                + " ORDER BY m.id";
+        return databaseClient.sql(sql)
+                .bind("restaurantId", restaurantId)
+                .map(this::toMenuItem)
+                .all();
+    }
+
+    public Mono<MenuItemResponse> findMenuItem(Long id) {
+        return databaseClient.sql("SELECT " + MENU_ITEM_COLUMNS
+                        + " FROM menu_items m JOIN restaurants r ON r.id = m.restaurant_id WHERE m.id = :id")
+                .bind("id", id)
+                .map(this::toMenuItem)
+                .one();
+    }
+
+    public Mono<OrderResponse> findOrder(Long id) {
+        return withItems(databaseClient.sql("SELECT " + ORDER_COLUMNS
+                        + " FROM orders o JOIN restaurants r ON r.id = o.restaurant_id WHERE o.id = :id")
+                .bind("id", id)
+                .map(this::toOrder)
+                .one());
+    }
+
+    public Mono<OrderResponse> findOrderByNumber(String orderNumber) {
+        return withItems(databaseClient.sql("SELECT " + ORDER_COLUMNS
+                        + " FROM orders o JOIN restaurants r ON r.id = o.restaurant_id WHERE o.order_number = :orderNumber")
+                .bind("orderNumber", orderNumber)
+                .map(this::toOrder)
+                .one());
+    }
+
+    private Mono<OrderResponse> withItems(Mono<OrderResponse> order) {
+        return order.flatMap(response -> findOrderItems(response.getId())
+                .collectList()
+                .map(items -> {
+                    response.setItems(items);
+                    return response;
+                }));
+    }
+
+    private Flux<OrderItemResponse> findOrderItems(Long orderId) {
+        return databaseClient.sql("SELECT i.id, i.menu_item_id, m.name AS menu_item_name, i.quantity, "
+                        + "i.price_at_order, i.subtotal, i.notes FROM order_items i "
+                        + "JOIN menu_items m ON m.id = i.menu_item_id WHERE i.order_id = :orderId ORDER BY i.id")
+                .bind("orderId", orderId)
+                .map(row -> OrderItemResponse.builder()
+                        .id(row.get("id", Long.class))
+                        .menuItemId(row.get("menu_item_id", Long.class))
+                        .menuItemName(row.get("menu_item_name", String.class))
+                        .quantity(row.get("quantity", Integer.class))
+                        .priceAtOrder(row.get("price_at_order", BigDecimal.class))
+                        .subtotal(row.get("subtotal", BigDecimal.class))
+                        .notes(row.get("notes", String.class))
+                        .build())
+                .all();
+    }
+
+    private RestaurantResponse toRestaurant(Readable row) {
+        return RestaurantResponse.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .description(row.get("description", String.class))
+                .address(row.get("address", String.class))
+                .phone(row.get("phone", String.class))
+                .isActive(row.get("is_active", Boolean.class))
+                .openingTime(row.get("opening_time", LocalTime.class))
+                .closingTime(row.get("closing_time", LocalTime.class))
+                .latitude(row.get("latitude", Double.class))
+                .longitude(row.get("longitude", Double.class))
+                .version(row.get("version", Long.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+
+    private MenuItemResponse toMenuItem(Readable row) {
+        return MenuItemResponse.builder()
+                .id(row.get("id", Long.class))
+                .restaurantId(row.get("restaurant_id", Long.class))
+                .restaurantName(row.get("restaurant_name", String.class))
+                .name(row.get("name", String.class))
+                .description(row.get("description", String.class))
+                .price(row.get("price", BigDecimal.class))
+                .category(row.get("category", String.class))
+                .isAvailable(row.get("is_available", Boolean.class))
+                .stockQuantity(row.get("stock_quantity", Integer.class))
+                .version(row.get("version", Long.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+
+    private OrderResponse toOrder(Readable row) {
+        return OrderResponse.builder()
+                .id(row.get("id", Long.class))
+                .orderNumber(row.get("order_number", String.class))
+                .restaurantId(row.get("restaurant_id", Long.class))
+                .restaurantName(row.get("restaurant_name", String.class))
+                .customerName(row.get("customer_name", String.class))
+                .customerPhone(row.get("customer_phone", String.class))
+                .deliveryAddress(row.get("delivery_address", String.class))
+                .deliveryLatitude(row.get("delivery_latitude", Double.class))
+                .deliveryLongitude(row.get("delivery_longitude", Double.class))
+                .totalAmount(row.get("total_amount", BigDecimal.class))
+                .status(OrderStatus.valueOf(row.get("status", String.class)))
+                .notes(row.get("notes", String.class))
+                .items(List.of())
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.delivery.order_management.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.delivery.order_management.model.entity.OrderItem;
+import com.delivery.order_management.model.money.Money;
+import com.delivery.order_management.service.pricing.OrderPricer;
+
+/**
+ * Prices a 20-line cart the way OrderService used to (BigDecimal multiply and
+ * add per line) against OrderPricer on minor units. Both write every line
+ * subtotal and return the total. Run with -prof gc to see allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CartPricingBenchmark {
+
+    private static final int LINES = 20;
+
+    private final BigDecimal[] prices = new BigDecimal[LINES];
+    private final int[] quantities = new int[LINES];
+    private final BigDecimal[] subtotals = new BigDecimal[LINES];
+    private final List<OrderItem> lines = new ArrayList<>(LINES);
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < LINES; i++) {
+            prices[i] = BigDecimal.valueOf(100 + random.nextInt(50_000), 2);
+            quantities[i] = 1 + random.nextInt(5);
+            lines.add(OrderItem.builder()
+                    .priceAtOrder(Money.of(prices[i]))
+                    .quantity(quantities[i])
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < LINES; i++) {
+            BigDecimal subtotal = prices[i].multiply(BigDecimal.valueOf(quantities[i]));
+            subtotals[i] = subtotal;
+            total = total.add(subtotal);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money scaledLong() {
+        return OrderPricer.price(lines);
+    }
+}
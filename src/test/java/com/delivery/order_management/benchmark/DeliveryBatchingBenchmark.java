@@ -0,0 +1,139 @@
+package com.delivery.order_management.benchmark;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.delivery.order_management.service.dispatch.DeliveryBatcher;
+import com.delivery.order_management.service.dispatch.DeliveryBatcher.ReadyOrder;
+import com.delivery.order_management.service.dispatch.DeliveryBatcher.Run;
+
+/**
+ * One dispatcher tick of DeliveryBatcher on a synthetic city: restaurants
+ * with Zipfian popularity spread around a centre about 25 km across, and
+ * drop-offs within a few km of their restaurant. Each tick adds
+ * arrivalsPerTick orders, cancels about one in fifty recent ones and takes
+ * the due runs, with the default settings (runs of 3, 1 km pickup and 2 km
+ * drop-off radius, 3 min hold, 1 s ticks). The batcher is brought to steady
+ * state first, so about 900 (20 per tick) to 4,000 (500 per tick) orders are
+ * pending in every measured tick. The runs and orders counters give the
+ * mean run size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeliveryBatchingBenchmark {
+
+    private static final int RESTAURANTS = 5_000;
+    private static final double CENTER_LAT = 10.7769;
+    private static final double CENTER_LNG = 106.7009;
+    private static final long TICK_MILLIS = 1_000;
+    private static final long HOLD_MILLIS = 180_000;
+
+    @Param({ "20", "100", "500" })
+    public int arrivalsPerTick;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final double[] restaurantLat = new double[RESTAURANTS];
+    private final double[] restaurantLng = new double[RESTAURANTS];
+    private double[] popularity;
+
+    private DeliveryBatcher batcher;
+    private long nextOrderId;
+    private long now;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        popularity = new double[RESTAURANTS];
+        double total = 0;
+        for (int r = 0; r < RESTAURANTS; r++) {
+            restaurantLat[r] = CENTER_LAT + random.nextGaussian() * 0.06;
+            restaurantLng[r] = CENTER_LNG + random.nextGaussian() * 0.06;
+            total += 1.0 / Math.pow(r + 1, 1.1);
+            popularity[r] = total;
+        }
+        for (int r = 0; r < RESTAURANTS; r++) {
+            popularity[r] /= total;
+        }
+
+        batcher = new DeliveryBatcher(new DeliveryBatcher.Settings(3, 1.0, 2.0, HOLD_MILLIS));
+        // Past the hold time, so runs leave as fast as orders arrive
+        for (int tick = 0; tick < 2 * HOLD_MILLIS / TICK_MILLIS; tick++) {
+            tick(null);
+        }
+    }
+
+    @Benchmark
+    public int tick(Counters counters) {
+        now += TICK_MILLIS;
+        for (int i = 0; i < arrivalsPerTick; i++) {
+            batcher.add(nextOrder());
+            // Cancellations and manual status changes
+            if (random.nextInt(50) == 0 && nextOrderId > 100) {
+                batcher.remove(nextOrderId - 1 - random.nextInt(100));
+            }
+        }
+        List<Run> due = batcher.takeDue(now);
+        if (counters != null) {
+            counters.runs += due.size();
+            for (Run run : due) {
+                counters.orders += run.orders().size();
+            }
+        }
+        return due.size() + batcher.pendingOrders();
+    }
+
+    private ReadyOrder nextOrder() {
+        int restaurant = restaurant(random.nextDouble());
+        // Delivery radius of a few km, more orders close by
+        double distance = Math.abs(random.nextGaussian()) * 0.02;
+        double angle = random.nextDouble() * 2 * Math.PI;
+        return new ReadyOrder(++nextOrderId, restaurant + 1, restaurantLat[restaurant], restaurantLng[restaurant],
+                restaurantLat[restaurant] + distance * Math.sin(angle),
+                restaurantLng[restaurant] + distance * Math.cos(angle), now);
+    }
+
+    private int restaurant(double u) {
+        int low = 0;
+        int high = RESTAURANTS - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (popularity[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long runs;
+        public long orders;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            runs = 0;
+            orders = 0;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.delivery.order_management.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.delivery.order_management.service.ordernumber.SnowflakeOrderNumberGenerator;
+import com.delivery.order_management.service.ordernumber.UuidOrderNumberGenerator;
+
+/**
+ * Compares the original UUID based order number with the Snowflake generator,
+ * single threaded and under contention. Run with -prof gc to see allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderNumberGeneratorBenchmark {
+
+    private final UuidOrderNumberGenerator uuidGenerator = new UuidOrderNumberGenerator();
+    private final SnowflakeOrderNumberGenerator snowflakeGenerator = new SnowflakeOrderNumberGenerator(1, false);
+
+    @Benchmark
+    public String uuid() {
+        return uuidGenerator.nextOrderNumber();
+    }
+
+    @Benchmark
+    public String snowflake() {
+        return snowflakeGenerator.nextOrderNumber();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String uuidContended() {
+        return uuidGenerator.nextOrderNumber();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String snowflakeContended() {
+        return snowflakeGenerator.nextOrderNumber();
+    }
+}
@@ -0,0 +1,197 @@
+package com.delivery.order_management.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hot menu and order statements against PostgreSQL with pgjdbc server-side
+ * prepares off (prepareThreshold=0: parse and plan on every execution) and
+ * on, and IN-list lookups with and without Hibernate-style padding to the
+ * next power of two. The SQL matches what Hibernate generates for
+ * findById, isAvailableWithStock, decreaseStock, findByOrderNumber and
+ * findAllById, run on temporary copies of menu_items and orders.
+ *
+ * Needs a running PostgreSQL: BENCHMARK_JDBC_URL (default the application's
+ * localhost:5433), BENCHMARK_JDBC_USER and BENCHMARK_JDBC_PASSWORD.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatementCachingBenchmark {
+
+    private static final int MENU_ITEMS = 10_000;
+    private static final int ORDERS = 50_000;
+    private static final int MAX_IN_LIST = 64;
+
+    private static final String MENU_ITEM_BY_ID = "select m1_0.id,m1_0.category,m1_0.created_at,m1_0.description,"
+            + "m1_0.is_available,m1_0.name,m1_0.price,m1_0.restaurant_id,m1_0.stock_quantity,m1_0.updated_at,"
+            + "m1_0.version from bench_menu_items m1_0 where m1_0.id=?";
+
+    private static final String AVAILABLE_WITH_STOCK = "select case when count(m1_0.id)>0 then true else false end "
+            + "from bench_menu_items m1_0 where m1_0.id=? and m1_0.is_available=true and m1_0.stock_quantity>=?";
+
+    private static final String DECREASE_STOCK = "UPDATE bench_menu_items SET stock_quantity = stock_quantity - ?, "
+            + "version = version + 1 WHERE id = ? AND stock_quantity >= ?";
+
+    private static final String ORDER_BY_NUMBER = "select o1_0.id,o1_0.created_at,o1_0.customer_phone,"
+            + "o1_0.order_number,o1_0.restaurant_id,o1_0.status,o1_0.total_amount,o1_0.updated_at "
+            + "from bench_orders o1_0 where o1_0.order_number=?";
+
+    private static final String MENU_ITEMS_BY_IDS = "select m1_0.id,m1_0.name,m1_0.price,m1_0.stock_quantity "
+            + "from bench_menu_items m1_0 where m1_0.id in (";
+
+    @Param({ "0", "3" })
+    public int prepareThreshold;
+
+    private Connection connection;
+    private PreparedStatement menuItemById;
+    private PreparedStatement availableWithStock;
+    private PreparedStatement decreaseStock;
+    private PreparedStatement orderByNumber;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", env("BENCHMARK_JDBC_USER", "postgres"));
+        properties.setProperty("password", env("BENCHMARK_JDBC_PASSWORD", "postgres"));
+        properties.setProperty("prepareThreshold", String.valueOf(prepareThreshold));
+        properties.setProperty("preparedStatementCacheQueries", "512");
+        connection = DriverManager.getConnection(
+                env("BENCHMARK_JDBC_URL", "jdbc:postgresql://localhost:5433/postgres"), properties);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMP TABLE bench_menu_items (id bigint PRIMARY KEY, restaurant_id bigint, "
+                    + "name varchar(255), description varchar(255), price numeric(10,2), category varchar(255), "
+                    + "is_available boolean, stock_quantity integer, version bigint, "
+                    + "created_at timestamp, updated_at timestamp)");
+            statement.execute("INSERT INTO bench_menu_items SELECT g, g % 200, 'Item ' || g, NULL, "
+                    + "(g % 500) + 0.99, 'main', true, 1000000, 0, now(), now() "
+                    + "FROM generate_series(1, " + MENU_ITEMS + ") g");
+            statement.execute("CREATE TEMP TABLE bench_orders (id bigint PRIMARY KEY, "
+                    + "order_number varchar(255) UNIQUE, restaurant_id bigint, customer_phone varchar(255), "
+                    + "status varchar(255), total_amount numeric(10,2), created_at timestamp, updated_at timestamp)");
+            statement.execute("INSERT INTO bench_orders SELECT g, 'ORD-' || g, g % 200, '08' || g, 'DELIVERED', "
+                    + "100.00, now(), now() FROM generate_series(1, " + ORDERS + ") g");
+            statement.execute("ANALYZE bench_menu_items");
+            statement.execute("ANALYZE bench_orders");
+            // Keep commit latency out of decreaseStock; the interest is parse and plan time
+            statement.execute("SET synchronous_commit = off");
+        }
+
+        menuItemById = connection.prepareStatement(MENU_ITEM_BY_ID);
+        availableWithStock = connection.prepareStatement(AVAILABLE_WITH_STOCK);
+        decreaseStock = connection.prepareStatement(DECREASE_STOCK);
+        orderByNumber = connection.prepareStatement(ORDER_BY_NUMBER);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long menuItemById() throws SQLException {
+        menuItemById.setLong(1, menuItemId());
+        return firstLong(menuItemById);
+    }
+
+    @Benchmark
+    public long availableWithStock() throws SQLException {
+        availableWithStock.setLong(1, menuItemId());
+        availableWithStock.setInt(2, 1);
+        return firstLong(availableWithStock);
+    }
+
+    @Benchmark
+    public int decreaseStock() throws SQLException {
+        decreaseStock.setInt(1, 1);
+        decreaseStock.setLong(2, menuItemId());
+        decreaseStock.setInt(3, 1);
+        return decreaseStock.executeUpdate();
+    }
+
+    @Benchmark
+    public long orderByNumber() throws SQLException {
+        orderByNumber.setString(1, "ORD-" + (1 + random.nextInt(ORDERS)));
+        return firstLong(orderByNumber);
+    }
+
+    /**
+     * Cart and batch lookups: 1 to 64 ids per call. Statements are looked up
+     * by SQL text in pgjdbc's per-connection cache, like Hibernate does
+     */
+    @Benchmark
+    public long menuItemsByIds(InList inList) throws SQLException {
+        int ids = 1 + random.nextInt(MAX_IN_LIST);
+        int parameters = inList.padding ? Integer.highestOneBit(ids - 1) << 1 : ids;
+        parameters = Math.max(parameters, ids);
+
+        StringBuilder sql = new StringBuilder(MENU_ITEMS_BY_IDS);
+        for (int i = 0; i < parameters; i++) {
+            sql.append(i == 0 ? "?" : ",?");
+        }
+        sql.append(')');
+
+        try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            long first = menuItemId();
+            for (int i = 1; i <= parameters; i++) {
+                // Padding repeats the last id, as Hibernate does
+                statement.setLong(i, i <= ids ? first + i : first + ids);
+            }
+            long sum = 0;
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    sum += rs.getLong(1);
+                }
+            }
+            return sum;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class InList {
+
+        @Param({ "false", "true" })
+        public boolean padding;
+    }
+
+    private long menuItemId() {
+        return 1 + random.nextInt(MENU_ITEMS - MAX_IN_LIST - 1);
+    }
+
+    private static long firstLong(PreparedStatement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value != null ? value : fallback;
+    }
+}
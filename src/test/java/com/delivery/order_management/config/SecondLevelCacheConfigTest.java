@@ -0,0 +1,55 @@
+package com.delivery.order_management.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+
+import com.delivery.order_management.model.entity.MenuItem;
+import com.delivery.order_management.model.entity.Restaurant;
+
+/**
+ * Builds the SessionFactory with the Hibernate settings of application.yml,
+ * without a database, so a second-level cache setting that stops the
+ * application from starting fails here instead of only against PostgreSQL
+ */
+class SecondLevelCacheConfigTest {
+
+    private static final String PREFIX = "spring.jpa.properties.";
+
+    @Test
+    void shouldBuildSessionFactoryWithTheConfiguredCache() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+        Properties properties = yaml.getObject();
+
+        Map<String, Object> settings = new HashMap<>();
+        properties.stringPropertyNames().stream()
+                .filter(name -> name.startsWith(PREFIX))
+                .forEach(name -> settings.put(name.substring(PREFIX.length()), properties.getProperty(name)));
+        // The dialect is configured, so Hibernate never needs a connection
+        settings.put("hibernate.boot.allow_jdbc_metadata_access", "false");
+        settings.put("hibernate.hbm2ddl.auto", "none");
+
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder().applySettings(settings).build();
+        try (SessionFactory sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(Restaurant.class)
+                .addAnnotatedClass(MenuItem.class)
+                .buildMetadata()
+                .buildSessionFactory()) {
+            assertThat(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()).isTrue();
+            assertThat(sessionFactory.getCache().contains(Restaurant.class, 1L)).isFalse();
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.delivery.order_management.datagen;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Restaurants and menus, generated from the seed and kept in memory (a few
+ * ints per item) so order lines can pick items and prices without reading
+ * them back. Restaurant popularity is Zipfian over a shuffled ranking, so the
+ * busiest restaurants are spread over the id range; inside a menu the first
+ * items are the most ordered.
+ */
+final class CatalogPlan {
+
+    static final double RESTAURANT_SKEW = 1.1;
+    static final double MENU_SKEW = 1.0;
+
+    private static final String[] CATEGORIES = { "Mains", "Mains", "Mains", "Sides", "Drinks", "Desserts",
+            "Starters", "Salads", "Soups", "Specials" };
+    private static final String[] CUISINES = { "Pizza", "Burger", "Sushi", "Noodle", "Curry", "Taco", "Kebab",
+            "Salad", "Bakery", "Grill", "Pho", "Dumpling" };
+    // City centres (latitude, longitude) and their share of restaurants
+    private static final double[][] CITIES = { { 10.7769, 106.7009, 0.45 }, { 21.0285, 105.8542, 0.35 },
+            { 16.0544, 108.2022, 0.1 }, { 20.8449, 106.6881, 0.05 }, { 10.0452, 105.7469, 0.05 } };
+    private static final double CITY_SPREAD_DEGREES = 0.05;
+
+    private final long restaurantIdBase;
+    private final long menuItemIdBase;
+    private final boolean[] active;
+    private final int[] firstItem;
+    private final int[] itemPrices;
+    private final boolean[] itemAvailable;
+    private final Samplers.Weighted restaurantPopularity;
+    private final Samplers.Weighted[] menuPopularity;
+
+    CatalogPlan(DataGenConfig config, long restaurantIdBase, long menuItemIdBase) {
+        this.restaurantIdBase = restaurantIdBase;
+        this.menuItemIdBase = menuItemIdBase;
+        SplittableRandom random = new SplittableRandom(config.seed());
+        int restaurants = config.restaurants();
+
+        active = new boolean[restaurants];
+        firstItem = new int[restaurants + 1];
+        for (int r = 0; r < restaurants; r++) {
+            active[r] = random.nextInt(100) >= 3;
+            firstItem[r + 1] = firstItem[r] + config.minItems() + random.nextInt(config.maxItems() - config.minItems() + 1);
+        }
+
+        int items = firstItem[restaurants];
+        itemPrices = new int[items];
+        itemAvailable = new boolean[items];
+        for (int i = 0; i < items; i++) {
+            // Median 12.00, most between 6 and 25; prices end in 0 or 9
+            long cents = Samplers.logNormal(random, 1200, 0.45, 150, 9900);
+            long rounded = cents / 50 * 50;
+            itemPrices[i] = (int) (random.nextBoolean() ? rounded : Math.max(rounded - 1, 99));
+            itemAvailable[i] = random.nextInt(100) >= 5;
+        }
+
+        int[] rank = new int[restaurants];
+        for (int r = 0; r < restaurants; r++) {
+            rank[r] = r;
+        }
+        for (int r = restaurants - 1; r > 0; r--) {
+            int other = random.nextInt(r + 1);
+            int swap = rank[r];
+            rank[r] = rank[other];
+            rank[other] = swap;
+        }
+        double[] weights = new double[restaurants];
+        for (int r = 0; r < restaurants; r++) {
+            // Inactive restaurants keep their menus but take no orders
+            weights[r] = active[r] ? 1.0 / Math.pow(rank[r] + 1, RESTAURANT_SKEW) : 0;
+        }
+        restaurantPopularity = new Samplers.Weighted(weights);
+
+        menuPopularity = new Samplers.Weighted[config.maxItems() + 1];
+        for (int size = config.minItems(); size <= config.maxItems(); size++) {
+            menuPopularity[size] = Samplers.zipf(size, MENU_SKEW);
+        }
+    }
+
+    int restaurants() {
+        return active.length;
+    }
+
+    int menuItems() {
+        return itemPrices.length;
+    }
+
+    long restaurantId(int restaurant) {
+        return restaurantIdBase + restaurant + 1;
+    }
+
+    long menuItemId(int item) {
+        return menuItemIdBase + item + 1;
+    }
+
+    int pickRestaurant(SplittableRandom random) {
+        return restaurantPopularity.sample(random);
+    }
+
+    int menuSize(int restaurant) {
+        return firstItem[restaurant + 1] - firstItem[restaurant];
+    }
+
+    /**
+     * Global index of a menu item of the restaurant, by in-menu popularity
+     */
+    int pickItem(int restaurant, SplittableRandom random) {
+        return firstItem[restaurant] + menuPopularity[menuSize(restaurant)].sample(random);
+    }
+
+    int price(int item) {
+        return itemPrices[item];
+    }
+
+    /**
+     * COPY rows for restaurants (id, name, description, address, phone,
+     * is_active, opening_time, closing_time, latitude, longitude, version,
+     * created_at, updated_at), clustered around a few city centres
+     */
+    void writeRestaurants(CopyBuffer buffer, LocalDate createdOn, long seed) {
+        SplittableRandom random = new SplittableRandom(seed ^ 0x5EEDL);
+        SplittableRandom places = new SplittableRandom(seed ^ 0x6E0L);
+        byte[] created = datePrefix(createdOn);
+        for (int r = 0; r < restaurants(); r++) {
+            String cuisine = CUISINES[r % CUISINES.length];
+            double[] city = city(places.nextDouble());
+            buffer.add(restaurantId(r))
+                    .add(cuisine + " House " + (r + 1))
+                    .add(cuisine + " kitchen")
+                    .add((r % 900 + 1) + " Market Street, District " + (r % 40 + 1))
+                    .addCode("02", r, 8)
+                    .add(active[r])
+                    .addTime((7 + random.nextInt(5)) * 3600)
+                    .addTime((20 + random.nextInt(4)) * 3600 + 59 * 60)
+                    .addDegrees(city[0] + places.nextGaussian() * CITY_SPREAD_DEGREES)
+                    .addDegrees(city[1] + places.nextGaussian() * CITY_SPREAD_DEGREES)
+                    .add(0)
+                    .addTimestamp(created, 9 * 3600)
+                    .addTimestamp(created, 9 * 3600)
+                    .endRow();
+        }
+    }
+
+    private static double[] city(double u) {
+        for (double[] city : CITIES) {
+            u -= city[2];
+            if (u < 0) {
+                return city;
+            }
+        }
+        return CITIES[CITIES.length - 1];
+    }
+
+    /**
+     * COPY rows for menu_items (id, restaurant_id, name, description, price,
+     * category, is_available, stock_quantity, version, created_at, updated_at)
+     */
+    void writeMenuItems(CopyBuffer buffer, LocalDate createdOn) {
+        byte[] created = datePrefix(createdOn);
+        for (int r = 0; r < restaurants(); r++) {
+            for (int i = firstItem[r]; i < firstItem[r + 1]; i++) {
+                int position = i - firstItem[r];
+                String category = CATEGORIES[position % CATEGORIES.length];
+                buffer.add(menuItemId(i))
+                        .add(restaurantId(r))
+                        .add(category + " " + (position + 1))
+                        .add(null)
+                        .addMoney(itemPrices[i])
+                        .add(category)
+                        .add(itemAvailable[i])
+                        // Historic orders did not draw stock down; leave plenty for load tests
+                        .add(1_000_000)
+                        .add(0)
+                        .addTimestamp(created, 9 * 3600)
+                        .addTimestamp(created, 9 * 3600)
+                        .endRow();
+            }
+        }
+    }
+
+    static byte[] datePrefix(LocalDate date) {
+        return (date + " ").getBytes(StandardCharsets.US_ASCII);
+    }
+}
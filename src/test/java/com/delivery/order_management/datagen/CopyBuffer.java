@@ -0,0 +1,180 @@
+package com.delivery.order_management.datagen;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.postgresql.copy.CopyIn;
+
+/**
+ * Rows in PostgreSQL COPY text format (tab separated, \N for null) written
+ * straight into a reusable byte array, without a String per value.
+ * Values must not contain tabs, newlines or backslashes.
+ */
+final class CopyBuffer {
+
+    private static final byte[] NULL = { '\\', 'N' };
+
+    private byte[] bytes;
+    private int size;
+    private int rows;
+    private int lineStart;
+
+    CopyBuffer(int initialCapacity) {
+        this.bytes = new byte[initialCapacity];
+    }
+
+    CopyBuffer add(long value) {
+        separator();
+        if (value < 0) {
+            put((byte) '-');
+            value = -value;
+        }
+        digits(value, 1);
+        return this;
+    }
+
+    CopyBuffer add(String value) {
+        separator();
+        if (value == null) {
+            put(NULL);
+        } else {
+            put(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return this;
+    }
+
+    CopyBuffer add(boolean value) {
+        separator();
+        put((byte) (value ? 't' : 'f'));
+        return this;
+    }
+
+    /**
+     * Prefix followed by a zero-padded number, e.g. GEN-000000000042
+     */
+    CopyBuffer addCode(String prefix, long value, int width) {
+        separator();
+        put(prefix.getBytes(StandardCharsets.US_ASCII));
+        digits(value, width);
+        return this;
+    }
+
+    /**
+     * Amount in minor units as a numeric(10,2) literal
+     */
+    CopyBuffer addMoney(long minorUnits) {
+        separator();
+        digits(minorUnits / 100, 1);
+        put((byte) '.');
+        digits(minorUnits % 100, 2);
+        return this;
+    }
+
+    /**
+     * Coordinate in degrees with six decimals, about 10 cm
+     */
+    CopyBuffer addDegrees(double degrees) {
+        separator();
+        long micros = Math.round(degrees * 1_000_000);
+        if (micros < 0) {
+            put((byte) '-');
+            micros = -micros;
+        }
+        digits(micros / 1_000_000, 1);
+        put((byte) '.');
+        digits(micros % 1_000_000, 6);
+        return this;
+    }
+
+    /**
+     * Timestamp as date prefix ("2026-10-19 ") plus seconds into that day
+     */
+    CopyBuffer addTimestamp(byte[] datePrefix, int secondOfDay) {
+        separator();
+        put(datePrefix);
+        time(secondOfDay);
+        return this;
+    }
+
+    CopyBuffer addTime(int secondOfDay) {
+        separator();
+        time(secondOfDay);
+        return this;
+    }
+
+    private void time(int secondOfDay) {
+        digits(secondOfDay / 3600, 2);
+        put((byte) ':');
+        digits(secondOfDay / 60 % 60, 2);
+        put((byte) ':');
+        digits(secondOfDay % 60, 2);
+    }
+
+    void endRow() {
+        put((byte) '\n');
+        rows++;
+        lineStart = size;
+    }
+
+    int rows() {
+        return rows;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void copyTo(CopyIn copyIn) throws SQLException {
+        copyIn.writeToCopy(bytes, 0, size);
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    void clear() {
+        size = 0;
+        rows = 0;
+        lineStart = 0;
+    }
+
+    private void separator() {
+        if (size != lineStart) {
+            put((byte) '\t');
+        }
+    }
+
+    private void digits(long value, int minDigits) {
+        int length = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            length++;
+        }
+        for (int i = length; i < minDigits; i++) {
+            put((byte) '0');
+        }
+        ensure(length);
+        for (int i = size + length - 1; i >= size; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size += length;
+    }
+
+    private void put(byte value) {
+        ensure(1);
+        bytes[size++] = value;
+    }
+
+    private void put(byte[] values) {
+        ensure(values.length);
+        System.arraycopy(values, 0, bytes, size, values.length);
+        size += values.length;
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.delivery.order_management.datagen;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generator settings from name=value arguments. Everything that shapes the
+ * rows (seed, sizes, end date) has a fixed default, so two runs with the same
+ * arguments write identical tables whatever the thread count.
+ */
+record DataGenConfig(
+        String jdbcUrl,
+        String user,
+        String password,
+        long seed,
+        int restaurants,
+        int minItems,
+        int maxItems,
+        long orders,
+        int chunkSize,
+        int days,
+        LocalDate endDate,
+        int customers,
+        int threads,
+        boolean truncate) {
+
+    private static final Set<String> OPTIONS = Set.of("url", "user", "password", "seed", "restaurants",
+            "min-items", "max-items", "orders", "chunk-size", "days", "end-date", "customers", "threads",
+            "truncate");
+
+    static DataGenConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (split < 0) {
+                throw new IllegalArgumentException("Expected name=value, got: " + arg);
+            }
+            String name = arg.substring(0, split);
+            if (!OPTIONS.contains(name)) {
+                throw new IllegalArgumentException("Unknown option " + name + ", expected one of " + OPTIONS);
+            }
+            values.put(name, arg.substring(split + 1));
+        }
+
+        long orders = Long.parseLong(values.getOrDefault("orders", "1000000"));
+        DataGenConfig config = new DataGenConfig(
+                values.getOrDefault("url", "jdbc:postgresql://localhost:5433/postgres"),
+                values.getOrDefault("user", "postgres"),
+                values.getOrDefault("password", "postgres"),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Integer.parseInt(values.getOrDefault("restaurants", "2000")),
+                Integer.parseInt(values.getOrDefault("min-items", "15")),
+                Integer.parseInt(values.getOrDefault("max-items", "80")),
+                orders,
+                Integer.parseInt(values.getOrDefault("chunk-size", "50000")),
+                Integer.parseInt(values.getOrDefault("days", "90")),
+                LocalDate.parse(values.getOrDefault("end-date", "2026-10-01")),
+                Integer.parseInt(values.getOrDefault("customers", String.valueOf(Math.max(1000, orders / 8)))),
+                Integer.parseInt(values.getOrDefault("threads",
+                        String.valueOf(Runtime.getRuntime().availableProcessors()))),
+                Boolean.parseBoolean(values.getOrDefault("truncate", "false")));
+
+        if (config.restaurants < 1 || config.minItems < 1 || config.maxItems < config.minItems) {
+            throw new IllegalArgumentException("Need at least one restaurant and 1 <= min-items <= max-items");
+        }
+        if (config.orders < 0 || config.chunkSize < 1 || config.days < 1 || config.customers < 1 || config.threads < 1) {
+            throw new IllegalArgumentException("orders must be >= 0; chunk-size, days, customers and threads >= 1");
+        }
+        return config;
+    }
+
+    long chunks() {
+        return (orders + chunkSize - 1) / chunkSize;
+    }
+
+    /**
+     * Settings that determine the generated rows, logged with the run
+     */
+    Map<String, Object> describe() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("seed", seed);
+        settings.put("restaurants", restaurants);
+        settings.put("items", minItems + ".." + maxItems);
+        settings.put("orders", orders);
+        settings.put("chunkSize", chunkSize);
+        settings.put("days", days);
+        settings.put("endDate", endDate);
+        settings.put("customers", customers);
+        return settings;
+    }
+}
@@ -0,0 +1,187 @@
+package com.delivery.order_management.datagen;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * Fills restaurants, menu_items, orders and order_items with a synthetic,
+ * seeded dataset through COPY, for benchmarks and load tests that need
+ * production-sized tables.
+ *
+ * The catalog is written first from one connection. Orders are then written
+ * in fixed-size chunks by a pool of threads, each with its own connection,
+ * one transaction per chunk. Explicit ids continue from the current maximum
+ * (or start at 1 with truncate=true) and the identity sequences are moved
+ * past them afterwards; order_items ids are left to the database.
+ *
+ * The schema must already exist: start the application once against the
+ * database so Hibernate creates it. Generated orders show up in analytics
+ * and popular items after the application is restarted.
+ */
+public class DataGenerator {
+
+    private static final String RESTAURANT_COLUMNS = "id, name, description, address, phone, is_active, "
+            + "opening_time, closing_time, latitude, longitude, version, created_at, updated_at";
+    private static final String MENU_ITEM_COLUMNS = "id, restaurant_id, name, description, price, category, "
+            + "is_available, stock_quantity, version, created_at, updated_at";
+    private static final String ORDER_COLUMNS = "id, order_number, restaurant_id, customer_name, customer_phone, "
+            + "delivery_address, total_amount, status, notes, created_at, updated_at";
+    private static final String ORDER_ITEM_COLUMNS = "order_id, menu_item_id, quantity, price_at_order, subtotal, notes";
+
+    private static final String[] TABLES = { "restaurants", "menu_items", "orders", "order_items" };
+
+    public static void main(String[] args) throws Exception {
+        DataGenConfig config = DataGenConfig.parse(args);
+        System.out.printf("Generating %s into %s%n", config.describe(), config.jdbcUrl());
+        long started = System.nanoTime();
+
+        long restaurantBase;
+        long menuItemBase;
+        long orderBase;
+        CatalogPlan catalog;
+        try (Connection connection = connect(config)) {
+            requireSchema(connection);
+            if (config.truncate()) {
+                execute(connection, "TRUNCATE order_items, orders, menu_items, restaurants RESTART IDENTITY CASCADE");
+            }
+            restaurantBase = maxId(connection, "restaurants");
+            menuItemBase = maxId(connection, "menu_items");
+            orderBase = maxId(connection, "orders");
+
+            catalog = new CatalogPlan(config, restaurantBase, menuItemBase);
+            CopyBuffer buffer = new CopyBuffer(1 << 20);
+            catalog.writeRestaurants(buffer, config.endDate().minusDays(config.days()), config.seed());
+            copy(connection, "restaurants", RESTAURANT_COLUMNS, buffer);
+            buffer.clear();
+            catalog.writeMenuItems(buffer, config.endDate().minusDays(config.days()));
+            copy(connection, "menu_items", MENU_ITEM_COLUMNS, buffer);
+            connection.commit();
+            System.out.printf("Catalog: %d restaurants, %d menu items%n", catalog.restaurants(), catalog.menuItems());
+        }
+
+        OrderChunkWriter writer = new OrderChunkWriter(config, catalog, orderBase);
+        long lines = writeOrders(config, writer);
+
+        try (Connection connection = connect(config)) {
+            connection.setAutoCommit(true);
+            for (String table : TABLES) {
+                // Later inserts through the application must not collide with generated ids
+                execute(connection, "SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                        + "coalesce(max(id), 0) + 1, false) FROM " + table);
+                execute(connection, "ANALYZE " + table);
+            }
+        }
+
+        double seconds = (System.nanoTime() - started) / 1e9;
+        System.out.printf("Done: %d orders, %d order lines in %.1f s (%.0f lines/s)%n",
+                config.orders(), lines, seconds, lines / seconds);
+    }
+
+    private static long writeOrders(DataGenConfig config, OrderChunkWriter writer) throws Exception {
+        AtomicLong nextChunk = new AtomicLong();
+        AtomicLong ordersWritten = new AtomicLong();
+        AtomicLong linesWritten = new AtomicLong();
+        long chunks = config.chunks();
+        int threads = (int) Math.max(1, Math.min(config.threads(), chunks));
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<Void>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(pool.submit(() -> {
+                CopyBuffer orderRows = new CopyBuffer(1 << 20);
+                CopyBuffer lineRows = new CopyBuffer(1 << 20);
+                try (Connection connection = connect(config)) {
+                    for (long chunk = nextChunk.getAndIncrement(); chunk < chunks; chunk = nextChunk.getAndIncrement()) {
+                        orderRows.clear();
+                        lineRows.clear();
+                        writer.write(chunk, orderRows, lineRows);
+                        copy(connection, "orders", ORDER_COLUMNS, orderRows);
+                        copy(connection, "order_items", ORDER_ITEM_COLUMNS, lineRows);
+                        connection.commit();
+                        ordersWritten.addAndGet(orderRows.rows());
+                        linesWritten.addAndGet(lineRows.rows());
+                    }
+                }
+                return null;
+            }));
+        }
+        pool.shutdown();
+
+        long started = System.nanoTime();
+        while (!pool.awaitTermination(5, TimeUnit.SECONDS)) {
+            double seconds = (System.nanoTime() - started) / 1e9;
+            System.out.printf("  %,d / %,d orders, %,d lines (%.0f lines/s)%n",
+                    ordersWritten.get(), config.orders(), linesWritten.get(), linesWritten.get() / seconds);
+        }
+        for (Future<Void> worker : workers) {
+            // Rethrows the first failure; chunks already committed stay in place
+            worker.get();
+        }
+        return linesWritten.get();
+    }
+
+    private static Connection connect(DataGenConfig config) throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", config.user());
+        properties.setProperty("password", config.password());
+        Connection connection = DriverManager.getConnection(config.jdbcUrl(), properties);
+        connection.setAutoCommit(false);
+        // A crash loses the last chunks, not consistency; rerun with truncate=true
+        execute(connection, "SET synchronous_commit = off");
+        return connection;
+    }
+
+    private static void copy(Connection connection, String table, String columns, CopyBuffer rows)
+            throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("COPY " + table + " (" + columns + ") FROM STDIN");
+        try {
+            rows.copyTo(copyIn);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void requireSchema(Connection connection) throws SQLException {
+        for (String table : TABLES) {
+            try (Statement statement = connection.createStatement();
+                    ResultSet rs = statement.executeQuery("SELECT to_regclass('" + table + "')")) {
+                if (!rs.next() || rs.getString(1) == null) {
+                    throw new IllegalStateException("Table " + table
+                            + " does not exist; start the application once to create the schema");
+                }
+            }
+        }
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT coalesce(max(id), 0) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.delivery.order_management.datagen;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Orders and their lines for one chunk of consecutive order ids. Each chunk
+ * has its own random stream derived from seed and chunk number, so a chunk's
+ * rows are the same no matter which thread writes it or in what order.
+ *
+ * Orders fall on the days before a snapshot taken at end-date 20:00, weighted
+ * by weekday and by a lunch and dinner peaked hour-of-day profile. Orders
+ * placed shortly before the snapshot are still in progress; older ones are
+ * mostly DELIVERED with a share CANCELLED.
+ */
+final class OrderChunkWriter {
+
+    static final int SNAPSHOT_SECOND = 20 * 3600;
+
+    // Relative order volume per hour of day
+    private static final Samplers.Weighted HOURS = new Samplers.Weighted(
+            1, 0.6, 0.3, 0.2, 0.2, 0.3, 0.8, 1.5, 2.5, 3, 4, 8, 14, 12, 6, 4, 4, 6, 11, 13, 10, 6, 3, 2);
+
+    // Lines per order: 1 to 10, most orders have one to three
+    private static final Samplers.Weighted BASKET_SIZES = new Samplers.Weighted(
+            35, 27, 16, 9, 5, 3, 2, 1.5, 1, 0.5);
+
+    private static final Samplers.Weighted QUANTITIES = new Samplers.Weighted(80, 14, 4, 1.5, 0.5);
+
+    private static final String[] ORDER_NOTES = { "Leave at the door", "Ring the bell twice", "No cutlery",
+            "Extra napkins please", "Call on arrival" };
+    private static final String[] LINE_NOTES = { "No onions", "Extra spicy", "Sauce on the side", "Well done" };
+
+    private final CatalogPlan catalog;
+    private final long seed;
+    private final int chunkSize;
+    private final long orders;
+    private final long orderIdBase;
+    private final int days;
+    private final byte[][] datePrefixes;
+    private final Samplers.Weighted dayOfWindow;
+    private final Samplers.Weighted customers;
+
+    OrderChunkWriter(DataGenConfig config, CatalogPlan catalog, long orderIdBase) {
+        this.catalog = catalog;
+        this.seed = config.seed();
+        this.chunkSize = config.chunkSize();
+        this.orders = config.orders();
+        this.orderIdBase = orderIdBase;
+        this.days = config.days();
+
+        LocalDate first = config.endDate().minusDays(days - 1);
+        datePrefixes = new byte[days][];
+        double[] dayWeights = new double[days];
+        for (int d = 0; d < days; d++) {
+            LocalDate date = first.plusDays(d);
+            datePrefixes[d] = CatalogPlan.datePrefix(date);
+            dayWeights[d] = weekdayWeight(date.getDayOfWeek());
+        }
+        // The snapshot day only runs until 20:00
+        dayWeights[days - 1] *= 0.6;
+        dayOfWindow = new Samplers.Weighted(dayWeights);
+        // Regulars order often, most customers only a few times
+        customers = Samplers.zipf(config.customers(), 0.8);
+    }
+
+    /**
+     * Write orders (id, order_number, restaurant_id, customer_name,
+     * customer_phone, delivery_address, total_amount, status, notes,
+     * created_at, updated_at) and order_items (order_id, menu_item_id,
+     * quantity, price_at_order, subtotal, notes) for the chunk
+     */
+    void write(long chunk, CopyBuffer orderRows, CopyBuffer lineRows) {
+        SplittableRandom random = new SplittableRandom(mix(seed, chunk));
+        long firstOrder = chunk * chunkSize;
+        long lastOrder = Math.min(firstOrder + chunkSize, orders);
+
+        int[] lineItems = new int[BASKET_SIZES.size()];
+        int[] lineQuantities = new int[BASKET_SIZES.size()];
+
+        for (long index = firstOrder; index < lastOrder; index++) {
+            long id = orderIdBase + index + 1;
+            int restaurant = catalog.pickRestaurant(random);
+
+            int lines = Math.min(1 + BASKET_SIZES.sample(random), catalog.menuSize(restaurant));
+            int distinct = 0;
+            long total = 0;
+            for (int l = 0; l < lines; l++) {
+                int item = catalog.pickItem(restaurant, random);
+                int quantity = 1 + QUANTITIES.sample(random);
+                total += (long) quantity * catalog.price(item);
+                int existing = indexOf(lineItems, distinct, item);
+                if (existing >= 0) {
+                    lineQuantities[existing] += quantity;
+                } else {
+                    lineItems[distinct] = item;
+                    lineQuantities[distinct++] = quantity;
+                }
+            }
+
+            // Seconds since the start of the window
+            int day = dayOfWindow.sample(random);
+            int hour = HOURS.sample(random);
+            while (day == days - 1 && hour >= SNAPSHOT_SECOND / 3600) {
+                hour = HOURS.sample(random);
+            }
+            long created = (long) day * 86_400 + hour * 3600 + random.nextInt(3600);
+            long snapshot = (long) (days - 1) * 86_400 + SNAPSHOT_SECOND;
+            long ageMinutes = (snapshot - created) / 60;
+
+            String status;
+            long updated;
+            // Kitchens and couriers vary: stretch each order's timeline by 0.7 to 1.5
+            double pace = 0.7 + random.nextDouble() * 0.8;
+            if (ageMinutes < 5 * pace) {
+                status = "PENDING";
+                updated = created;
+            } else if (ageMinutes < 10 * pace) {
+                status = "CONFIRMED";
+                updated = created + 60;
+            } else if (ageMinutes < 25 * pace) {
+                status = "PREPARING";
+                updated = created + (long) (600 * pace);
+            } else if (ageMinutes < 35 * pace) {
+                status = "READY_FOR_PICKUP";
+                updated = created + (long) (1500 * pace);
+            } else if (ageMinutes < 70 * pace) {
+                status = "OUT_FOR_DELIVERY";
+                updated = created + (long) (2100 * pace);
+            } else if (random.nextInt(100) < 8) {
+                status = "CANCELLED";
+                updated = created + 60 + random.nextInt(900);
+            } else {
+                status = "DELIVERED";
+                updated = created + (long) (70 * 60 * pace);
+            }
+            updated = Math.min(updated, snapshot);
+
+            int customer = customers.sample(random);
+            orderRows.add(id)
+                    .addCode("GEN-", id, 12)
+                    .add(catalog.restaurantId(restaurant))
+                    .add("Customer " + (customer + 1))
+                    .addCode("09", customer, 8)
+                    .add((customer % 2000 + 1) + " Garden Road, District " + (customer % 40 + 1))
+                    .addMoney(total)
+                    .add(status)
+                    .add(random.nextInt(100) < 10 ? ORDER_NOTES[random.nextInt(ORDER_NOTES.length)] : null);
+            timestamp(orderRows, created);
+            timestamp(orderRows, updated);
+            orderRows.endRow();
+
+            for (int l = 0; l < distinct; l++) {
+                int price = catalog.price(lineItems[l]);
+                lineRows.add(id)
+                        .add(catalog.menuItemId(lineItems[l]))
+                        .add(lineQuantities[l])
+                        .addMoney(price)
+                        .addMoney((long) price * lineQuantities[l])
+                        .add(random.nextInt(100) < 5 ? LINE_NOTES[random.nextInt(LINE_NOTES.length)] : null)
+                        .endRow();
+            }
+        }
+    }
+
+    private void timestamp(CopyBuffer buffer, long secondsInWindow) {
+        buffer.addTimestamp(datePrefixes[(int) (secondsInWindow / 86_400)], (int) (secondsInWindow % 86_400));
+    }
+
+    private static int indexOf(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static double weekdayWeight(DayOfWeek day) {
+        return switch (day) {
+            case FRIDAY, SATURDAY -> 1.35;
+            case SUNDAY -> 1.2;
+            default -> 1.0;
+        };
+    }
+
+    /**
+     * Independent stream per chunk; the golden-ratio step keeps adjacent
+     * chunk numbers far apart before SplittableRandom mixes the seed
+     */
+    static long mix(long seed, long chunk) {
+        return seed + (chunk + 1) * 0x9E3779B97F4A7C15L;
+    }
+}
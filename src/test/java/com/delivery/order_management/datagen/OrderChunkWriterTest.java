@@ -0,0 +1,86 @@
+package com.delivery.order_management.datagen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class OrderChunkWriterTest {
+
+    private static final DataGenConfig CONFIG = DataGenConfig.parse(new String[] {
+            "restaurants=200", "orders=20000", "chunk-size=5000", "days=30", "end-date=2026-10-01", "seed=7" });
+
+    @Test
+    void shouldWriteSameRowsForSameSeedWhateverTheChunkOrder() {
+        byte[] forward = writeAll(new long[] { 0, 1, 2, 3 });
+        byte[] shuffled = writeAll(new long[] { 2, 0, 3, 1 });
+        byte[] otherSeed = writeAll(DataGenConfig.parse(new String[] {
+                "restaurants=200", "orders=20000", "chunk-size=5000", "days=30", "end-date=2026-10-01", "seed=8" }),
+                new long[] { 0, 1, 2, 3 });
+
+        assertThat(new String(shuffled, StandardCharsets.US_ASCII).lines().sorted().toList())
+                .isEqualTo(new String(forward, StandardCharsets.US_ASCII).lines().sorted().toList());
+        assertThat(otherSeed).isNotEqualTo(forward);
+    }
+
+    @Test
+    void shouldMatchOrderTotalsToLinesAndSkewPopularity() {
+        CatalogPlan catalog = new CatalogPlan(CONFIG, 0, 0);
+        OrderChunkWriter writer = new OrderChunkWriter(CONFIG, catalog, 0);
+        CopyBuffer orders = new CopyBuffer(1024);
+        CopyBuffer lines = new CopyBuffer(1024);
+        for (long chunk = 0; chunk < CONFIG.chunks(); chunk++) {
+            writer.write(chunk, orders, lines);
+        }
+        assertThat(orders.rows()).isEqualTo(20_000);
+
+        Map<String, BigDecimal> lineTotals = new HashMap<>();
+        for (String line : text(lines).split("\n")) {
+            String[] columns = line.split("\t");
+            lineTotals.merge(columns[0], new BigDecimal(columns[4]), BigDecimal::add);
+        }
+
+        Map<String, Integer> ordersPerRestaurant = new HashMap<>();
+        Map<String, Integer> statuses = new HashMap<>();
+        for (String line : text(orders).split("\n")) {
+            String[] columns = line.split("\t");
+            assertThat(new BigDecimal(columns[6])).isEqualByComparingTo(lineTotals.get(columns[0]));
+            ordersPerRestaurant.merge(columns[2], 1, Integer::sum);
+            statuses.merge(columns[7], 1, Integer::sum);
+        }
+
+        // Zipf with s = 1.1 over 200 restaurants: the top one takes well over 5%
+        int busiest = ordersPerRestaurant.values().stream().mapToInt(Integer::intValue).max().orElseThrow();
+        assertThat(busiest).isGreaterThan(20_000 / 20);
+        assertThat(statuses.get("DELIVERED")).isGreaterThan(20_000 * 8 / 10);
+        assertThat(statuses).containsKeys("CANCELLED", "PREPARING");
+    }
+
+    private static byte[] writeAll(long[] chunkOrder) {
+        return writeAll(CONFIG, chunkOrder);
+    }
+
+    private static byte[] writeAll(DataGenConfig config, long[] chunkOrder) {
+        CatalogPlan catalog = new CatalogPlan(config, 0, 0);
+        OrderChunkWriter writer = new OrderChunkWriter(config, catalog, 0);
+        CopyBuffer orders = new CopyBuffer(1024);
+        CopyBuffer lines = new CopyBuffer(1024);
+        for (long chunk : chunkOrder) {
+            writer.write(chunk, orders, lines);
+        }
+        byte[] orderBytes = orders.toByteArray();
+        byte[] lineBytes = lines.toByteArray();
+        byte[] all = new byte[orderBytes.length + lineBytes.length];
+        System.arraycopy(orderBytes, 0, all, 0, orderBytes.length);
+        System.arraycopy(lineBytes, 0, all, orderBytes.length, lineBytes.length);
+        return all;
+    }
+
+    private static String text(CopyBuffer buffer) {
+        return new String(buffer.toByteArray(), StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,75 @@
+package com.delivery.order_management.datagen;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Inverse-CDF samplers over small discrete distributions. Tables are built
+ * once and shared read-only between generator threads; randomness always
+ * comes from the caller's SplittableRandom so output depends only on the seed.
+ */
+final class Samplers {
+
+    private Samplers() {
+    }
+
+    /**
+     * Ranks 0..n-1 with P(k) proportional to 1 / (k + 1)^s
+     */
+    static Weighted zipf(int n, double s) {
+        double[] weights = new double[n];
+        for (int k = 0; k < n; k++) {
+            weights[k] = 1.0 / Math.pow(k + 1, s);
+        }
+        return new Weighted(weights);
+    }
+
+    /**
+     * Log-normal with the given median, clamped to [min, max]
+     */
+    static long logNormal(SplittableRandom random, double median, double sigma, long min, long max) {
+        double value = median * Math.exp(sigma * gaussian(random));
+        return Math.max(min, Math.min(max, Math.round(value)));
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller; one of the pair is enough here
+        double u = 1.0 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v);
+    }
+
+    static final class Weighted {
+
+        private final double[] cumulative;
+
+        Weighted(double... weights) {
+            cumulative = new double[weights.length];
+            double total = 0;
+            for (int i = 0; i < weights.length; i++) {
+                if (weights[i] < 0) {
+                    throw new IllegalArgumentException("Negative weight at " + i);
+                }
+                total += weights[i];
+                cumulative[i] = total;
+            }
+            if (total <= 0) {
+                throw new IllegalArgumentException("Weights must not all be zero");
+            }
+            for (int i = 0; i < cumulative.length; i++) {
+                cumulative[i] /= total;
+            }
+        }
+
+        int size() {
+            return cumulative.length;
+        }
+
+        int sample(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            index = index >= 0 ? index + 1 : -index - 1;
+            // Guards the rounding gap below 1.0 at the top of the table
+            return Math.min(index, cumulative.length - 1);
+        }
+    }
+}
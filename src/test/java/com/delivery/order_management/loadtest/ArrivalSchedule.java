@@ -0,0 +1,70 @@
+package com.delivery.order_management.loadtest;
+
+import java.util.SplittableRandom;
+
+/**
+ * Open-model arrivals: a Poisson process whose rate follows a profile over
+ * the measured window, preceded by a warm-up at the profile's starting rate.
+ * Arrival times are fixed by the seed, not by how fast the server answers.
+ */
+final class ArrivalSchedule {
+
+    /**
+     * Share of the peak rate at a point in the measured window (0 to 1)
+     */
+    enum Profile {
+        CONSTANT {
+            @Override
+            double factor(double progress) {
+                return 1.0;
+            }
+        },
+        // Late morning trickle, ramp into the lunch peak, hold, then taper off
+        LUNCH {
+            @Override
+            double factor(double progress) {
+                if (progress < 0.2) {
+                    return 0.2;
+                }
+                if (progress < 0.4) {
+                    return 0.2 + 0.8 * (progress - 0.2) / 0.2;
+                }
+                if (progress < 0.7) {
+                    return 1.0;
+                }
+                return 1.0 - 0.7 * (progress - 0.7) / 0.3;
+            }
+        };
+
+        abstract double factor(double progress);
+    }
+
+    private final double peakPerNano;
+    private final Profile profile;
+    private final long warmUpNanos;
+    private final long endNanos;
+    private final SplittableRandom random;
+    private long next;
+
+    ArrivalSchedule(double peakRatePerSecond, Profile profile, long warmUpNanos, long durationNanos, long seed) {
+        this.peakPerNano = peakRatePerSecond / 1e9;
+        this.profile = profile;
+        this.warmUpNanos = warmUpNanos;
+        this.endNanos = warmUpNanos + durationNanos;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Offset of the next arrival from the start in nanoseconds, or -1 once the run is over
+     */
+    long nextArrival() {
+        double progress = next < warmUpNanos ? 0 : (double) (next - warmUpNanos) / (endNanos - warmUpNanos);
+        double rate = peakPerNano * profile.factor(progress);
+        next += (long) (-Math.log(1 - random.nextDouble()) / rate);
+        return next < endNanos ? next : -1;
+    }
+
+    boolean isMeasured(long offset) {
+        return offset >= warmUpNanos;
+    }
+}
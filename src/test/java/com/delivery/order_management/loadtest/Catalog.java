@@ -0,0 +1,167 @@
+package com.delivery.order_management.loadtest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.delivery.order_management.model.dto.CreateMenuItemRequest;
+import com.delivery.order_management.model.dto.CreateRestaurantRequest;
+import com.delivery.order_management.model.dto.MenuItemResponse;
+import com.delivery.order_management.model.dto.RestaurantResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Restaurants and menu items the workload picks from. Restaurant popularity
+ * is Zipf-distributed, so a few restaurants take most of the lunch traffic.
+ */
+final class Catalog {
+
+    private static final double ZIPF_EXPONENT = 1.0;
+    private static final int SEED_STOCK = 1_000_000;
+
+    private final List<Long> restaurantIds;
+    private final List<long[]> menuItemIds;
+    private final double[] cumulative;
+
+    private Catalog(List<Long> restaurantIds, List<long[]> menuItemIds) {
+        this.restaurantIds = restaurantIds;
+        this.menuItemIds = menuItemIds;
+        this.cumulative = new double[restaurantIds.size()];
+        double sum = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            sum += 1.0 / Math.pow(i + 1, ZIPF_EXPONENT);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * Create restaurants open all day with well-stocked menus through the API
+     */
+    static Catalog seed(HttpClient client, ObjectMapper mapper, String baseUrl, int restaurants, int itemsPerRestaurant,
+            long seed) throws IOException, InterruptedException {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Long> restaurantIds = new ArrayList<>(restaurants);
+        List<long[]> menuItemIds = new ArrayList<>(restaurants);
+
+        for (int r = 0; r < restaurants; r++) {
+            CreateRestaurantRequest restaurant = new CreateRestaurantRequest();
+            restaurant.setName("Load test " + seed + "-" + r + "-" + System.currentTimeMillis());
+            restaurant.setAddress(r + " Load Test Road");
+            restaurant.setPhone("0800000" + r);
+            restaurant.setOpeningTime(LocalTime.MIN);
+            restaurant.setClosingTime(LocalTime.MAX);
+            restaurant.setIsActive(true);
+            RestaurantResponse created = post(client, mapper, baseUrl + "/restaurants", restaurant, RestaurantResponse.class);
+
+            long[] items = new long[itemsPerRestaurant];
+            for (int i = 0; i < itemsPerRestaurant; i++) {
+                CreateMenuItemRequest item = new CreateMenuItemRequest();
+                item.setName("Dish " + i);
+                item.setPrice(BigDecimal.valueOf(500 + random.nextInt(30_000), 2));
+                item.setCategory(i % 3 == 0 ? "drinks" : "mains");
+                item.setStockQuantity(SEED_STOCK);
+                item.setIsAvailable(true);
+                items[i] = post(client, mapper, baseUrl + "/menu-items/restaurant/" + created.getId(), item,
+                        MenuItemResponse.class).getId();
+            }
+            restaurantIds.add(created.getId());
+            menuItemIds.add(items);
+        }
+        return new Catalog(restaurantIds, menuItemIds);
+    }
+
+    /**
+     * Use the active restaurants already in the database, e.g. from the data generator
+     */
+    static Catalog discover(HttpClient client, ObjectMapper mapper, String baseUrl, int restaurants)
+            throws IOException, InterruptedException {
+        List<RestaurantResponse> active = get(client, mapper, baseUrl + "/restaurants?activeOnly=true",
+                new TypeReference<List<RestaurantResponse>>() {
+                });
+        List<Long> restaurantIds = new ArrayList<>();
+        List<long[]> menuItemIds = new ArrayList<>();
+        for (RestaurantResponse restaurant : active) {
+            if (restaurantIds.size() == restaurants) {
+                break;
+            }
+            List<MenuItemResponse> menu = get(client, mapper,
+                    baseUrl + "/menu-items/restaurant/" + restaurant.getId() + "?availableOnly=true",
+                    new TypeReference<List<MenuItemResponse>>() {
+                    });
+            if (!menu.isEmpty()) {
+                restaurantIds.add(restaurant.getId());
+                menuItemIds.add(menu.stream().mapToLong(MenuItemResponse::getId).toArray());
+            }
+        }
+        if (restaurantIds.isEmpty()) {
+            throw new IllegalStateException("No active restaurant with available menu items at " + baseUrl);
+        }
+        return new Catalog(restaurantIds, menuItemIds);
+    }
+
+    int size() {
+        return restaurantIds.size();
+    }
+
+    /**
+     * Index of a restaurant, weighted by popularity
+     */
+    int pickRestaurant(SplittableRandom random) {
+        double u = random.nextDouble();
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    long restaurantId(int index) {
+        return restaurantIds.get(index);
+    }
+
+    long pickMenuItem(int restaurantIndex, SplittableRandom random) {
+        long[] items = menuItemIds.get(restaurantIndex);
+        return items[random.nextInt(items.length)];
+    }
+
+    private static <T> T post(HttpClient client, ObjectMapper mapper, String url, Object body, Class<T> type)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)))
+                .build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("POST " + url + " failed with " + response.statusCode() + ": "
+                    + new String(response.body()));
+        }
+        return mapper.readValue(response.body(), type);
+    }
+
+    private static <T> T get(HttpClient client, ObjectMapper mapper, String url, TypeReference<T> type)
+            throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(URI.create(url)).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("GET " + url + " failed with " + response.statusCode());
+        }
+        return mapper.readValue(response.body(), type);
+    }
+}
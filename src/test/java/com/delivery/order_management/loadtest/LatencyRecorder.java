@@ -0,0 +1,106 @@
+package com.delivery.order_management.loadtest;
+
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Per-operation HDR histograms of response time in microseconds, measured
+ * from when a request was scheduled to start rather than when it was sent,
+ * so a stalled server shows up as latency instead of as fewer requests
+ * (no coordinated omission). Interval histograms go to an HdrHistogram log
+ * tagged by operation once per interval.
+ */
+final class LatencyRecorder {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, Histogram> totals = new EnumMap<>(Operation.class);
+    private final Map<Operation, OperationCounts> counts = new EnumMap<>(Operation.class);
+    private final PrintStream logStream;
+    private final HistogramLogWriter logWriter;
+    private final long startMillis;
+
+    static final class OperationCounts {
+        final LongAdder ok = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    }
+
+    LatencyRecorder(Path logFile, long startMillis) throws FileNotFoundException {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            totals.put(operation, new Histogram(HIGHEST_TRACKABLE_MICROS, 3));
+            counts.put(operation, new OperationCounts());
+        }
+        this.startMillis = startMillis;
+        this.logStream = new PrintStream(logFile.toFile());
+        this.logWriter = new HistogramLogWriter(logStream);
+        logWriter.outputLogFormatVersion();
+        logWriter.outputStartTime(startMillis);
+        logWriter.setBaseTime(startMillis);
+        logWriter.outputLegend();
+    }
+
+    /**
+     * Record a completed request; status is 0 when no response came back
+     */
+    void record(Operation operation, long intendedStartNanos, int status) {
+        long micros = Math.min((System.nanoTime() - intendedStartNanos) / 1_000, HIGHEST_TRACKABLE_MICROS);
+        recorders.get(operation).recordValue(Math.max(micros, 1));
+        OperationCounts operationCounts = counts.get(operation);
+        (status / 100 == 2 ? operationCounts.ok : operationCounts.failed).increment();
+        operationCounts.statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * A request that was due but not sent because max-in-flight was reached
+     */
+    void dropped(Operation operation) {
+        counts.get(operation).dropped.increment();
+    }
+
+    /**
+     * Move what was recorded since the last call into the totals and the log
+     */
+    synchronized void flushInterval() {
+        for (Operation operation : Operation.values()) {
+            Histogram interval = recorders.get(operation).getIntervalHistogram();
+            if (interval.getTotalCount() == 0) {
+                continue;
+            }
+            interval.setTag(operation.key());
+            logWriter.outputIntervalHistogram(interval);
+            totals.get(operation).add(interval);
+        }
+        logStream.flush();
+    }
+
+    synchronized void close() {
+        flushInterval();
+        logStream.close();
+    }
+
+    Histogram total(Operation operation) {
+        return totals.get(operation);
+    }
+
+    OperationCounts counts(Operation operation) {
+        return counts.get(operation);
+    }
+
+    long startMillis() {
+        return startMillis;
+    }
+}
@@ -0,0 +1,176 @@
+package com.delivery.order_management.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Open-model load test of a running instance with an order-day workload.
+ *
+ * Requests arrive on a seeded Poisson schedule whatever the response times,
+ * so a slow server builds a backlog instead of slowing the load down, and
+ * each response time is measured from its scheduled start. Results go to
+ * target/loadtest/{time}-{commit}: summary.json, an HdrHistogram interval
+ * log (latency.hlog) and a .hgrm percentile distribution per operation.
+ *
+ *   mvn test-compile exec:exec -Ploadtest -Dload.args="rate=100 profile=lunch"
+ *
+ * Options (all name=value): url, rate (peak requests per second),
+ * duration, warm-up (ISO-8601), profile (constant or lunch), mix, seed,
+ * seed-data (false to use existing active restaurants), restaurants,
+ * items-per-restaurant, max-in-flight, request-timeout, output, label and
+ * baseline (an earlier run directory to compare with).
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        ObjectMapper mapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        Catalog catalog = config.seedData()
+                ? Catalog.seed(client, mapper, config.baseUrl(), config.restaurants(), config.itemsPerRestaurant(),
+                        config.seed())
+                : Catalog.discover(client, mapper, config.baseUrl(), config.restaurants());
+        System.out.printf("Catalog: %d restaurants at %s%n", catalog.size(), config.baseUrl());
+
+        String commit = config.label() != null ? config.label() : gitCommit();
+        Path directory = config.output().resolve(
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + "-" + commit);
+        Files.createDirectories(directory);
+
+        LatencyRecorder recorder = new LatencyRecorder(directory.resolve("latency.hlog"), System.currentTimeMillis());
+        Workload workload = new Workload(config.baseUrl(), catalog, new OrderPool(), mapper, config.requestTimeout(),
+                config.seed());
+        run(config, client, workload, recorder);
+        recorder.close();
+
+        LoadTestReport report = new LoadTestReport(config, recorder, commit, config.duration().toMillis() / 1000.0);
+        report.write(directory, recorder, mapper);
+        JsonNode baseline = config.baseline() == null ? null
+                : mapper.readTree(summaryFile(config.baseline()).toFile());
+        report.print(System.out, baseline);
+        warnIfRateLimited(recorder);
+        System.out.printf("%nResults in %s%n", directory);
+        System.exit(0);
+    }
+
+    private static void run(LoadTestConfig config, HttpClient client, Workload workload, LatencyRecorder recorder)
+            throws InterruptedException {
+        ArrivalSchedule schedule = new ArrivalSchedule(config.rate(), config.profile(), config.warmUp().toNanos(),
+                config.duration().toNanos(), config.seed());
+        AtomicInteger inFlight = new AtomicInteger();
+        ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+        flusher.scheduleAtFixedRate(recorder::flushInterval, 1, 1, TimeUnit.SECONDS);
+
+        System.out.printf("Warming up for %s, then measuring for %s at up to %.0f requests/s (%s)%n",
+                config.warmUp(), config.duration(), config.rate(), config.profile().name().toLowerCase());
+        long start = System.nanoTime();
+        for (long offset = schedule.nextArrival(); offset >= 0; offset = schedule.nextArrival()) {
+            long intended = start + offset;
+            for (long wait = intended - System.nanoTime(); wait > 0; wait = intended - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+
+            boolean measured = schedule.isMeasured(offset);
+            Operation drawn = config.mix().next(workload.random());
+            if (inFlight.get() >= config.maxInFlight()) {
+                if (measured) {
+                    recorder.dropped(drawn);
+                }
+                continue;
+            }
+
+            Workload.Call call = workload.next(drawn);
+            inFlight.incrementAndGet();
+            client.sendAsync(call.request(), HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((response, error) -> {
+                        try {
+                            if (measured) {
+                                recorder.record(call.operation(), intended, response != null ? response.statusCode() : 0);
+                            }
+                            workload.completed(call, response);
+                        } finally {
+                            inFlight.decrementAndGet();
+                        }
+                    });
+        }
+
+        // Let the backlog finish; requests still open after their timeout have failed by then
+        long drainDeadline = System.nanoTime() + config.requestTimeout().toNanos() + TimeUnit.SECONDS.toNanos(5);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(50);
+        }
+        flusher.shutdownNow();
+    }
+
+    /**
+     * All synthetic traffic comes from one address, so 429s mean the instance
+     * was measuring its rate limits instead of its capacity
+     */
+    private static void warnIfRateLimited(LatencyRecorder recorder) {
+        long limited = 0;
+        for (Operation operation : Operation.values()) {
+            LongAdder count = recorder.counts(operation).statuses.get(429);
+            limited += count != null ? count.sum() : 0;
+        }
+        if (limited > 0) {
+            System.out.printf("%nWARNING: %d requests were rate limited; start the instance with "
+                    + "--spring.profiles.active=loadtest%n", limited);
+        }
+    }
+
+    private static Path summaryFile(Path baseline) {
+        return Files.isDirectory(baseline) ? baseline.resolve("summary.json") : baseline;
+    }
+
+    /**
+     * Short commit id of the working tree, marked dirty when it has local changes
+     */
+    private static String gitCommit() {
+        try {
+            String commit = git("rev-parse", "--short", "HEAD");
+            return git("status", "--porcelain", "--untracked-files=no").isEmpty() ? commit : commit + "-dirty";
+        } catch (IOException | InterruptedException ex) {
+            return "unknown";
+        }
+    }
+
+    private static String git(String... args) throws IOException, InterruptedException {
+        String[] command = new String[args.length + 1];
+        command[0] = "git";
+        System.arraycopy(args, 0, command, 1, args.length);
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        if (process.waitFor() != 0) {
+            throw new IOException(output);
+        }
+        return output;
+    }
+}
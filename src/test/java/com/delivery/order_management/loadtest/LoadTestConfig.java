@@ -0,0 +1,87 @@
+package com.delivery.order_management.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Run settings from name=value arguments; every value has a default so
+ * runs with the same arguments are comparable across commits.
+ */
+record LoadTestConfig(
+        String baseUrl,
+        double rate,
+        Duration duration,
+        Duration warmUp,
+        ArrivalSchedule.Profile profile,
+        WorkloadMix mix,
+        long seed,
+        boolean seedData,
+        int restaurants,
+        int itemsPerRestaurant,
+        int maxInFlight,
+        Duration requestTimeout,
+        Path output,
+        String label,
+        Path baseline) {
+
+    private static final Set<String> OPTIONS = Set.of("url", "rate", "duration", "warm-up", "profile", "mix",
+            "seed", "seed-data", "restaurants", "items-per-restaurant", "max-in-flight", "request-timeout",
+            "output", "label", "baseline");
+
+    static final String DEFAULT_MIX = "browse=40,restaurant=10,availability=15,order=15,status=12,track=8";
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (split < 0) {
+                throw new IllegalArgumentException("Expected name=value, got: " + arg);
+            }
+            String name = arg.substring(0, split);
+            if (!OPTIONS.contains(name)) {
+                throw new IllegalArgumentException("Unknown option " + name + ", expected one of " + OPTIONS);
+            }
+            values.put(name, arg.substring(split + 1));
+        }
+
+        return new LoadTestConfig(
+                values.getOrDefault("url", "http://localhost:8080/api"),
+                Double.parseDouble(values.getOrDefault("rate", "50")),
+                Duration.parse(values.getOrDefault("duration", "PT2M")),
+                Duration.parse(values.getOrDefault("warm-up", "PT30S")),
+                ArrivalSchedule.Profile.valueOf(values.getOrDefault("profile", "constant").toUpperCase()),
+                WorkloadMix.parse(values.getOrDefault("mix", DEFAULT_MIX)),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Boolean.parseBoolean(values.getOrDefault("seed-data", "true")),
+                Integer.parseInt(values.getOrDefault("restaurants", "20")),
+                Integer.parseInt(values.getOrDefault("items-per-restaurant", "30")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "2000")),
+                Duration.parse(values.getOrDefault("request-timeout", "PT10S")),
+                Path.of(values.getOrDefault("output", "target/loadtest")),
+                values.get("label"),
+                values.containsKey("baseline") ? Path.of(values.get("baseline")) : null);
+    }
+
+    /**
+     * Settings that shape the workload, written into the summary for comparison
+     */
+    Map<String, Object> describe() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("url", baseUrl);
+        settings.put("rate", rate);
+        settings.put("duration", duration.toString());
+        settings.put("warmUp", warmUp.toString());
+        settings.put("profile", profile.name().toLowerCase());
+        settings.put("mix", mix.toString());
+        settings.put("seed", seed);
+        settings.put("seedData", seedData);
+        settings.put("restaurants", restaurants);
+        settings.put("itemsPerRestaurant", itemsPerRestaurant);
+        settings.put("maxInFlight", maxInFlight);
+        return settings;
+    }
+}
@@ -0,0 +1,116 @@
+package com.delivery.order_management.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes summary.json and one .hgrm percentile distribution per operation,
+ * and prints a table, with changes against a baseline run when given.
+ */
+final class LoadTestReport {
+
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+    private static final String[] PERCENTILE_KEYS = { "p50", "p90", "p99", "p999" };
+
+    private final Map<String, Object> summary = new LinkedHashMap<>();
+    private final Map<String, Map<String, Object>> operations = new LinkedHashMap<>();
+
+    LoadTestReport(LoadTestConfig config, LatencyRecorder recorder, String commit, double measuredSeconds) {
+        summary.put("commit", commit);
+        summary.put("startedAt", Instant.ofEpochMilli(recorder.startMillis()).toString());
+        summary.put("config", config.describe());
+        summary.put("measuredSeconds", measuredSeconds);
+
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = recorder.total(operation);
+            LatencyRecorder.OperationCounts counts = recorder.counts(operation);
+            if (histogram.getTotalCount() == 0 && counts.dropped.sum() == 0) {
+                continue;
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", histogram.getTotalCount());
+            stats.put("ok", counts.ok.sum());
+            stats.put("failed", counts.failed.sum());
+            stats.put("dropped", counts.dropped.sum());
+            stats.put("throughput", round(histogram.getTotalCount() / measuredSeconds));
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                stats.put(PERCENTILE_KEYS[i] + "Ms", millis(histogram.getValueAtPercentile(PERCENTILES[i])));
+            }
+            stats.put("maxMs", millis(histogram.getMaxValue()));
+            Map<String, Long> statuses = new TreeMap<>();
+            counts.statuses.forEach((status, count) -> statuses.put(String.valueOf(status), count.sum()));
+            stats.put("statuses", statuses);
+            operations.put(operation.key(), stats);
+        }
+        summary.put("operations", operations);
+    }
+
+    void write(Path directory, LatencyRecorder recorder, ObjectMapper mapper) throws IOException {
+        mapper.writer().with(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("summary.json").toFile(), summary);
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = recorder.total(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            try (PrintStream out = new PrintStream(directory.resolve(operation.key() + ".hgrm").toFile())) {
+                // Microseconds recorded, milliseconds reported
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    void print(PrintStream out, JsonNode baseline) {
+        out.printf("%n%-13s %9s %7s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "failed", "dropped", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        operations.forEach((name, stats) -> {
+            out.printf("%-13s %9d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", name, stats.get("count"),
+                    stats.get("failed"), stats.get("dropped"), stats.get("throughput"), stats.get("p50Ms"),
+                    stats.get("p99Ms"), stats.get("p999Ms"), stats.get("maxMs"));
+        });
+
+        if (baseline == null) {
+            return;
+        }
+        out.printf("%nAgainst %s (%s):%n", baseline.path("commit").asText(), baseline.path("startedAt").asText());
+        // Compared as text since numbers read back from JSON may have a different node type
+        if (!baseline.path("config").toString().equals(new ObjectMapper().valueToTree(summary.get("config")).toString())) {
+            out.println("  warning: the baseline ran with different settings");
+        }
+        out.printf("%-13s %21s %21s %21s%n", "operation", "p50 ms", "p99 ms", "req/s");
+        operations.forEach((name, stats) -> {
+            JsonNode before = baseline.path("operations").path(name);
+            if (before.isMissingNode()) {
+                return;
+            }
+            out.printf("%-13s %21s %21s %21s%n", name,
+                    change(before.path("p50Ms").asDouble(), (double) stats.get("p50Ms")),
+                    change(before.path("p99Ms").asDouble(), (double) stats.get("p99Ms")),
+                    change(before.path("throughput").asDouble(), (double) stats.get("throughput")));
+        });
+    }
+
+    private static String change(double before, double after) {
+        double percent = before == 0 ? 0 : (after - before) / before * 100;
+        return String.format("%.2f -> %.2f (%+.0f%%)", before, after, percent);
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,35 @@
+package com.delivery.order_management.loadtest;
+
+/**
+ * Requests in the order-day workload, each recorded in its own histogram
+ */
+enum Operation {
+    BROWSE_MENU("browse"),
+    VIEW_RESTAURANT("restaurant"),
+    CHECK_AVAILABILITY("availability"),
+    PLACE_ORDER("order"),
+    ADVANCE_STATUS("status"),
+    TRACK_ORDER("track");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Name used in the mix option and in report files
+     */
+    String key() {
+        return key;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + key);
+    }
+}
@@ -0,0 +1,64 @@
+package com.delivery.order_management.loadtest;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.delivery.order_management.model.entity.OrderStatus;
+
+/**
+ * Orders placed during the run: those still moving through the kitchen and
+ * delivery statuses, and a ring of recent order numbers for tracking polls.
+ */
+final class OrderPool {
+
+    private static final int RECENT = 1024;
+
+    record PlacedOrder(long id, String orderNumber, OrderStatus status) {
+
+        /**
+         * Next status on the happy path, or null once delivered
+         */
+        OrderStatus nextStatus() {
+            return switch (status) {
+                case PENDING -> OrderStatus.CONFIRMED;
+                case CONFIRMED -> OrderStatus.PREPARING;
+                case PREPARING -> OrderStatus.READY_FOR_PICKUP;
+                case READY_FOR_PICKUP -> OrderStatus.OUT_FOR_DELIVERY;
+                case OUT_FOR_DELIVERY -> OrderStatus.DELIVERED;
+                default -> null;
+            };
+        }
+    }
+
+    private final ConcurrentLinkedQueue<PlacedOrder> active = new ConcurrentLinkedQueue<>();
+    private final AtomicReferenceArray<String> recent = new AtomicReferenceArray<>(RECENT);
+    private final AtomicLong placed = new AtomicLong();
+
+    void placed(PlacedOrder order) {
+        active.offer(order);
+        recent.set((int) (placed.getAndIncrement() % RECENT), order.orderNumber());
+    }
+
+    /**
+     * Take an order to advance; it comes back through advanced() once its update completes
+     */
+    PlacedOrder takeActive() {
+        return active.poll();
+    }
+
+    void advanced(PlacedOrder order) {
+        if (!order.status().isTerminal()) {
+            active.offer(order);
+        }
+    }
+
+    String pickRecent(SplittableRandom random) {
+        long count = placed.get();
+        if (count == 0) {
+            return null;
+        }
+        return recent.get(random.nextInt((int) Math.min(count, RECENT)));
+    }
+}
@@ -0,0 +1,139 @@
+package com.delivery.order_management.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.delivery.order_management.model.dto.CreateOrderRequest;
+import com.delivery.order_management.model.dto.OrderItemRequest;
+import com.delivery.order_management.model.dto.OrderResponse;
+import com.delivery.order_management.model.dto.UpdateOrderStatusRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Turns an operation into a request against the real controllers and feeds
+ * placed and advanced orders back into the pool. Requests are built on the
+ * dispatcher thread only, which owns the random source.
+ */
+final class Workload {
+
+    /**
+     * A request ready to send; operation may differ from the one drawn when
+     * its precondition (an order to advance or track) is not met yet
+     */
+    record Call(Operation operation, HttpRequest request, OrderPool.PlacedOrder advancing) {
+    }
+
+    private final String baseUrl;
+    private final Catalog catalog;
+    private final OrderPool orders;
+    private final ObjectMapper mapper;
+    private final Duration timeout;
+    private final SplittableRandom random;
+    private long customers;
+
+    Workload(String baseUrl, Catalog catalog, OrderPool orders, ObjectMapper mapper, Duration timeout, long seed) {
+        this.baseUrl = baseUrl;
+        this.catalog = catalog;
+        this.orders = orders;
+        this.mapper = mapper;
+        this.timeout = timeout;
+        this.random = new SplittableRandom(seed);
+    }
+
+    SplittableRandom random() {
+        return random;
+    }
+
+    Call next(Operation operation) {
+        int restaurant = catalog.pickRestaurant(random);
+        return switch (operation) {
+            case BROWSE_MENU -> get(operation, "/menu-items/restaurant/" + catalog.restaurantId(restaurant)
+                    + "?availableOnly=true");
+            case VIEW_RESTAURANT -> get(operation, "/restaurants/" + catalog.restaurantId(restaurant));
+            case CHECK_AVAILABILITY -> get(operation, "/menu-items/" + catalog.pickMenuItem(restaurant, random)
+                    + "/check-availability?quantity=" + (1 + random.nextInt(3)));
+            case PLACE_ORDER -> placeOrder(restaurant);
+            case ADVANCE_STATUS -> advanceStatus(restaurant);
+            case TRACK_ORDER -> {
+                String orderNumber = orders.pickRecent(random);
+                yield orderNumber == null ? placeOrder(restaurant) : get(operation, "/orders/number/" + orderNumber);
+            }
+        };
+    }
+
+    /**
+     * Handle a response on the HTTP client thread
+     */
+    void completed(Call call, HttpResponse<byte[]> response) {
+        if (response == null || response.statusCode() / 100 != 2) {
+            if (call.advancing() != null) {
+                orders.advanced(call.advancing());
+            }
+            return;
+        }
+        try {
+            if (call.operation() == Operation.PLACE_ORDER) {
+                OrderResponse order = mapper.readValue(response.body(), OrderResponse.class);
+                orders.placed(new OrderPool.PlacedOrder(order.getId(), order.getOrderNumber(), order.getStatus()));
+            } else if (call.advancing() != null) {
+                OrderPool.PlacedOrder advanced = call.advancing();
+                orders.advanced(new OrderPool.PlacedOrder(advanced.id(), advanced.orderNumber(), advanced.nextStatus()));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private Call placeOrder(int restaurant) {
+        int lines = 1 + random.nextInt(3);
+        List<OrderItemRequest> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            items.add(OrderItemRequest.builder()
+                    .menuItemId(catalog.pickMenuItem(restaurant, random))
+                    .quantity(1 + random.nextInt(2))
+                    .build());
+        }
+        long customer = customers++;
+        CreateOrderRequest order = CreateOrderRequest.builder()
+                .restaurantId(catalog.restaurantId(restaurant))
+                .customerName("Load test customer " + customer)
+                .customerPhone(String.format("09%08d", customer % 100_000_000))
+                .deliveryAddress(customer + " Lunch Street")
+                .items(items)
+                .build();
+        return new Call(Operation.PLACE_ORDER, json("/orders", "POST", order), null);
+    }
+
+    private Call advanceStatus(int restaurant) {
+        OrderPool.PlacedOrder order = orders.takeActive();
+        if (order == null) {
+            return placeOrder(restaurant);
+        }
+        UpdateOrderStatusRequest update = UpdateOrderStatusRequest.builder().status(order.nextStatus()).build();
+        return new Call(Operation.ADVANCE_STATUS, json("/orders/" + order.id() + "/status", "PUT", update), order);
+    }
+
+    private Call get(Operation operation, String path) {
+        return new Call(operation, HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout).GET().build(),
+                null);
+    }
+
+    private HttpRequest json(String path, String method, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
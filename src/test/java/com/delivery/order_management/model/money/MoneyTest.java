@@ -0,0 +1,51 @@
+package com.delivery.order_management.model.money;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.delivery.order_management.model.entity.OrderItem;
+import com.delivery.order_management.service.pricing.OrderPricer;
+
+class MoneyTest {
+
+    @Test
+    void shouldConvertExactlyAndRejectSubMinorAmounts() {
+        assertThat(Money.of(new BigDecimal("12.5")).minorUnits()).isEqualTo(1250);
+        assertThat(Money.of(new BigDecimal("99999999.99")).minorUnits()).isEqualTo(9_999_999_999L);
+        assertThat(Money.of(new BigDecimal("1E+2")).minorUnits()).isEqualTo(10_000);
+        assertThat(Money.ofMinor(1250).toBigDecimal()).isEqualTo(new BigDecimal("12.50"));
+
+        assertThatThrownBy(() -> Money.of(new BigDecimal("0.005"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1E+30"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldFailOnOverflowInsteadOfWrapping() {
+        Money large = Money.ofMinor(Long.MAX_VALUE / 2 + 1);
+
+        assertThatThrownBy(() -> large.times(2)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> large.plus(large)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldPriceLinesLikeBigDecimalArithmetic() {
+        List<OrderItem> lines = List.of(
+                OrderItem.builder().priceAtOrder(Money.of(new BigDecimal("19.99"))).quantity(3).build(),
+                OrderItem.builder().priceAtOrder(Money.of(new BigDecimal("0.01"))).quantity(7).build(),
+                OrderItem.builder().priceAtOrder(Money.of(new BigDecimal("120.00"))).quantity(1).build());
+
+        Money total = OrderPricer.price(lines);
+
+        BigDecimal expected = new BigDecimal("19.99").multiply(BigDecimal.valueOf(3))
+                .add(new BigDecimal("0.01").multiply(BigDecimal.valueOf(7)))
+                .add(new BigDecimal("120.00"));
+        assertThat(total.toBigDecimal()).isEqualByComparingTo(expected);
+        assertThat(lines.get(0).getSubtotal()).isEqualTo(Money.ofMinor(5997));
+        assertThat(lines.get(1).getSubtotal()).isEqualTo(Money.ofMinor(7));
+    }
+}
@@ -0,0 +1,108 @@
+package com.delivery.order_management.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import com.delivery.order_management.event.OrderCreatedEvent;
+import com.delivery.order_management.event.OrderLineSnapshot;
+import com.delivery.order_management.event.OrderSnapshot;
+import com.delivery.order_management.event.OrderStatusChangedEvent;
+import com.delivery.order_management.model.dto.PopularItemResponse;
+import com.delivery.order_management.model.entity.OrderStatus;
+import com.delivery.order_management.model.money.Money;
+import com.delivery.order_management.repository.MenuItemRepository;
+import com.delivery.order_management.repository.OrderItemRepository;
+import com.delivery.order_management.service.analytics.PopularityWindow;
+
+/**
+ * The rankings kept from order events must match the ones rebuilt at startup
+ * from the hourly aggregates, or they jump on every restart
+ */
+class PopularItemsServiceTest {
+
+    private static final long RESTAURANT_ID = 7L;
+
+    @Test
+    void shouldRankTheSameFromEventsAsFromTheWarmUpQuery() {
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(2);
+        List<OrderSnapshot> orders = List.of(
+                order(1L, hour.plusMinutes(5), line(100L, 3), line(101L, 1)),
+                order(2L, hour.plusMinutes(20), line(101L, 2)),
+                order(3L, hour.plusMinutes(40), line(102L, 6)),
+                order(4L, hour.plusMinutes(70), line(100L, 1), line(102L, 2)));
+
+        List<Object[]> rows = new ArrayList<>();
+        OrderItemRepository aggregates = stub(OrderItemRepository.class, rows);
+        PopularItemsService live = service(stub(OrderItemRepository.class, List.of()));
+        for (OrderSnapshot order : orders) {
+            live.onOrderCreated(new OrderCreatedEvent(order));
+        }
+        // Order 3 is cancelled after it was counted
+        OrderSnapshot cancelled = orders.get(2);
+        live.onOrderStatusChanged(new OrderStatusChangedEvent(withStatus(cancelled, OrderStatus.CANCELLED),
+                OrderStatus.PENDING));
+
+        // What aggregateByRestaurantHourAndMenuItem returns: non-cancelled lines per hour and item
+        Map<LocalDateTime, Map<Long, Long>> byHour = new TreeMap<>();
+        for (OrderSnapshot order : orders) {
+            if (order != cancelled) {
+                for (OrderLineSnapshot line : order.lines()) {
+                    byHour.computeIfAbsent(order.createdAt().truncatedTo(ChronoUnit.HOURS), h -> new TreeMap<>())
+                            .merge(line.menuItemId(), (long) line.quantity(), Long::sum);
+                }
+            }
+        }
+        byHour.forEach((bucket, items) -> items.forEach((menuItemId, quantity) ->
+                rows.add(new Object[] { RESTAURANT_ID, bucket, menuItemId, quantity, 0L })));
+        PopularItemsService rebuilt = service(aggregates);
+        rebuilt.warmUp();
+
+        // LAST_HOUR slots are shorter than the hourly aggregates, so only the longer windows compare
+        for (PopularityWindow window : List.of(PopularityWindow.LAST_DAY, PopularityWindow.LAST_WEEK)) {
+            assertThat(counts(live.getPopularItems(null, window, 10)))
+                    .isEqualTo(counts(rebuilt.getPopularItems(null, window, 10)))
+                    .containsExactly(Map.entry(100L, 4L), Map.entry(101L, 3L), Map.entry(102L, 2L));
+            assertThat(counts(live.getPopularItems(RESTAURANT_ID, window, 10)))
+                    .isEqualTo(counts(rebuilt.getPopularItems(RESTAURANT_ID, window, 10)));
+        }
+    }
+
+    private static PopularItemsService service(OrderItemRepository orderItemRepository) {
+        return new PopularItemsService(orderItemRepository, stub(MenuItemRepository.class, List.of()), 64, 16, 256, 4);
+    }
+
+    private static List<Map.Entry<Long, Long>> counts(List<PopularItemResponse> ranked) {
+        return ranked.stream().map(item -> Map.entry(item.getMenuItemId(), item.getQuantity())).toList();
+    }
+
+    private static OrderSnapshot order(Long id, LocalDateTime createdAt, OrderLineSnapshot... lines) {
+        return new OrderSnapshot(id, "ORD-" + id, RESTAURANT_ID, "Customer", null, null, OrderStatus.PENDING,
+                Money.ofMinor(1000), null, createdAt, createdAt, List.of(lines));
+    }
+
+    private static OrderSnapshot withStatus(OrderSnapshot order, OrderStatus status) {
+        return new OrderSnapshot(order.id(), order.orderNumber(), order.restaurantId(), order.customerName(),
+                order.deliveryLatitude(), order.deliveryLongitude(), status, order.totalAmount(), order.notes(),
+                order.createdAt(), LocalDateTime.now(), order.lines());
+    }
+
+    private static OrderLineSnapshot line(Long menuItemId, int quantity) {
+        return new OrderLineSnapshot(menuItemId, "Item " + menuItemId, quantity, Money.ofMinor(500L * quantity), null);
+    }
+
+    // Repositories answer every query with the given list
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, List<?> result) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> result);
+    }
+}
@@ -0,0 +1,72 @@
+package com.delivery.order_management.service.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTableTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void shouldAllowBurstThenRefillAtRate() {
+        TokenBucketTable buckets = new TokenBucketTable(1024, 10, 5);
+        long now = 10 * SECOND;
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(buckets.tryAcquire(42, now)).isZero();
+        }
+        // Next token in one emission interval of 100 ms
+        assertThat(buckets.tryAcquire(42, now)).isEqualTo(SECOND / 10);
+
+        assertThat(buckets.tryAcquire(42, now + SECOND / 10)).isZero();
+        assertThat(buckets.tryAcquire(42, now + SECOND / 10)).isPositive();
+
+        // An idle bucket refills to burst, never beyond
+        now += 10 * SECOND;
+        for (int i = 0; i < 5; i++) {
+            assertThat(buckets.tryAcquire(42, now)).isZero();
+        }
+        assertThat(buckets.tryAcquire(42, now)).isPositive();
+    }
+
+    @Test
+    void shouldKeepKeysApart() {
+        TokenBucketTable buckets = new TokenBucketTable(1024, 1, 1);
+
+        assertThat(buckets.tryAcquire(Long.hashCode(1L), SECOND)).isZero();
+        assertThat(buckets.tryAcquire(Long.hashCode(1L), SECOND)).isPositive();
+        assertThat(buckets.tryAcquire(Long.hashCode(2L), SECOND)).isZero();
+        assertThat(buckets.slots()).isEqualTo(1024);
+    }
+
+    @Test
+    void shouldNeverGrantMoreThanBurstUnderContention() throws InterruptedException {
+        TokenBucketTable buckets = new TokenBucketTable(16, 0.001, 100);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < 1000; i++) {
+                    if (buckets.tryAcquire("partner".hashCode()) == 0) {
+                        granted.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(granted.get()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,111 @@
+package com.delivery.order_management.service.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks rankings against exact counts (what GROUP BY menu_item_id over
+ * order_items would return) on a synthetic Zipf-distributed workload.
+ */
+class SlidingTopKTest {
+
+    private static final long START = 1_700_000_000_000L;
+    private static final int ITEMS = 5_000;
+
+    @Test
+    void shouldMatchExactTopItemsOnZipfWorkload() {
+        SlidingTopK topK = new SlidingTopK(PopularityWindow.LAST_HOUR, 1024, 2048, 4);
+        Map<Long, Long> exact = new HashMap<>();
+        long now = START;
+
+        SplittableRandom random = new SplittableRandom(42);
+        double[] cumulative = zipfCumulative(ITEMS, 1.1);
+        for (int i = 0; i < 200_000; i++) {
+            long item = sample(cumulative, random.nextDouble());
+            long quantity = 1 + random.nextInt(3);
+            now = START + i * 10L; // ~33 minutes of traffic, inside the window
+            topK.add(item, quantity, now);
+            exact.merge(item, quantity, Long::sum);
+        }
+
+        List<SpaceSaving.Entry> reported = topK.top(20, now);
+        List<Long> exactTop = exact.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(20)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        assertThat(reported.stream().map(SpaceSaving.Entry::key).toList().subList(0, 10))
+                .containsExactlyElementsOf(exactTop.subList(0, 10));
+        for (SpaceSaving.Entry entry : reported) {
+            long trueCount = exact.getOrDefault(entry.key(), 0L);
+            assertThat(entry.count()).isGreaterThanOrEqualTo(trueCount);
+            assertThat(entry.count() - entry.error()).isLessThanOrEqualTo(trueCount);
+        }
+    }
+
+    @Test
+    void shouldDropSlotsThatLeftTheWindow() {
+        SlidingTopK topK = new SlidingTopK(PopularityWindow.LAST_HOUR, 16, 0, 0);
+        long slotMillis = PopularityWindow.LAST_HOUR.slotMillis();
+
+        topK.add(1L, 100, START);
+        topK.add(2L, 5, START + 30 * 60_000L);
+
+        assertThat(topK.top(10, START + 30 * 60_000L)).extracting(SpaceSaving.Entry::key).containsExactly(1L, 2L);
+
+        long afterWindow = START + PopularityWindow.LAST_HOUR.length().toMillis() + slotMillis;
+        assertThat(topK.top(10, afterWindow)).extracting(SpaceSaving.Entry::key).containsExactly(2L);
+    }
+
+    @Test
+    void shouldBeExactWhileSummaryHasSpareCapacity() {
+        SlidingTopK topK = new SlidingTopK(PopularityWindow.LAST_DAY, 64, 0, 0);
+        for (long item = 1; item <= 10; item++) {
+            topK.add(item, item * 10, START);
+        }
+
+        List<SpaceSaving.Entry> top = topK.top(3, START);
+
+        assertThat(top).extracting(SpaceSaving.Entry::key).containsExactly(10L, 9L, 8L);
+        assertThat(top).extracting(SpaceSaving.Entry::count).containsExactly(100L, 90L, 80L);
+        assertThat(top).allMatch(entry -> entry.error() == 0);
+    }
+
+    @Test
+    void shouldRetractCountsOfTrackedKeys() {
+        SlidingTopK topK = new SlidingTopK(PopularityWindow.LAST_DAY, 64, 256, 4);
+        topK.add(1L, 10, START);
+        topK.add(2L, 6, START);
+        topK.add(1L, -8, START);
+
+        assertThat(topK.top(2, START)).extracting(SpaceSaving.Entry::key).containsExactly(2L, 1L);
+        assertThat(topK.top(2, START)).extracting(SpaceSaving.Entry::count).containsExactly(6L, 2L);
+    }
+
+    private static double[] zipfCumulative(int n, double exponent) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static long sample(double[] cumulative, double u) {
+        int index = Arrays.binarySearch(cumulative, u);
+        return (index >= 0 ? index : -index - 1) + 1L;
+    }
+}
@@ -0,0 +1,101 @@
+package com.delivery.order_management.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import com.delivery.order_management.service.resilience.DependencyGuard;
+import com.delivery.order_management.service.resilience.GuardSettings;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GuardedCacheTest {
+
+    // The breaker window never fills, so failures never open it
+    private final DependencyGuard guard = new DependencyGuard("test", new GuardSettings(Integer.MAX_VALUE, 0.5,
+            Duration.ofMinutes(1), 1, 4, Duration.ofSeconds(1), Duration.ofMillis(100), Duration.ofSeconds(1)),
+            new SimpleMeterRegistry());
+    private final FlakyCache redis = new FlakyCache();
+    private final GuardedCache cache = new GuardedCache(redis, guard);
+
+    @AfterEach
+    void tearDown() {
+        guard.shutdown();
+    }
+
+    @Test
+    void shouldReplayFailedEvictionAndMissUntilThen() {
+        cache.put(1L, "old");
+        redis.down = true;
+        cache.evict(1L);
+        redis.down = false;
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(redis.get(1L)).isNotNull();
+
+        assertThat(cache.replayPendingInvalidations()).isEqualTo(1);
+        assertThat(redis.get(1L)).isNull();
+        assertThat(cache.pendingInvalidations()).isZero();
+
+        cache.put(1L, "new");
+        assertThat(cache.get(1L).get()).isEqualTo("new");
+    }
+
+    @Test
+    void shouldKeepEvictionsWhileRedisIsStillFailing() {
+        cache.put(1L, "old");
+        redis.down = true;
+        cache.evict(1L);
+
+        assertThat(cache.replayPendingInvalidations()).isZero();
+        assertThat(cache.isInvalidationPending(1L)).isTrue();
+    }
+
+    @Test
+    void shouldFallBackToClearWhenTooManyEvictionsPileUp() {
+        cache.put(1L, "old");
+        redis.down = true;
+        for (long key = 0; key <= GuardedCache.MAX_PENDING_EVICTIONS; key++) {
+            cache.evict(key);
+        }
+        redis.down = false;
+
+        assertThat(cache.pendingInvalidations()).isEqualTo(1);
+        assertThat(cache.get(42L)).isNull();
+
+        assertThat(cache.replayPendingInvalidations()).isEqualTo(1);
+        assertThat(redis.get(1L)).isNull();
+        assertThat(cache.isInvalidationPending(42L)).isFalse();
+    }
+
+    private static final class FlakyCache extends ConcurrentMapCache {
+
+        volatile boolean down;
+
+        FlakyCache() {
+            super("test");
+        }
+
+        @Override
+        public void evict(Object key) {
+            failIfDown();
+            super.evict(key);
+        }
+
+        @Override
+        public void clear() {
+            failIfDown();
+            super.clear();
+        }
+
+        private void failIfDown() {
+            if (down) {
+                throw new IllegalStateException("Redis down");
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.delivery.order_management.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    @Test
+    void shouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 16;
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> flight.load(1L, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "restaurant-1";
+            })));
+            loading.await(5, TimeUnit.SECONDS);
+
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> flight.load(1L, () -> {
+                    loads.incrementAndGet();
+                    return "unexpected";
+                })));
+            }
+            // Let the followers reach the in-flight future before releasing the leader
+            while (flight.coalescedCount() < callers - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("restaurant-1");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(flight.loadCount()).isEqualTo(1);
+        assertThat(flight.coalescedCount()).isEqualTo(callers - 1);
+    }
+
+    @Test
+    void shouldRunNewLoadOnceThePreviousOneFinished() {
+        SingleFlight<Long, Integer> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        flight.load(1L, loads::incrementAndGet);
+        flight.load(1L, loads::incrementAndGet);
+
+        assertThat(loads).hasValue(2);
+        assertThat(flight.coalescedCount()).isZero();
+    }
+
+    @Test
+    void shouldPropagateLoaderFailureAndNotKeepIt() {
+        SingleFlight<Long, String> flight = new SingleFlight<>();
+
+        assertThatThrownBy(() -> flight.load(1L, () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("database down");
+
+        assertThat(flight.load(1L, () -> "recovered")).isEqualTo("recovered");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
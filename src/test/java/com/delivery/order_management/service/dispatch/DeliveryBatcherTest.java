@@ -0,0 +1,80 @@
+package com.delivery.order_management.service.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.delivery.order_management.service.dispatch.DeliveryBatcher.ReadyOrder;
+import com.delivery.order_management.service.dispatch.DeliveryBatcher.Run;
+
+class DeliveryBatcherTest {
+
+    private static final long HOLD = 180_000;
+
+    private final DeliveryBatcher batcher = new DeliveryBatcher(new DeliveryBatcher.Settings(3, 1.0, 2.0, HOLD));
+
+    @Test
+    void shouldGroupNearbyOrdersAndReleaseFullRunsAtOnce() {
+        // Two restaurants 300 m apart, drop-offs within a few hundred metres
+        batcher.add(order(1, 10, 10.7760, 106.7000, 10.7900, 106.7100, 0));
+        batcher.add(order(2, 11, 10.7787, 106.7000, 10.7920, 106.7110, 1_000));
+        // Drop-off 10 km away: its own run
+        batcher.add(order(3, 10, 10.7760, 106.7000, 10.8800, 106.7100, 2_000));
+
+        assertThat(batcher.takeDue(5_000)).isEmpty();
+
+        batcher.add(order(4, 10, 10.7760, 106.7000, 10.7910, 106.7090, 6_000));
+        List<Run> due = batcher.takeDue(6_000);
+        assertThat(due).hasSize(1);
+        assertThat(orderIds(due.get(0))).containsExactly(1L, 2L, 4L);
+
+        // The lone order leaves when its hold time is up
+        assertThat(batcher.takeDue(2_000 + HOLD - 1)).isEmpty();
+        due = batcher.takeDue(2_000 + HOLD);
+        assertThat(due).hasSize(1);
+        assertThat(orderIds(due.get(0))).containsExactly(3L);
+        assertThat(batcher.pendingOrders()).isZero();
+    }
+
+    @Test
+    void shouldKeepRestaurantsApartWhenPickupsAreFar() {
+        batcher.add(order(1, 10, 10.7760, 106.7000, 10.7900, 106.7100, 0));
+        // 5 km away from the first pickup, same drop-off area
+        batcher.add(order(2, 11, 10.8210, 106.7000, 10.7900, 106.7100, 0));
+
+        List<Run> due = batcher.takeDue(HOLD);
+
+        assertThat(due).hasSize(2);
+    }
+
+    @Test
+    void shouldDropRemovedOrdersAndSendOrdersWithoutDropOffAlone() {
+        batcher.add(order(1, 10, 10.7760, 106.7000, 10.7900, 106.7100, 0));
+        batcher.add(order(2, 10, 10.7760, 106.7000, 10.7905, 106.7100, 0));
+        batcher.add(order(3, 10, 10.7760, 106.7000, Double.NaN, Double.NaN, 0));
+
+        assertThat(batcher.remove(1)).isTrue();
+        assertThat(batcher.remove(1)).isFalse();
+
+        List<Run> due = batcher.takeDue(0);
+        assertThat(due).hasSize(1);
+        assertThat(orderIds(due.get(0))).containsExactly(3L);
+
+        // The run re-keyed on its remaining order still takes partners
+        batcher.add(order(4, 10, 10.7760, 106.7000, 10.7902, 106.7100, 10));
+        due = batcher.takeDue(HOLD);
+        assertThat(due).hasSize(1);
+        assertThat(orderIds(due.get(0))).containsExactly(2L, 4L);
+    }
+
+    private static ReadyOrder order(long id, long restaurantId, double pickupLat, double pickupLng,
+            double dropLat, double dropLng, long readyAt) {
+        return new ReadyOrder(id, restaurantId, pickupLat, pickupLng, dropLat, dropLng, readyAt);
+    }
+
+    private static List<Long> orderIds(Run run) {
+        return run.orders().stream().map(ReadyOrder::orderId).toList();
+    }
+}
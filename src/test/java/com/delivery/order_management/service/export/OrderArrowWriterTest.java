@@ -0,0 +1,74 @@
+package com.delivery.order_management.service.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.TimeStampMicroVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OrderArrowWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldSplitRowsIntoBatchesAndReadBackEveryValue() throws Exception {
+        Path file = directory.resolve("orders.arrow");
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_000);
+
+        try (BufferAllocator allocator = new RootAllocator()) {
+            try (OrderArrowWriter writer = new OrderArrowWriter(allocator, file, 4)) {
+                for (int i = 0; i < 10; i++) {
+                    // Archived amounts may come back from JSON with a smaller scale
+                    writer.write(i, "ORD-" + i, 7, "DELIVERED", new BigDecimal("12.5"), createdAt,
+                            i == 0 ? null : createdAt.plusMinutes(i));
+                }
+                assertThat(writer.rowsWritten()).isEqualTo(10);
+            }
+
+            long rows = 0;
+            int batches = 0;
+            try (FileChannel channel = FileChannel.open(file);
+                    ArrowFileReader reader = new ArrowFileReader(channel, allocator)) {
+                VectorSchemaRoot root = reader.getVectorSchemaRoot();
+                assertThat(root.getSchema()).isEqualTo(OrderArrowWriter.SCHEMA);
+
+                while (reader.loadNextBatch()) {
+                    BigIntVector ids = (BigIntVector) root.getVector("id");
+                    VarCharVector numbers = (VarCharVector) root.getVector("order_number");
+                    DecimalVector totals = (DecimalVector) root.getVector("total_amount");
+                    TimeStampMicroVector created = (TimeStampMicroVector) root.getVector("created_at");
+                    TimeStampMicroVector updated = (TimeStampMicroVector) root.getVector("updated_at");
+
+                    for (int row = 0; row < root.getRowCount(); row++) {
+                        long id = ids.get(row);
+                        assertThat(id).isEqualTo(rows);
+                        assertThat(new String(numbers.get(row))).isEqualTo("ORD-" + id);
+                        assertThat(totals.getObject(row)).isEqualByComparingTo("12.50");
+                        assertThat(created.get(row))
+                                .isEqualTo(createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + 123_456);
+                        assertThat(updated.isNull(row)).isEqualTo(id == 0);
+                        rows++;
+                    }
+                    batches++;
+                }
+            }
+
+            assertThat(rows).isEqualTo(10);
+            assertThat(batches).isEqualTo(3);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.delivery.order_management.service.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class GeoGridTest {
+
+    @Test
+    void shouldMatchBruteForceNearestWithFilters() {
+        SplittableRandom random = new SplittableRandom(7);
+        List<GeoGrid.Location> locations = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            int opensAt = random.nextInt(12) * 3600;
+            locations.add(new GeoGrid.Location(i,
+                    10.7 + random.nextDouble() * 0.3,
+                    106.6 + random.nextDouble() * 0.3,
+                    opensAt, opensAt + 8 * 3600,
+                    random.nextInt(10) > 0,
+                    random.nextInt(4) > 0));
+        }
+        GeoGrid grid = GeoGrid.build(locations, 0.02);
+
+        for (int query = 0; query < 200; query++) {
+            double latitude = 10.7 + random.nextDouble() * 0.3;
+            double longitude = 106.6 + random.nextDouble() * 0.3;
+            double radiusKm = 0.5 + random.nextDouble() * 10;
+            int secondOfDay = query % 2 == 0 ? -1 : random.nextInt(86_400);
+            boolean availableOnly = query % 3 == 0;
+
+            List<GeoGrid.Hit> expected = locations.stream()
+                    .filter(l -> l.active() && (!availableOnly || l.hasAvailableItems()))
+                    .filter(l -> secondOfDay < 0 || (secondOfDay >= l.opensAt() && secondOfDay <= l.closesAt()))
+                    .map(l -> new GeoGrid.Hit(l.id(),
+                            GeoGrid.distanceKm(latitude, longitude, l.latitude(), l.longitude())))
+                    .filter(hit -> hit.distanceKm() <= radiusKm)
+                    .sorted(Comparator.comparingDouble(GeoGrid.Hit::distanceKm))
+                    .limit(20)
+                    .toList();
+
+            assertThat(grid.nearest(latitude, longitude, radiusKm, 20, secondOfDay, availableOnly))
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldSearchAcrossTheAntimeridian() {
+        GeoGrid grid = GeoGrid.build(List.of(
+                new GeoGrid.Location(1, -17.0, 179.99, 0, 86_399, true, true),
+                new GeoGrid.Location(2, -17.0, -179.99, 0, 86_399, true, true),
+                new GeoGrid.Location(3, -17.0, 178.0, 0, 86_399, true, true)), 0.02);
+
+        List<GeoGrid.Hit> hits = grid.nearest(-17.0, 179.995, 10, 5, -1, false);
+
+        assertThat(hits).extracting(GeoGrid.Hit::id).containsExactly(1L, 2L);
+    }
+}
@@ -0,0 +1,83 @@
+package com.delivery.order_management.service.intake;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class MpscRingBufferTest {
+
+    @Test
+    void shouldRejectWhenFullAndAcceptAgainAfterPoll() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        assertThat(buffer.poll()).isZero();
+        assertThat(buffer.offer(4)).isTrue();
+        for (int expected = 1; expected <= 4; expected++) {
+            assertThat(buffer.poll()).isEqualTo(expected);
+        }
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    void shouldDeliverEveryElementOnceInPerProducerOrder() throws Exception {
+        int producers = 8;
+        int perProducer = 50_000;
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(1024);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                long producer = p;
+                futures.add(executor.submit(() -> {
+                    for (long i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(new long[] { producer, i })) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                }));
+            }
+
+            long[] nextExpected = new long[producers];
+            long received = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received < (long) producers * perProducer && System.nanoTime() < deadline) {
+                long[] element = buffer.poll();
+                if (element == null) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                assertThat(element[1]).isEqualTo(nextExpected[(int) element[0]]);
+                nextExpected[(int) element[0]]++;
+                received++;
+            }
+
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+            assertThat(received).isEqualTo((long) producers * perProducer);
+            assertThat(buffer.poll()).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRequirePowerOfTwoCapacity() {
+        assertThatThrownBy(() -> new MpscRingBuffer<>(1000)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
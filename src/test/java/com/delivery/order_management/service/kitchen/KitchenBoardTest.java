@@ -0,0 +1,79 @@
+package com.delivery.order_management.service.kitchen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.delivery.order_management.model.dto.KitchenTicketResponse;
+import com.delivery.order_management.model.entity.OrderStatus;
+
+class KitchenBoardTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Test
+    void shouldDropChangesOlderThanTheTicket() {
+        KitchenBoard board = new KitchenBoard();
+        board.put(ticket(1L, OrderStatus.PREPARING), T0.plusSeconds(2));
+        board.put(ticket(1L, OrderStatus.CONFIRMED), T0.plusSeconds(1));
+
+        assertThat(statuses(board)).containsExactly(OrderStatus.PREPARING);
+
+        assertThat(board.updateStatus(1L, OrderStatus.CONFIRMED, T0.plusSeconds(1))).isTrue();
+        assertThat(statuses(board)).containsExactly(OrderStatus.PREPARING);
+
+        assertThat(board.updateStatus(1L, OrderStatus.READY_FOR_PICKUP, T0.plusSeconds(3))).isTrue();
+        assertThat(statuses(board)).containsExactly(OrderStatus.READY_FOR_PICKUP);
+    }
+
+    @Test
+    void shouldNotBringBackRemovedOrderOnLateEvent() {
+        KitchenBoard board = new KitchenBoard();
+        board.put(ticket(1L, OrderStatus.PENDING), T0);
+        board.remove(1L, T0.plusSeconds(2));
+        board.put(ticket(1L, OrderStatus.PREPARING), T0.plusSeconds(1));
+
+        assertThat(board.view().tickets()).isEmpty();
+        assertThat(board.updateStatus(1L, OrderStatus.PREPARING, T0.plusSeconds(1))).isTrue();
+        assertThat(board.view().tickets()).isEmpty();
+    }
+
+    @Test
+    void shouldForgetRemovedOrdersAfterRetention() {
+        AtomicLong nanos = new AtomicLong();
+        KitchenBoard board = new KitchenBoard(nanos::get);
+        board.remove(1L, T0.plusSeconds(2));
+
+        nanos.addAndGet(KitchenBoard.REMOVED_RETENTION.toNanos() + 1);
+        board.remove(2L, T0);
+        board.put(ticket(1L, OrderStatus.PREPARING), T0.plusSeconds(1));
+
+        assertThat(board.view().tickets()).extracting(KitchenTicketResponse::getOrderId).containsExactly(1L);
+    }
+
+    @Test
+    void shouldAskForTheTicketWhenTheOrderIsUnknown() {
+        KitchenBoard board = new KitchenBoard();
+
+        assertThat(board.updateStatus(1L, OrderStatus.PREPARING, T0)).isFalse();
+        assertThat(board.view().tickets()).isEmpty();
+    }
+
+    private static KitchenTicketResponse ticket(Long orderId, OrderStatus status) {
+        return KitchenTicketResponse.builder()
+                .orderId(orderId)
+                .orderNumber("ORD-" + orderId)
+                .status(status)
+                .createdAt(T0)
+                .items(List.of())
+                .build();
+    }
+
+    private static List<OrderStatus> statuses(KitchenBoard board) {
+        return board.view().tickets().stream().map(KitchenTicketResponse::getStatus).toList();
+    }
+}
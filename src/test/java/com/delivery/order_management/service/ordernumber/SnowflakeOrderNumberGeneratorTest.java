@@ -0,0 +1,88 @@
+package com.delivery.order_management.service.ordernumber;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class SnowflakeOrderNumberGeneratorTest {
+
+    private static final long NOW = SnowflakeOrderNumberGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    void shouldProduceFixedWidthCrockfordNumbers() {
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(7, () -> NOW);
+
+        String orderNumber = generator.nextOrderNumber();
+
+        assertThat(orderNumber).matches("ORD-[0-9A-HJKMNP-TV-Z]{13}");
+    }
+
+    @Test
+    void shouldBeMonotonicWhenClockStallsOrStepsBack() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(1, clock::get);
+
+        String previous = generator.nextOrderNumber();
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                clock.addAndGet(-2_000);
+            }
+            String next = generator.nextOrderNumber();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void shouldNotCollideAcrossNodesInSameMillisecond() {
+        SnowflakeOrderNumberGenerator nodeA = new SnowflakeOrderNumberGenerator(1, () -> NOW);
+        SnowflakeOrderNumberGenerator nodeB = new SnowflakeOrderNumberGenerator(2, () -> NOW);
+
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(seen.add(nodeA.nextOrderNumber())).isTrue();
+            assertThat(seen.add(nodeB.nextOrderNumber())).isTrue();
+        }
+    }
+
+    @Test
+    void shouldBeUniqueUnderConcurrency() throws Exception {
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(3, System::currentTimeMillis);
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        seen.add(generator.nextOrderNumber());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(seen).hasSize(8 * 20_000);
+    }
+
+    @Test
+    void shouldRejectOutOfRangeNodeId() {
+        assertThatThrownBy(() -> new SnowflakeOrderNumberGenerator(1024, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
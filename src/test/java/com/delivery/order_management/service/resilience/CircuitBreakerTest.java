@@ -0,0 +1,63 @@
+package com.delivery.order_management.service.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker(10, 0.5, 1_000, 2, clock::get);
+
+    @Test
+    void shouldOpenWhenWindowFailureRateReachesThreshold() {
+        for (int i = 0; i < 6; i++) {
+            breaker.onSuccess();
+        }
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+        // 40% failed in the first window
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        for (int i = 0; i < 5; i++) {
+            breaker.onSuccess();
+            breaker.onFailure();
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryPermit()).isFalse();
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulTrialsAndReopenOnFailedTrial() {
+        trip();
+        clock.addAndGet(1_000);
+
+        assertThat(breaker.tryPermit()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryPermit()).isTrue();
+        // Only two trial calls at a time
+        assertThat(breaker.tryPermit()).isFalse();
+
+        breaker.onSuccess();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        clock.addAndGet(1_000);
+        assertThat(breaker.tryPermit()).isTrue();
+        assertThat(breaker.tryPermit()).isTrue();
+        breaker.onSuccess();
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryPermit()).isTrue();
+    }
+
+    private void trip() {
+        for (int i = 0; i < 10; i++) {
+            breaker.onFailure();
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
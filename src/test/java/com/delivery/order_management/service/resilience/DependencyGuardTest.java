@@ -0,0 +1,86 @@
+package com.delivery.order_management.service.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DependencyGuardTest {
+
+    private final DependencyGuard guard = new DependencyGuard("test", new GuardSettings(4, 0.5, Duration.ofMinutes(1),
+            1, 2, Duration.ofMillis(50), Duration.ofMillis(20), Duration.ofMillis(100)), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        guard.shutdown();
+    }
+
+    @Test
+    void shouldFallBackOnTimeoutWithoutWaitingForTheCall() {
+        CountDownLatch hang = new CountDownLatch(1);
+        long started = System.nanoTime();
+
+        String result = guard.call(() -> {
+            await(hang);
+            return "late";
+        }, () -> "fallback");
+
+        assertThat(result).isEqualTo("fallback");
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+        hang.countDown();
+    }
+
+    @Test
+    void shouldStopCallingOnceTheBreakerOpens() {
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            guard.call(() -> {
+                calls.incrementAndGet();
+                throw new IllegalStateException("down");
+            }, () -> "fallback");
+        }
+        assertThat(guard.isAvailable()).isFalse();
+
+        assertThat(guard.call(() -> {
+            calls.incrementAndGet();
+            return "value";
+        }, () -> "fallback")).isEqualTo("fallback");
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    void shouldFallBackWhenBulkheadIsFull() throws InterruptedException {
+        // Two hung calls hold both permits even after their callers gave up
+        CountDownLatch hang = new CountDownLatch(1);
+        guard.call(() -> await(hang), () -> null);
+        guard.call(() -> await(hang), () -> null);
+
+        AtomicInteger calls = new AtomicInteger();
+        assertThat(guard.call(calls::incrementAndGet, () -> -1)).isEqualTo(-1);
+        assertThat(calls).hasValue(0);
+
+        hang.countDown();
+        Thread.sleep(50);
+        assertThat(guard.call(calls::incrementAndGet, () -> -1)).isEqualTo(1);
+    }
+
+    private static String await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            // Cancelled by the guard; keep holding the permit until released like a hung driver would
+            try {
+                latch.await();
+            } catch (InterruptedException again) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return "done";
+    }
+}
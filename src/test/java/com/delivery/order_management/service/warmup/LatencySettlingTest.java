@@ -0,0 +1,60 @@
+package com.delivery.order_management.service.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class LatencySettlingTest {
+
+    @Test
+    void shouldSettleOnlyAfterConsecutiveStableRounds() {
+        LatencySettling settling = new LatencySettling(0.1, 3);
+
+        // Cold start: p99 falls steeply while the JIT compiles
+        assertThat(settling.addRound(round(10_000))).isEqualTo(10_000);
+        settling.addRound(round(4_000));
+        settling.addRound(round(2_000));
+        assertThat(settling.isSettled()).isFalse();
+
+        settling.addRound(round(1_900));
+        settling.addRound(round(2_050));
+        assertThat(settling.isSettled()).isFalse();
+        settling.addRound(round(1_950));
+        assertThat(settling.isSettled()).isTrue();
+    }
+
+    @Test
+    void shouldResetStreakOnOutlierRound() {
+        LatencySettling settling = new LatencySettling(0.1, 2);
+
+        settling.addRound(round(1_000));
+        settling.addRound(round(1_050));
+        settling.addRound(round(3_000));
+        settling.addRound(round(3_100));
+        assertThat(settling.isSettled()).isFalse();
+        settling.addRound(round(3_000));
+        assertThat(settling.isSettled()).isTrue();
+    }
+
+    @Test
+    void shouldTakeNearestRankPercentile() {
+        long[] values = new long[100];
+        Arrays.setAll(values, i -> 100 - i);
+
+        assertThat(LatencySettling.percentile(values, 0.99)).isEqualTo(99);
+        assertThat(LatencySettling.percentile(values, 0.5)).isEqualTo(50);
+        assertThat(LatencySettling.percentile(new long[0], 0.99)).isZero();
+    }
+
+    /** A round of 200 requests whose p99 is the given value */
+    private static long[] round(long p99) {
+        long[] latencies = new long[200];
+        Arrays.fill(latencies, p99 / 2);
+        latencies[197] = p99;
+        latencies[198] = p99 * 3;
+        latencies[199] = p99 * 4;
+        return latencies;
+    }
+}